@@ -0,0 +1,168 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 thread (최상위 댓글 1개와 그 하위 댓글 전체) 조회: 부모 댓글 id 를 따라 깊이마다 조회하는 방식과 path 범위 조회 1번 비교.
+ * <p>
+ * 다른 thread 의 댓글 {@value #OTHER_COMMENTS} 개가 함께 들어 있는 table 에서 thread 하나를 읽는다.
+ * {@code FLAT} 은 모든 대댓글이 최상위 댓글에 달린 경우 (현재 화면에서 쓸 수 있는 형태), {@code NESTED} 는 앞서 달린 thread 의 댓글 중 아무 댓글에나 달린 경우이다.
+ * DB 는 H2 in-memory 를 사용하므로 실제 DB 보다 network 비용 (query 횟수의 영향) 은 빠져 있다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleCommentThreadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleCommentThreadBenchmark {
+
+    private static final int OTHER_COMMENTS = 100_000;
+    private static final int OTHER_THREAD_SIZE = 50;
+
+    @Param({"100", "1000"})
+    private int threadSize;
+
+    @Param({"FLAT", "NESTED"})
+    private String shape;
+
+    private Connection connection;
+    private long rootCommentId;
+    private String rootPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:comment-thread-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists article_comment");
+            statement.execute("create table article_comment (id bigint primary key, article_id bigint not null, parent_comment_id bigint, "
+                    + "path varchar(500), content varchar(500) not null, created_at timestamp not null)");
+            statement.execute("create index idx_article_comment_parent_comment_id on article_comment (parent_comment_id)");
+            statement.execute("create index idx_article_comment_path on article_comment (path)");
+        }
+
+        BenchmarkData data = new BenchmarkData(42L);
+        LocalDateTime baseTime = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into article_comment (id, article_id, parent_comment_id, path, content, created_at) values (?, ?, ?, ?, ?, ?)")) {
+            long id = 0;
+            // 다른 thread 들 (thread 마다 OTHER_THREAD_SIZE 개, NESTED 형태)
+            while (id < OTHER_COMMENTS) {
+                id = insertThread(insert, data, baseTime, id, OTHER_THREAD_SIZE, true);
+            }
+            rootCommentId = id + 1;
+            insertThread(insert, data, baseTime, id, threadSize, "NESTED".equals(shape));
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        rootPath = ArticleComment.pathOf(null, rootCommentId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table article_comment");
+        }
+        connection.close();
+    }
+
+    // path 도입 이전: 최상위 댓글을 읽은 뒤 깊이마다 바로 위 단계 댓글들의 대댓글을 한 번에 읽는다.
+    @Benchmark
+    public List<Long> parentCommentIdLevels() throws SQLException {
+        List<Long> thread = new ArrayList<>(threadSize);
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, parent_comment_id, content, created_at from article_comment where id = ?")) {
+            select.setLong(1, rootCommentId);
+            thread.addAll(readIds(select));
+        }
+
+        List<Long> parentCommentIds = thread;
+        while (!parentCommentIds.isEmpty()) {
+            String placeholders = parentCommentIds.stream().map(parentCommentId -> "?").collect(Collectors.joining(","));
+            try (PreparedStatement select = connection.prepareStatement(
+                    "select id, parent_comment_id, content, created_at from article_comment where parent_comment_id in (" + placeholders + ") order by created_at, id")) {
+                for (int i = 0; i < parentCommentIds.size(); i++) {
+                    select.setLong(i + 1, parentCommentIds.get(i));
+                }
+                parentCommentIds = readIds(select);
+            }
+            thread.addAll(parentCommentIds);
+        }
+
+        return thread;
+    }
+
+    // path 범위 조회 1번. 결과가 이미 화면 순서 (부모 다음에 대댓글) 이다.
+    @Benchmark
+    public List<Long> pathRange() throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, parent_comment_id, content, created_at from article_comment where path like ? order by path")) {
+            select.setString(1, rootPath + "%");
+            return readIds(select);
+        }
+    }
+
+    // 최상위 댓글 1개와 대댓글 (size - 1) 개를 넣고 마지막 id 를 반환한다.
+    private static long insertThread(PreparedStatement insert, BenchmarkData data, LocalDateTime baseTime, long lastId, int size, boolean nested) throws SQLException {
+        long rootId = lastId + 1;
+        List<String> paths = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = rootId + i;
+            int parentIndex = i == 0 ? -1 : nested ? data.nextInt(i) : 0;
+            String path = ArticleComment.pathOf(parentIndex < 0 ? null : paths.get(parentIndex), id);
+            paths.add(path);
+
+            insert.setLong(1, id);
+            insert.setLong(2, 1 + rootId % 100); // thread 마다 게시글 100개 중 하나
+            if (parentIndex < 0) {
+                insert.setNull(3, Types.BIGINT);
+            } else {
+                insert.setLong(3, rootId + parentIndex);
+            }
+            insert.setString(4, path);
+            insert.setString(5, data.sentence(10));
+            insert.setTimestamp(6, Timestamp.valueOf(baseTime.plusSeconds(id)));
+            insert.addBatch();
+
+            if (id % 1_000 == 0) { insert.executeBatch(); }
+        }
+
+        return rootId + size - 1;
+    }
+
+    private static List<Long> readIds(PreparedStatement select) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+                resultSet.getLong(2);
+                resultSet.getString(3);
+                resultSet.getTimestamp(4);
+            }
+        }
+
+        return ids;
+    }
+}
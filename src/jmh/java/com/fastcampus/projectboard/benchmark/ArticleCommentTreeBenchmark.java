@@ -0,0 +1,156 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.HashtagDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.response.ArticleCommentTree;
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 화면: 댓글 목록을 댓글/대댓글 계층으로 구성 ({@link ArticleCommentTree}).
+ * <p>
+ * 댓글 3개 중 1개 꼴로 앞서 달린 댓글 중 하나에 대한 대댓글이다.
+ * 애플리케이션과 같이 {@link ArticleWithCommentsResponse#from(ArticleDto, CursorPage)} 로 응답을 만들고,
+ * 댓글 목록은 DB 가 주는 순서 (최상위 댓글 최신순, 그 뒤에 대댓글 path 순) 로 들어온다. ({@code ArticleCommentService#searchArticleCommentPage})
+ * {@code allComments} 는 모든 최상위 댓글을 한 page 로, {@code firstPage} 는 "더 보기" 전 첫 page (최상위 댓글 20개와 그 대댓글) 를 만든다.
+ * {@code treeSet} 은 이전 구현 (댓글마다 TreeSet 을 만들고 최상위 댓글을 다시 TreeSet 으로 정렬) 을 그대로 옮긴 비교 기준이다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleCommentTreeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleCommentTreeBenchmark {
+
+    private static final int FIRST_PAGE_SIZE = 20;
+
+    @Param({"10", "1000", "10000"})
+    private int commentCount;
+
+    private ArticleDto article;
+    private CursorPage<ArticleCommentDto> allComments;
+    private CursorPage<ArticleCommentDto> firstPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42L);
+        UserAccountDto userAccountDto = UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", "memo");
+        LocalDateTime baseTime = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        List<ArticleCommentDto> roots = new ArrayList<>();
+        List<ArticleCommentDto> replies = new ArrayList<>();
+        Map<Long, String> paths = new HashMap<>();
+        for (long id = 1; id <= commentCount; id++) {
+            Long parentCommentId = id > 1 && data.nextInt(3) == 0 ? 1L + data.nextInt((int) id - 1) : null;
+            ArticleCommentDto comment = ArticleCommentDto.of(
+                    id, 1L, userAccountDto, parentCommentId, data.sentence(10),
+                    baseTime.plusSeconds(id), "uno", baseTime.plusSeconds(id), "uno"
+            );
+            paths.put(id, ArticleComment.pathOf(parentCommentId == null ? null : paths.get(parentCommentId), id));
+            (parentCommentId == null ? roots : replies).add(comment);
+        }
+        Collections.reverse(roots); // 최신순
+        replies.sort(Comparator.comparing(comment -> paths.get(comment.id())));
+
+        article = ArticleDto.of(
+                1L, userAccountDto, data.title(), data.content(100), Set.of(HashtagDto.of("java")),
+                baseTime, "uno", baseTime, "uno"
+        );
+        allComments = pageOf(roots, replies, roots.size(), paths);
+        firstPage = pageOf(roots, replies, FIRST_PAGE_SIZE, paths);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse allComments() {
+        return ArticleWithCommentsResponse.from(article, allComments);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse firstPage() {
+        return ArticleWithCommentsResponse.from(article, firstPage);
+    }
+
+    @Benchmark
+    public Set<LegacyComment> treeSet() {
+        Map<Long, LegacyComment> map = allComments.content().stream()
+                .map(LegacyComment::from)
+                .collect(Collectors.toMap(LegacyComment::id, Function.identity()));
+
+        map.values().stream()
+                .filter(comment -> comment.parentCommentId() != null)
+                .forEach(comment -> map.get(comment.parentCommentId()).childComments().add(comment));
+
+        return map.values().stream()
+                .filter(comment -> comment.parentCommentId() == null)
+                .collect(Collectors.toCollection(() ->
+                        new TreeSet<>(Comparator
+                                .comparing(LegacyComment::createdAt)
+                                .reversed()
+                                .thenComparingLong(LegacyComment::id)
+                        )
+                ));
+    }
+
+    // 최상위 댓글 size 개와 그 대댓글 (path 순). 대댓글 path 는 최상위 댓글 path 로 시작한다.
+    private static CursorPage<ArticleCommentDto> pageOf(List<ArticleCommentDto> roots, List<ArticleCommentDto> replies, int size, Map<Long, String> paths) {
+        List<ArticleCommentDto> pageRoots = roots.subList(0, Math.min(size, roots.size()));
+        Set<String> rootPaths = pageRoots.stream()
+                .map(comment -> paths.get(comment.id()))
+                .collect(Collectors.toSet());
+
+        List<ArticleCommentDto> comments = new ArrayList<>(pageRoots);
+        for (ArticleCommentDto reply : replies) {
+            if (rootPaths.contains(paths.get(reply.id()).substring(0, ArticleComment.PATH_SEGMENT_LENGTH))) {
+                comments.add(reply);
+            }
+        }
+
+        return CursorPage.of(comments, size, 0, null, null);
+    }
+
+    // 이전 ArticleCommentResponse (자식 댓글을 TreeSet 으로 가짐)
+    public record LegacyComment(
+            Long id,
+            String content,
+            LocalDateTime createdAt,
+            String email,
+            String nickname,
+            String userId,
+            Long parentCommentId,
+            Set<LegacyComment> childComments
+    ) {
+        static LegacyComment from(ArticleCommentDto dto) {
+            return new LegacyComment(
+                    dto.id(),
+                    dto.content(),
+                    dto.createdAt(),
+                    dto.userAccountDto().email(),
+                    dto.userAccountDto().nickname(),
+                    dto.userAccountDto().userId(),
+                    dto.parentCommentId(),
+                    new TreeSet<>(Comparator.comparing(LegacyComment::createdAt).thenComparingLong(LegacyComment::id))
+            );
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.fastcampus.projectboard.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 {@value #ARTICLES} 개와 댓글 (게시글마다 {@value #COMMENTS_PER_ARTICLE} 개) 저장: IDENTITY id 와 id_generator table (pooled-lo) 비교.
+ * <p>
+ * 두 방식에서 hibernate 가 실행하는 JDBC 호출을 그대로 따라한다. 게시글 {@value #FLUSH_SIZE} 개마다 flush 후 commit 한다.
+ * {@code IDENTITY} 는 row 마다 insert 를 바로 실행하고 DB 가 만든 id 를 돌려받는다. (batch 불가)
+ * {@code POOLED_LO} 는 별도 connection (transaction) 에서 id_generator 의 값을 {@value #ALLOCATION_SIZE} 씩 올려 id 를 미리 받아 두고,
+ * flush 때 insert 를 {@value #BATCH_SIZE} 개씩 batch 로 실행한다. (order_inserts 로 게시글끼리, 댓글끼리 묶인다)
+ * 댓글 path update 는 두 방식 모두 같으므로 뺐다.
+ * DB 는 H2 in-memory 를 사용하므로 실제 DB 보다 network 비용 (round trip 횟수의 영향) 은 빠져 있다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ArticleInsertBenchmark {
+
+    private static final int ARTICLES = 100_000;
+    private static final int COMMENTS_PER_ARTICLE = 3;
+    private static final int FLUSH_SIZE = 1_000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 100;
+    private static final int CONTENTS = 1_000; // 본문은 미리 만든 것을 돌려 쓴다
+
+    private static final String INSERT_ARTICLE_WITH_ID =
+            "insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE =
+            "insert into article (user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT_WITH_ID =
+            "insert into article_comment (id, article_id, user_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT =
+            "insert into article_comment (article_id, user_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"IDENTITY", "POOLED_LO"})
+    private String idGeneration;
+
+    private Connection connection;
+    private Connection allocatorConnection;
+    private String[] titles;
+    private String[] contents;
+    private String[] commentContents;
+    private Timestamp createdAt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:article-insert-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        allocatorConnection = DriverManager.getConnection("jdbc:h2:mem:article-insert-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+
+        BenchmarkData data = new BenchmarkData(42L);
+        titles = new String[CONTENTS];
+        contents = new String[CONTENTS];
+        commentContents = new String[CONTENTS];
+        for (int i = 0; i < CONTENTS; i++) {
+            titles[i] = data.title();
+            contents[i] = data.content(100);
+            commentContents[i] = data.sentence(15);
+        }
+        createdAt = Timestamp.valueOf(LocalDateTime.of(2023, 1, 1, 0, 0));
+    }
+
+    // 매 측정마다 빈 table 에서 시작한다.
+    @Setup(Level.Iteration)
+    public void createTables() throws SQLException {
+        String idColumn = "IDENTITY".equals(idGeneration) ? "id bigint generated by default as identity primary key" : "id bigint primary key";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists article_comment");
+            statement.execute("drop table if exists article");
+            statement.execute("drop table if exists id_generator");
+            statement.execute("create table article (" + idColumn + ", user_id varchar(50) not null, title varchar(255) not null, content varchar(10000) not null, "
+                    + "comment_count bigint default 0 not null, created_at timestamp not null, created_by varchar(100) not null, "
+                    + "modified_at timestamp not null, modified_by varchar(100) not null)");
+            statement.execute("create table article_comment (" + idColumn + ", article_id bigint not null, user_id varchar(50) not null, "
+                    + "parent_comment_id bigint, path varchar(255), content varchar(500) not null, created_at timestamp not null, created_by varchar(100) not null, "
+                    + "modified_at timestamp not null, modified_by varchar(100) not null, foreign key (article_id) references article (id))");
+            statement.execute("create table id_generator (sequence_name varchar(255) primary key, next_val bigint)");
+            statement.execute("insert into id_generator values ('article', 0), ('article_comment', 0)");
+        }
+        connection.setAutoCommit(false);
+        allocatorConnection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists article_comment");
+            statement.execute("drop table if exists article");
+            statement.execute("drop table if exists id_generator");
+        }
+        allocatorConnection.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public long insertArticlesWithComments() throws SQLException {
+        return "IDENTITY".equals(idGeneration) ? insertWithIdentity() : insertWithPooledLo();
+    }
+
+    // row 마다 insert 를 바로 실행하고 생성된 id 를 읽는다. 댓글은 게시글 id 가 있어야 하므로 게시글 insert 다음에 실행된다.
+    private long insertWithIdentity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insertArticle = connection.prepareStatement(INSERT_ARTICLE, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertComment = connection.prepareStatement(INSERT_COMMENT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ARTICLES; i++) {
+                bindArticle(insertArticle, 1, i);
+                long articleId = executeAndReadId(insertArticle);
+                for (int c = 0; c < COMMENTS_PER_ARTICLE; c++) {
+                    bindComment(insertComment, 1, articleId, i + c);
+                    lastId = executeAndReadId(insertComment);
+                }
+
+                if ((i + 1) % FLUSH_SIZE == 0) { connection.commit(); }
+            }
+        }
+        connection.commit();
+
+        return lastId;
+    }
+
+    // id 는 미리 받아 두고, flush 때 게시글 insert 를 모두 batch 로 실행한 뒤 댓글 insert 를 batch 로 실행한다.
+    private long insertWithPooledLo() throws SQLException {
+        IdAllocator articleIds = new IdAllocator(allocatorConnection, "article");
+        IdAllocator commentIds = new IdAllocator(allocatorConnection, "article_comment");
+        long[] flushArticleIds = new long[FLUSH_SIZE];
+        long lastId = 0;
+        try (PreparedStatement insertArticle = connection.prepareStatement(INSERT_ARTICLE_WITH_ID);
+             PreparedStatement insertComment = connection.prepareStatement(INSERT_COMMENT_WITH_ID)) {
+            for (int from = 0; from < ARTICLES; from += FLUSH_SIZE) {
+                int size = Math.min(FLUSH_SIZE, ARTICLES - from);
+                for (int i = 0; i < size; i++) {
+                    flushArticleIds[i] = articleIds.next();
+                    insertArticle.setLong(1, flushArticleIds[i]);
+                    bindArticle(insertArticle, 2, from + i);
+                    addBatch(insertArticle, i + 1);
+                }
+                insertArticle.executeBatch();
+
+                int comments = 0;
+                for (int i = 0; i < size; i++) {
+                    for (int c = 0; c < COMMENTS_PER_ARTICLE; c++) {
+                        lastId = commentIds.next();
+                        insertComment.setLong(1, lastId);
+                        bindComment(insertComment, 2, flushArticleIds[i], from + i + c);
+                        addBatch(insertComment, ++comments);
+                    }
+                }
+                insertComment.executeBatch();
+                connection.commit();
+            }
+        }
+
+        return lastId;
+    }
+
+    private void bindArticle(PreparedStatement insert, int firstIndex, int i) throws SQLException {
+        insert.setString(firstIndex, "uno");
+        insert.setString(firstIndex + 1, titles[i % CONTENTS]);
+        insert.setString(firstIndex + 2, contents[i % CONTENTS]);
+        bindAuditing(insert, firstIndex + 3);
+    }
+
+    private void bindComment(PreparedStatement insert, int firstIndex, long articleId, int i) throws SQLException {
+        insert.setLong(firstIndex, articleId);
+        insert.setString(firstIndex + 1, "uno");
+        insert.setString(firstIndex + 2, commentContents[i % CONTENTS]);
+        bindAuditing(insert, firstIndex + 3);
+    }
+
+    private void bindAuditing(PreparedStatement insert, int firstIndex) throws SQLException {
+        insert.setTimestamp(firstIndex, createdAt);
+        insert.setString(firstIndex + 1, "uno");
+        insert.setTimestamp(firstIndex + 2, createdAt);
+        insert.setString(firstIndex + 3, "uno");
+    }
+
+    private static void addBatch(PreparedStatement insert, int count) throws SQLException {
+        insert.addBatch();
+        if (count % BATCH_SIZE == 0) { insert.executeBatch(); }
+    }
+
+    private static long executeAndReadId(PreparedStatement insert) throws SQLException {
+        insert.executeUpdate();
+        try (ResultSet generatedKeys = insert.getGeneratedKeys()) {
+            generatedKeys.next();
+            return generatedKeys.getLong(1);
+        }
+    }
+
+    // hibernate TableGenerator + pooled-lo 와 같이, 받은 값 다음부터 ALLOCATION_SIZE 개를 메모리에서 나눠준다.
+    private static final class IdAllocator {
+        private final Connection connection;
+        private final String sequenceName;
+        private long next;
+        private long limit;
+
+        private IdAllocator(Connection connection, String sequenceName) {
+            this.connection = connection;
+            this.sequenceName = sequenceName;
+        }
+
+        private long next() throws SQLException {
+            if (next == limit) {
+                allocate();
+            }
+            return next++;
+        }
+
+        private void allocate() throws SQLException {
+            long lastUsed;
+            try (PreparedStatement select = connection.prepareStatement("select next_val from id_generator where sequence_name = ? for update")) {
+                select.setString(1, sequenceName);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    lastUsed = resultSet.getLong(1);
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement("update id_generator set next_val = ? where next_val = ? and sequence_name = ?")) {
+                update.setLong(1, lastUsed + ALLOCATION_SIZE);
+                update.setLong(2, lastUsed);
+                update.setString(3, sequenceName);
+                update.executeUpdate();
+            }
+            connection.commit();
+
+            next = lastUsed + 1;
+            limit = next + ALLOCATION_SIZE;
+        }
+    }
+}
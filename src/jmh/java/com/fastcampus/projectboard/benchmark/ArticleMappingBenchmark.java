@@ -0,0 +1,76 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록/상세 화면의 DTO mapping: entity -> {@link ArticleDto} -> {@link ArticleResponse}.
+ * <p>
+ * 게시글마다 해시태그 3개, 본문은 약 1,000 자. DB 없이 mapping 비용만 잰다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleMappingBenchmark {
+
+    private static final int ARTICLES = 64;
+    private static final int HASHTAGS_PER_ARTICLE = 3;
+
+    private Article[] articles;
+    private ArticleDto[] articleDtos;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        BenchmarkData data = new BenchmarkData(42L);
+        UserAccount userAccount = UserAccount.of("uno", "pw", "uno@mail.com", "Uno", "memo");
+
+        articles = new Article[ARTICLES];
+        articleDtos = new ArticleDto[ARTICLES];
+        long hashtagId = 1L;
+        for (int i = 0; i < ARTICLES; i++) {
+            Article article = Article.of(userAccount, data.title(), data.content(250));
+            setId(article, (long) i + 1);
+            for (int j = 0; j < HASHTAGS_PER_ARTICLE; j++) {
+                // 해시태그는 id 로 동등성을 비교하므로 id 를 채워야 set 에 모두 들어간다.
+                Hashtag hashtag = Hashtag.of(BenchmarkData.ENGLISH_WORDS[data.nextInt(BenchmarkData.ENGLISH_WORDS.length)] + j);
+                setId(hashtag, hashtagId++);
+                article.addHashtag(hashtag);
+            }
+            articles[i] = article;
+            articleDtos[i] = ArticleDto.from(article);
+        }
+    }
+
+    @Benchmark
+    public ArticleDto articleDtoFromEntity() {
+        next = (next + 1) % ARTICLES;
+        return ArticleDto.from(articles[next]);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFromDto() {
+        next = (next + 1) % ARTICLES;
+        return ArticleResponse.from(articleDtos[next]);
+    }
+
+    // id 는 DB 가 부여하므로 setter 가 없다.
+    private static void setId(Object entity, Long id) throws ReflectiveOperationException {
+        Field field = entity.getClass().getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(entity, id);
+    }
+}
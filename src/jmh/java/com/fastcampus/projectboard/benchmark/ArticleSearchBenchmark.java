@@ -0,0 +1,146 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.service.search.InvertedIndexArticleSearchEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 제목/본문 검색: 기존 {@code LIKE '%keyword%'} + {@code count(*)} 경로와 역색인 검색 + id 조회 경로 비교.
+ * <p>
+ * 둘 다 게시판 첫 페이지 (10건) 를 만드는 데 필요한 query 를 그대로 흉내낸다.
+ * DB 는 H2 in-memory 를 사용하므로 실제 DB 보다 network 비용은 빠져 있다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArticleSearchBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"100000", "1000000"})
+    private int articleCount;
+
+    @Param({"TITLE", "CONTENT"})
+    private SearchType searchType;
+
+    private Connection connection;
+    private InvertedIndexArticleSearchEngine engine;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists article");
+            statement.execute("create table article (id bigint primary key, title varchar(255) not null, content varchar(10000) not null, created_at timestamp not null)");
+            statement.execute("create index idx_article_title on article (title)");
+            statement.execute("create index idx_article_created_at on article (created_at)");
+        }
+
+        engine = new InvertedIndexArticleSearchEngine();
+        BenchmarkData data = new BenchmarkData(42L);
+        LocalDateTime baseTime = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("insert into article (id, title, content, created_at) values (?, ?, ?, ?)")) {
+            for (long id = 1; id <= articleCount; id++) {
+                String title = data.title();
+                String content = data.content(30 + data.nextInt(40));
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, content);
+                insert.setTimestamp(4, Timestamp.valueOf(baseTime.plusSeconds(id)));
+                insert.addBatch();
+                engine.index(id, title, content);
+
+                if (id % 1_000 == 0) { insert.executeBatch(); }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        engine.markReady();
+
+        keyword = searchType == SearchType.TITLE ? "데이터베이스" : "트랜잭션";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table article");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeQuery(Blackhole blackhole) throws SQLException {
+        String column = searchType == SearchType.TITLE ? "title" : "content";
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, title, content, created_at from article where " + column + " like ? order by created_at desc limit ? offset 0")) {
+            select.setString(1, "%" + keyword + "%");
+            select.setInt(2, PAGE_SIZE);
+            blackhole.consume(readIds(select));
+        }
+        try (PreparedStatement count = connection.prepareStatement(
+                "select count(id) from article where " + column + " like ?")) {
+            count.setString(1, "%" + keyword + "%");
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void invertedIndex(Blackhole blackhole) throws SQLException {
+        List<Long> rankedIds = engine.search(searchType, keyword);
+        List<Long> pageIds = rankedIds.subList(0, Math.min(PAGE_SIZE, rankedIds.size()));
+        blackhole.consume(rankedIds.size());
+        if (pageIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = pageIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, title, content, created_at from article where id in (" + placeholders + ")")) {
+            for (int i = 0; i < pageIds.size(); i++) {
+                select.setLong(i + 1, pageIds.get(i));
+            }
+            blackhole.consume(readIds(select));
+        }
+    }
+
+    private static List<Long> readIds(PreparedStatement select) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+                resultSet.getString(2);
+                resultSet.getString(3);
+            }
+        }
+
+        return ids;
+    }
+}
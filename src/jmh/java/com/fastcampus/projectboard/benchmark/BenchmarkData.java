@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 가짜 게시글 데이터 생성기.
+ * 실제 게시판처럼 한글 단어와 영어 단어가 섞인 제목/본문, 해시태그를 만든다. seed 가 같으면 항상 같은 데이터를 만든다.
+ */
+public final class BenchmarkData {
+
+    public static final String[] KOREAN_WORDS = {
+            "스프링", "부트", "자바", "게시판", "데이터베이스", "성능", "최적화", "검색", "댓글", "해시태그",
+            "프로젝트", "개발자", "서버", "클라이언트", "트랜잭션", "캐시", "색인", "페이지", "조회", "저장",
+            "오늘", "내일", "공부", "정리", "질문", "답변", "문제", "해결", "배포", "테스트"
+    };
+    public static final String[] KOREAN_PARTICLES = {"", "은", "는", "이", "가", "을", "를", "에서", "으로", "의"};
+    public static final String[] ENGLISH_WORDS = {
+            "spring", "boot", "java", "jpa", "hibernate", "query", "index", "thymeleaf", "security", "gradle",
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "tempor"
+    };
+
+    private final SplittableRandom random;
+
+    public BenchmarkData(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public String title() {
+        return sentence(3 + random.nextInt(5));
+    }
+
+    public String content(int words) {
+        return sentence(words);
+    }
+
+    public String sentence(int words) {
+        StringBuilder builder = new StringBuilder(words * 6);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) { builder.append(' '); }
+            if (random.nextInt(10) < 7) {
+                builder.append(KOREAN_WORDS[random.nextInt(KOREAN_WORDS.length)])
+                        .append(KOREAN_PARTICLES[random.nextInt(KOREAN_PARTICLES.length)]);
+            } else {
+                builder.append(ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)]);
+            }
+            if (random.nextInt(20) == 0) {
+                builder.append(" #").append(random.nextBoolean()
+                        ? KOREAN_WORDS[random.nextInt(KOREAN_WORDS.length)]
+                        : ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+}
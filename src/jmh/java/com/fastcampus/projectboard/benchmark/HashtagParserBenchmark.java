@@ -0,0 +1,76 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.service.HashtagService;
+import com.fastcampus.projectboard.service.hashtag.HashtagParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 저장/수정 시 본문 해시태그 파싱: 기존 정규식 구현과 {@link HashtagService#parseHashtagNames} ({@link HashtagParser}) 비교.
+ * <p>
+ * 본문은 한글/영어 단어가 섞인 글에 20 단어당 1개 꼴로 해시태그가 들어간다. ({@link BenchmarkData})
+ * 할당량은 {@code -prof gc} 로 확인한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=HashtagParserBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashtagParserBenchmark {
+
+    private static final int CONTENTS = 64;
+
+    // 본문 길이 (글자 수, 대략). 10,000 은 본문 최대 길이
+    @Param({"200", "2000", "10000"})
+    private int contentLength;
+
+    private final HashtagService hashtagService = new HashtagService(null); // 파싱에는 repository 가 필요 없다.
+    private String[] contents;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42L);
+        contents = new String[CONTENTS];
+        for (int i = 0; i < CONTENTS; i++) {
+            String content = data.content(contentLength / 4);
+            contents[i] = content.length() > contentLength ? content.substring(0, contentLength) : content;
+        }
+    }
+
+    @Benchmark
+    public Set<String> regex() {
+        return parseWithRegex(nextContent());
+    }
+
+    @Benchmark
+    public Set<String> handWritten() {
+        return hashtagService.parseHashtagNames(nextContent());
+    }
+
+    private String nextContent() {
+        next = (next + 1) % CONTENTS;
+        return contents[next];
+    }
+
+    // 기존 HashtagService#parseHashtagNames 구현 그대로
+    private static Set<String> parseWithRegex(String content) {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.service.PaginationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시판 목록 화면마다 호출되는 페이징 바 번호 계산 ({@link PaginationService#getPaginationBarNumbers}).
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PaginationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationBenchmark {
+
+    @Param({"13", "100000"})
+    private int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+    private int currentPageNumber;
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        currentPageNumber = (currentPageNumber + 1) % totalPages; // 첫/끝 page 근처의 경계 조건까지 고르게 지나가도록
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.projectboard.benchmark;
+
+import com.fastcampus.projectboard.service.HashtagService;
+import com.fastcampus.projectboard.service.monitoring.ServiceTimerAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * service method 실행 시간 측정 ({@link ServiceTimerAspect}) 비용.
+ * <p>
+ * 짧은 본문의 해시태그 파싱 ({@link HashtagService#parseHashtagNames}) 을 직접 호출 / aspect 없는 proxy 로 호출 / 측정 aspect 를 건 proxy 로 호출해 비교한다.
+ * service 는 운영에서도 transaction proxy 를 거치므로 측정 비용은 {@code timed - proxied} 로 본다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ServiceTimerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceTimerBenchmark {
+
+    private static final String CONTENT = "오늘의 글 #spring #jpa";
+
+    private final HashtagService direct = new HashtagService(null); // 파싱에는 repository 가 필요 없다.
+    private HashtagService proxied;
+    private HashtagService timed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        proxied = proxy(direct, null);
+        timed = proxy(direct, new ServiceTimerAspect(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Set<String> direct() {
+        return direct.parseHashtagNames(CONTENT);
+    }
+
+    @Benchmark
+    public Set<String> proxied() {
+        return proxied.parseHashtagNames(CONTENT);
+    }
+
+    @Benchmark
+    public Set<String> timed() {
+        return timed.parseHashtagNames(CONTENT);
+    }
+
+    private static HashtagService proxy(HashtagService target, Object aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        if (aspect != null) {
+            proxyFactory.addAspect(aspect);
+        }
+
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,157 @@
+package com.fastcampus.projectboard.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 목록 ({@code /articles}) 부하 test. ({@code ./gradlew loadTest}, build.gradle 참고)
+ * <p>
+ * client 마다 응답을 받으면 바로 다음 요청을 보내고 (closed loop), warmup 이후 duration 동안 시작한 요청의 처리량 (2xx 응답 수 / duration) 과 응답 시간 (실패 포함) 을 출력한다.
+ * page 는 요청마다 0 ~ pages-1 중에서 고른다. 서버의 실행 방식 (platform / virtual thread) 과 상관없이 같은 조건으로 비교하도록 client 는 platform thread 를 쓴다.
+ * ex) --url=http://localhost:8080/articles --clients=1000 --warmup=10s --duration=30s --pages=10
+ */
+public class ArticleLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080/articles"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        Duration warmup = toDuration(options.getOrDefault("warmup", "10s"));
+        Duration duration = toDuration(options.getOrDefault("duration", "30s"));
+        int pages = Integer.parseInt(options.getOrDefault("pages", "10"));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        Callable<Result> client = () -> run(httpClient, url, pages, measureFrom, measureUntil);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Result>> futures = executor.invokeAll(Collections.nCopies(clients, client));
+        executor.shutdown();
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+
+        print(url, clients, duration, total);
+    }
+
+    private static Result run(HttpClient httpClient, URI url, int pages, long measureFrom, long measureUntil) {
+        Result result = new Result();
+        long startedAt;
+        while ((startedAt = System.nanoTime()) < measureUntil) {
+            HttpRequest request = HttpRequest.newBuilder(url.resolve("?page=" + ThreadLocalRandom.current().nextInt(pages)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+
+            if (startedAt >= measureFrom) {
+                result.record(System.nanoTime() - startedAt, status);
+            }
+        }
+
+        return result;
+    }
+
+    private static void print(URI url, int clients, Duration duration, Result total) {
+        long[] latencies = total.latencies();
+        Arrays.sort(latencies);
+
+        System.out.printf(Locale.ROOT, "%s clients=%d duration=%ds%n", url, clients, duration.toSeconds());
+        // 처리량은 정상 (2xx) 응답만 센다. timeout 등으로 실패한 요청까지 세면 서버가 처리하지 못한 만큼 처리량이 부풀려진다.
+        long succeeded = latencies.length - total.non2xx - total.failed;
+        System.out.printf(Locale.ROOT, "requests=%d succeeded=%d throughput=%.1f req/s non-2xx=%d failed=%d%n",
+                latencies.length, succeeded, succeeded / (double) duration.toSeconds(), total.non2xx, total.failed);
+        if (latencies.length > 0) {
+            System.out.printf(Locale.ROOT, "latency p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                    toMillis(percentile(latencies, 0.50)), toMillis(percentile(latencies, 0.95)),
+                    toMillis(percentile(latencies, 0.99)), toMillis(latencies[latencies.length - 1]));
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // --key=value
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다. - arg: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return options;
+    }
+
+    // 10s, 1m 등
+    private static Duration toDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase(Locale.ROOT));
+    }
+
+    private static class Result {
+
+        private long[] latencies = new long[1_024];
+        private int count;
+        private long non2xx;
+        private long failed;
+
+        void record(long latencyNanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+
+            if (status < 0) {
+                failed++;
+            } else if (status / 100 != 2) {
+                non2xx++;
+            }
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], 200);
+            }
+            non2xx += other.non2xx;
+            failed += other.failed;
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.dto.security.BoardPrincipal.RoleType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * 게시판 권한 설정. ({@code board.security.*})
+ *
+ * @param adminUserIds 관리자 권한 ({@link RoleType#ADMIN}) 을 줄 계정 id. 비어 있으면 관리자가 없다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.security")
+public record BoardSecurityProperties(
+        @DefaultValue Set<String> adminUserIds
+) {
+
+    public static BoardSecurityProperties of(Set<String> adminUserIds) {
+        return new BoardSecurityProperties(adminUserIds);
+    }
+
+    public Set<RoleType> roleTypesOf(String userId) {
+        return adminUserIds.contains(userId) ? Set.of(RoleType.USER, RoleType.ADMIN) : Set.of(RoleType.USER);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.service.monitoring.FlightRecorder;
+import com.fastcampus.projectboard.service.monitoring.FlightRecorderEndpoint;
+import com.fastcampus.projectboard.service.monitoring.FlightRecorderFilter;
+import com.fastcampus.projectboard.service.monitoring.FlightRecorderProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Clock;
+
+// 최근 가장 느린 요청 / SQL 문 기록 (/actuator/flightrecorder). 설정 (board.flight-recorder.*) 은 FlightRecorderProperties 참고
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorder flightRecorder(FlightRecorderProperties flightRecorderProperties) {
+        return new FlightRecorder(flightRecorderProperties, Clock.systemUTC());
+    }
+
+    // security filter 까지 포함한 처리 시간을 재도록 SQL 문 수 측정 (QueryCountConfig) 바로 다음에 실행
+    @Bean
+    public FilterRegistrationBean<FlightRecorderFilter> flightRecorderFilter(FlightRecorder flightRecorder) {
+        FilterRegistrationBean<FlightRecorderFilter> registration = new FilterRegistrationBean<>(new FlightRecorderFilter(flightRecorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorder flightRecorder) {
+        return new FlightRecorderEndpoint(flightRecorder);
+    }
+}
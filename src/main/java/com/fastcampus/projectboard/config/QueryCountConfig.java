@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.service.monitoring.QueryCountAspect;
+import com.fastcampus.projectboard.service.monitoring.QueryCountFilter;
+import com.fastcampus.projectboard.service.monitoring.QueryCountProperties;
+import com.fastcampus.projectboard.service.monitoring.QueryCountRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// HTTP 요청별, service method 별 SQL 문 수 측정 (N+1 감지). DataSource 는 QueryCountingDataSourcePostProcessor 가 감싼다.
+// 예산 (board.sql.*) 은 QueryCountProperties 참고
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public QueryCountRecorder queryCountRecorder(MeterRegistry meterRegistry, QueryCountProperties queryCountProperties) {
+        return new QueryCountRecorder(meterRegistry, queryCountProperties);
+    }
+
+    // security filter 에서 실행되는 query (ex. 로그인 사용자 조회) 까지 세도록 가장 먼저 실행
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryCountRecorder queryCountRecorder) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(queryCountRecorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    @Bean
+    public QueryCountAspect queryCountAspect(QueryCountRecorder queryCountRecorder) {
+        return new QueryCountAspect(queryCountRecorder);
+    }
+}
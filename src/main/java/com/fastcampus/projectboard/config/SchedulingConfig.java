@@ -0,0 +1,10 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (ex. 게시글 counter 보정) 을 사용하기 위한 설정
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -1,11 +1,14 @@
 package com.fastcampus.projectboard.config;
 
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.dto.security.BoardPrincipal.RoleType;
 import com.fastcampus.projectboard.dto.security.KakaoOAuth2Response;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.service.UserAccountService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +26,7 @@ import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.UUID;
 
+@EnableConfigurationProperties(BoardSecurityProperties.class)
 @Configuration
 public class SecurityConfig {
 
@@ -42,6 +46,10 @@ public class SecurityConfig {
                                 "/articles",
                                 "/articles/search-hashtag"
                         ).permitAll()
+                        // actuator 는 bind 값 (/actuator/flightrecorder), 설정, heap dump 등을 보여주므로 관리자만 사용
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole(RoleType.ADMIN.name())
+                        // 게시글 import 는 작성자 (userId) 와 작성 일시를 입력 값 그대로 저장하므로 관리자만 사용
+                        .mvcMatchers(HttpMethod.POST, "/articles/import").hasRole(RoleType.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .formLogin(Customizer.withDefaults()) // 기본값을 내부적으로 설정. 따라서 method chaining 을 위한 and() 가 필요 없어짐.
@@ -84,12 +92,12 @@ public class SecurityConfig {
     // 암호와 module 을 사용할 수 있게 된다.
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
+    public UserDetailsService userDetailsService(UserAccountService userAccountService, BoardSecurityProperties boardSecurityProperties) {
         // username -> id -> userAccountDto -> BoardPrincipal
         // UserDetailsService interface method 인 loadUserByUsername 을 아래와 같이 구현한 것임.
         return username -> userAccountService
                 .searchUser(username)
-                .map(BoardPrincipal::from)
+                .map(dto -> BoardPrincipal.from(dto, boardSecurityProperties.roleTypesOf(dto.userId())))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. - username " + username));
     }
 
@@ -103,12 +111,14 @@ public class SecurityConfig {
      *
      * @param userAccountService  게시판 서비스의 사용자 계정을 다루는 서비스 로직
      * @param passwordEncoder 패스워드 암호화 도구
+     * @param boardSecurityProperties 관리자 계정 설정
      * @return {@link OAuth2UserService} OAuth2 인증 사용자 정보를 읽어들이고 처리하는 서비스 인스턴스 반환
      */
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(
             UserAccountService userAccountService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            BoardSecurityProperties boardSecurityProperties
     ) {
         // OAuth2.0 REST API provider 정보를 받아주는 SpringSecrurity OAuth2 기능을 사용할 변수 선언
         // spring security OAuth 기본 구현체
@@ -141,7 +151,7 @@ public class SecurityConfig {
 
             // DB 에 userAccount 존재 -> Ok 아니면 저장
             return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from) // 있다면 인증 정보 생성 내보냄.
+                    .map(dto -> BoardPrincipal.from(dto, boardSecurityProperties.roleTypesOf(username))) // 있다면 인증 정보 생성 내보냄.
                     .orElseGet(() ->
                             BoardPrincipal.from( // 없다면 생성하여 내보냄.
                                     userAccountService.saveUser(
@@ -150,7 +160,8 @@ public class SecurityConfig {
                                             kakaoResponse.email(),
                                             kakaoResponse.nickname(),
                                             null
-                                    )
+                                    ),
+                                    boardSecurityProperties.roleTypesOf(username)
                             )
                     );
         };
@@ -0,0 +1,25 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.service.monitoring.ServiceTimerAspect;
+import com.fastcampus.projectboard.service.monitoring.TimedViewResolverPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// service method 실행 시간 (board.service) 과 template rendering 시간 (board.view.render) 측정
+// 느린 화면이 어느 단계 (검색, DTO 변환, rendering) 에서 느린지 나눠서 보기 위함
+@Configuration
+public class ServiceTimerConfig {
+
+    @Bean
+    public ServiceTimerAspect serviceTimerAspect(MeterRegistry meterRegistry) {
+        return new ServiceTimerAspect(meterRegistry);
+    }
+
+    // BeanPostProcessor 는 설정 class 보다 먼저 만들어야 하므로 static
+    @Bean
+    public static TimedViewResolverPostProcessor timedViewResolverPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TimedViewResolverPostProcessor(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청 처리를 Tomcat thread pool (최대 200개) 대신 요청마다 새 virtual thread 에서 실행 (Java 21 이상, board.virtual-threads.enabled=true)
+// controller ~ service ~ JPA 는 요청 thread 에서 실행되므로 DB 대기 중에는 carrier thread 를 돌려준다.
+// 동시에 DB 를 쓰는 수는 thread 수가 아니라 HikariCP pool 크기가 정한다. (application.yaml 의 virtual-threads profile, document/virtual_threads.md 참고)
+@ConditionalOnProperty(prefix = "board.virtual-threads", name = "enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        if (Runtime.version().feature() < MINIMUM_JAVA_VERSION) {
+            throw new IllegalStateException("board.virtual-threads.enabled 는 Java " + MINIMUM_JAVA_VERSION + " 이상에서만 사용할 수 있습니다. - java.version: " + Runtime.version());
+        }
+
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+    }
+}
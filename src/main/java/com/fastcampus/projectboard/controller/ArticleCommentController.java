@@ -1,14 +1,21 @@
 package com.fastcampus.projectboard.controller;
 
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.dto.request.ArticleCommentRequest;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.projectboard.dto.response.ArticleCommentTree;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
 import com.fastcampus.projectboard.service.ArticleCommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @RequiredArgsConstructor
 @RequestMapping("/comments")
@@ -17,6 +24,20 @@ public class ArticleCommentController {
 
     private final ArticleCommentService articleCommentService;
 
+    // 게시글 상세 화면의 댓글 "더 보기" 용 JSON 응답. 최상위 댓글 size 개와 그 대댓글을 계층으로 구성해서 반환한다.
+    // cursor 가 없으면 (또는 잘못된 값이면) 첫 page 부터 반환한다.
+    @ResponseBody
+    @GetMapping
+    public CursorPage<ArticleCommentResponse> articleComments(
+            @RequestParam Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ArticleCommentService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ArticleCommentTree.toResponsePage(
+                articleCommentService.searchArticleCommentPage(articleId, ArticleCommentCursor.decode(cursor), size)
+        );
+    }
+
     @PostMapping("/new")
     public String PostNewArticleComment(
             @AuthenticationPrincipal BoardPrincipal boardPrincipal,
@@ -3,15 +3,25 @@ package com.fastcampus.projectboard.controller;
 
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.EstimatedPage;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
 import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
+import com.fastcampus.projectboard.service.monitoring.ArticleDetailLoadEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,22 +36,38 @@ import java.util.List;
 @Controller
 public class ArticleController {
 
+    // keyset (cursor) pagination 은 항상 최신순으로 정렬된다.
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;  // 의존성 주입
+    private final ArticleDetailCache articleDetailCache;
 
     @GetMapping
     public String articles(
             //  ??          필수 para X
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor, // 값이 있으면 (빈 값 포함) keyset pagination 으로 조회
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-
-        map.addAttribute("articles", articles);
-        map.addAttribute("paginationBarNumbers", barNumbers);
+        if (cursor != null) {
+            CursorPage<ArticleResponse> articles = articleService.searchArticlesByCursor(
+                    searchType, searchValue, ArticleCursor.decode(cursor), pageable.getPageSize()
+            ).map(ArticleResponse::from);
+            addCursorPageAttributes(map, articles);
+        } else {
+            Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+            // 검색 결과가 너무 많으면 전체 개수는 추정치 (ex. 10,000+) 이지만, paging bar 는 그 추정치로 그대로 그린다.
+            List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNumbers);
+            map.addAttribute("totalCountEstimated", articles instanceof EstimatedPage<?> page && page.isTotalEstimated());
+            map.addAttribute("cursorMode", false);
+        }
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG); // ?? 이게 왜 필요한지 모르겠음;;
 
@@ -50,29 +76,56 @@ public class ArticleController {
 
     @GetMapping("/{articleId}") // 우선 내부 로직 구현 없이 routing 작업에 대해서만 처리
     public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+        // 댓글은 첫 page 만 그리고, 나머지는 화면에서 "더 보기" 로 (GET /comments) 이어서 가져온다.
+        // 댓글 계층 구성까지 끝난 응답을 cache 해두고, 게시글/댓글이 바뀌면 (commit 이후) 무효화한다.
+        ArticleDetailLoadEvent event = new ArticleDetailLoadEvent();
+        event.begin();
+        ArticleWithCommentsResponse article = articleDetailCache.get(articleId, id -> loadArticle(id, event));
+        event.commit(articleId, article.articleCommentsResponse().size());
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
+        map.addAttribute("commentsNextCursor", article.commentsNextCursor());
         map.addAttribute("totalCount", articleService.getArticleCount());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG); // ?? 이게 왜 필요한지 모르겠음;;
 
         return "articles/detail";
     }
 
+    private ArticleWithCommentsResponse loadArticle(long articleId, ArticleDetailLoadEvent event) {
+        ArticleDto article = articleService.getArticle(articleId);
+        CursorPage<ArticleCommentDto> articleComments = articleCommentService.searchArticleCommentPage(articleId, null, ArticleCommentService.DEFAULT_PAGE_SIZE);
+
+        long startedAt = System.nanoTime();
+        ArticleWithCommentsResponse response = ArticleWithCommentsResponse.from(article, articleComments);
+        event.loaded(System.nanoTime() - startedAt);
+
+        return response;
+    }
+
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        if (cursor != null) {
+            CursorPage<ArticleResponse> articles = articleService.searchArticlesViaHashtagByCursor(
+                    searchValue, ArticleCursor.decode(cursor), pageable.getPageSize()
+            ).map(ArticleResponse::from);
+            addCursorPageAttributes(map, articles);
+        } else {
+            Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+            List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNumbers);
+            map.addAttribute("cursorMode", false);
+        }
         List<String> hashtags = articleService.getHashtags();
 
-        map.addAttribute("articles", articles);
         map.addAttribute("hashtags", hashtags);
-        map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchType", SearchType.HASHTAG);
 
         return "articles/search-hashtag";
@@ -125,5 +178,21 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
-}
 
+    // view 에서는 offset 방식과 같은 template 을 쓰므로, 전체 개수가 필요 없는 Slice 로 감싸서 넘긴다.
+    private void addCursorPageAttributes(ModelMap map, CursorPage<ArticleResponse> articles) {
+        List<Integer> barNumbers = paginationService.getCursorPaginationBarNumbers(
+                articles.pageNumber(), articles.hasPrevious(), articles.hasNext()
+        );
+
+        map.addAttribute("articles", new SliceImpl<>(
+                articles.content(),
+                PageRequest.of(articles.pageNumber(), articles.size(), CURSOR_SORT),
+                articles.hasNext()
+        ));
+        map.addAttribute("paginationBarNumbers", barNumbers);
+        map.addAttribute("cursorMode", true);
+        map.addAttribute("previousCursor", articles.previousCursor());
+        map.addAttribute("nextCursor", articles.nextCursor());
+    }
+}
@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Data REST 의 `/api/articles` 는 offset (page) 방식으로만 동작하므로,
+// `cursor` parameter 가 붙은 요청만 가로채서 keyset (cursor) pagination 으로 응답한다.
+// 응답 형식 (HAL, excerpt projection) 은 Data REST 기본 응답과 같고, page 정보 대신 next / prev link 에 cursor 가 담긴다.
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleCursorRestController {
+
+    private final ArticleRepository articleRepository;
+    private final RepositoryRestConfiguration repositoryRestConfiguration;
+
+    @GetMapping(value = "/articles", params = "cursor")
+    public ResponseEntity<CollectionModel<PersistentEntityResource>> articles(
+            @RequestParam String cursor,
+            @RequestParam(required = false) Integer size,
+            PersistentEntityResourceAssembler assembler
+    ) {
+        int pageSize = size == null
+                ? repositoryRestConfiguration.getDefaultPageSize()
+                : Math.min(Math.max(size, 1), repositoryRestConfiguration.getMaxPageSize());
+        CursorPage<Article> articles = articleRepository.findByCursor(null, null, ArticleCursor.decode(cursor), pageSize);
+
+        List<PersistentEntityResource> resources = articles.content().stream()
+                .map(assembler::toModel)
+                .toList();
+
+        List<Link> links = new ArrayList<>();
+        links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString(), IanaLinkRelations.SELF));
+        if (articles.hasPrevious()) {
+            links.add(Link.of(cursorUri(articles.previousCursor(), pageSize), IanaLinkRelations.PREV));
+        }
+        if (articles.hasNext()) {
+            links.add(Link.of(cursorUri(articles.nextCursor(), pageSize), IanaLinkRelations.NEXT));
+        }
+
+        return ResponseEntity.ok(CollectionModel.of(resources, links));
+    }
+
+    private String cursorUri(String cursor, int size) {
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", cursor)
+                .replaceQueryParam("size", size)
+                .toUriString();
+    }
+}
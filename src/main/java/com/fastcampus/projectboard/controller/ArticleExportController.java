@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.service.ArticleExportService;
+import com.fastcampus.projectboard.service.exporter.ArticleExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 게시글 전체 (또는 검색 결과) 내보내기 API. (로그인 필요)
+// 검색 조건은 게시글 목록 화면과 같은 parameter (searchType, searchValue) 를 사용한다.
+// 응답은 모두 만들어 두지 않고 읽는 대로 쓰며 (stream), gzip=true 이면 압축하면서 쓴다.
+// 예) curl -o articles.csv.gz '.../articles/export?format=CSV&gzip=true'
+@RequiredArgsConstructor
+@RequestMapping("/articles/export")
+@Controller
+public class ArticleExportController {
+
+    private final ArticleExportService articleExportService;
+
+    @GetMapping
+    public void exportArticles(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam(defaultValue = "NDJSON") ArticleExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        String fileName = "articles." + format.getFileExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        OutputStream outputStream = gzip ? new GZIPOutputStream(response.getOutputStream()) : response.getOutputStream();
+        articleExportService.exportArticles(searchType, searchValue, format, outputStream);
+    }
+}
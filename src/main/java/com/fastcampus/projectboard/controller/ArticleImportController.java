@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.ArticleImportResult;
+import com.fastcampus.projectboard.service.ArticleImportService;
+import com.fastcampus.projectboard.service.importer.ArticleImportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 이전 게시판에서 게시글을 옮겨올 때 사용하는 대량 저장 (import) API.
+// 작성자 (userId) 와 작성 일시를 입력 값 그대로 저장하므로 관리자 (board.security.admin-user-ids) 만 사용할 수 있다. (SecurityConfig)
+// 요청 본문을 한 번에 읽지 않고 stream 으로 넘겨서, 수 GB 입력도 읽는 대로 저장한다.
+// /api/** 가 아니므로 CSRF 검사 대상이다. 로그인한 session cookie 와 그 session 의 CSRF token (X-CSRF-TOKEN header) 을 함께 보낸다.
+// 예) (로그인 form 과 게시글 작성 form 의 hidden input "_csrf" 에서 token 을 읽는다)
+//   token=$(curl -s -c cookies.txt .../login | grep -o 'name="_csrf" type="hidden" value="[^"]*"' | cut -d'"' -f6)
+//   curl -s -b cookies.txt -c cookies.txt --data-urlencode username=uno --data-urlencode password=... --data-urlencode _csrf=$token .../login
+//   token=$(curl -s -b cookies.txt .../articles/form | grep -o 'name="_csrf" value="[^"]*"' | cut -d'"' -f4)  # 로그인하면 token 이 바뀐다
+//   curl -X POST -b cookies.txt -H "X-CSRF-TOKEN: $token" -H 'Content-Type: application/x-ndjson' --data-binary @articles.ndjson .../articles/import
+@RequiredArgsConstructor
+@RequestMapping("/articles/import")
+@Controller
+public class ArticleImportController {
+
+    private final ArticleImportService articleImportService;
+
+    @ResponseBody
+    @PostMapping(consumes = "application/x-ndjson")
+    public ArticleImportResult importNdjson(InputStream body) throws IOException {
+        return articleImportService.importArticles(body, ArticleImportFormat.NDJSON);
+    }
+
+    @ResponseBody
+    @PostMapping(consumes = "text/csv")
+    public ArticleImportResult importCsv(InputStream body) throws IOException {
+        return articleImportService.importArticles(body, ArticleImportFormat.CSV);
+    }
+}
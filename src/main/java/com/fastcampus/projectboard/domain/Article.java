@@ -3,6 +3,9 @@ package com.fastcampus.projectboard.domain;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -18,17 +21,21 @@ import javax.persistence.*;
 @ToString(callSuper = true)
 @Table(indexes = { // 검색 가능한 column 들?
         @Index(columnList = "title"),
-        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdAt, id"), // keyset (cursor) pagination 의 정렬 기준 (createdAt desc, id desc)
         @Index(columnList = "createdBy"),
 })
 //@EntityListeners(AuditingEntityListener.class) // AuditingFields 로 빠짐
 @Entity
 public class Article extends AuditingFields {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "article", allocationSize = 50)
     private Long id;
-    // GeneratedValue -> auto increment 기능 사용
-    // GenerationType.IDENTITY : mySQL auto increment 방식
+    // GeneratedValue -> id 자동 생성
+    // GenerationType.IDENTITY (mySQL auto increment 방식) 는 insert 를 해야 id 를 알 수 있으므로 hibernate 가 insert 를 batch 로 묶지 못한다.
+    // 대신 id_generator table 에서 id 를 50 개씩 미리 받아 두고 (pooled-lo) 쓴다. insert 없이 id 가 정해지고, insert 는 flush 때 batch 로 실행된다.
+    // sequence 가 아닌 table 을 쓰므로 H2, MySQL, PostgreSQL 에서 똑같이 동작한다.
 
     // 여러 Article 들이 하나의 userAccount 를 가질 수 있음.
     @Setter
@@ -58,6 +65,7 @@ public class Article extends AuditingFields {
             joinColumns = @JoinColumn(name = "articleId"),
             inverseJoinColumns = @JoinColumn(name = "hashtagId")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleHashtags") // 해시태그 id 목록을 2차 cache (해시태그 자체는 hashtag region)
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
@@ -68,6 +76,13 @@ public class Article extends AuditingFields {
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>(); // 양방향 binding 으로 게시글에 연관된 댓글 리스트를 출력하기 위한 코드
 
+    // 댓글 수 (대댓글 포함). 목록 화면에서 댓글 collection 을 읽지 않고 보여주기 위한 반정규화 column
+    // 댓글 작성/삭제 시 한 번의 update 문 (comment_count = comment_count + ?) 으로만 바꾼다.
+    // entity 의 insert/update 에서 제외해야, 이미 읽어둔 (오래된) 값으로 다른 요청이 늘린 값을 덮어쓰지 않는다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
     // meta data
     //
     // 아래 field 는 자동 생성  -> jpaAuditing 기능 사용
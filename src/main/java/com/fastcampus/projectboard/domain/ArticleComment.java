@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -16,12 +18,19 @@ import javax.persistence.*;
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, parentCommentId, createdAt"), // 게시글의 최상위 댓글 "더 보기" (keyset pagination)
+        @Index(columnList = "path"), // 댓글 thread (하위 댓글 전체) 범위 조회
 })
 //@EntityListeners(AuditingEntityListener.class)     // AuditingFields 로 빠짐
 @Entity
 public class ArticleComment extends AuditingFields {
+
+    public static final int PATH_SEGMENT_LENGTH = 10; // path 에서 댓글 하나가 차지하는 길이 (id 를 0 으로 채운 10자리)
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_comment_id")
+    @TableGenerator(name = "article_comment_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "article_comment", allocationSize = 50) // Article 과 같은 방식 (insert batch)
     private Long id;
 
     // ManyToOne anntation 에 cascade option -> 해당 entity (댓글)의 변화가 해당 member type (Aritcle) 에 영향을 주어야 하는가?
@@ -39,6 +48,13 @@ public class ArticleComment extends AuditingFields {
     @Column(updatable = false)  // 한번 value 가 설정되면 수정 불가
     private Long parentCommentId; // 부모 댓글 ID, 단방향 mapping
 
+    // 대댓글 계층 위치 (materialized path). 최상위 댓글부터 자신까지 각 댓글 id 를 10자리로 이어 붙인 값
+    // ex. 1번 댓글의 대댓글 301번 -> "0000000001" + "0000000301"
+    // path 순으로 정렬하면 화면 순서 (부모 다음에 대댓글, 형제끼리는 작성순) 가 되고, 한 댓글의 하위 댓글 path 는 모두 그 댓글의 path 로 시작한다.
+    // id 가 정해진 뒤 (저장 후) 에 채우므로, 저장 직후 또는 path 도입 이전에 저장된 댓글은 잠시 비어있을 수 있다.
+    @Column(length = 500)
+    private String path;
+
     // 부모 comment 든 자식 comment 를 볼 수 있어야하므로
     @ToString.Exclude
     @OrderBy("createdAt ASC")
@@ -71,6 +87,50 @@ public class ArticleComment extends AuditingFields {
         this.getChildComments().add(child);
     }
 
+    /**
+     * 저장되어 id 가 정해진 뒤에 path 를 채운다. 부모 댓글의 path 가 아직 없으면 채우지 않는다. (path 채우기 작업이 이어서 채운다)
+     */
+    public void assignPath(ArticleComment parentComment) {
+        if (this.getId() == null) {
+            return;
+        }
+
+        if (parentComment == null) {
+            this.path = pathOf(null, this.getId());
+        } else if (parentComment.getPath() != null) {
+            this.path = pathOf(parentComment.getPath(), this.getId());
+        }
+    }
+
+    /**
+     * 자신과 모든 하위 댓글 (대댓글의 대댓글 포함) 의 수. 대댓글 collection 을 따라가며 센다.
+     */
+    public long countWithDescendants() {
+        long count = 0;
+        Deque<ArticleComment> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            ArticleComment comment = stack.pop();
+            count++;
+            comment.getChildComments().forEach(stack::push);
+        }
+
+        return count;
+    }
+
+    public static String pathOf(String parentPath, Long id) {
+        String segment = String.valueOf(id);
+        StringBuilder path = new StringBuilder((parentPath == null ? 0 : parentPath.length()) + PATH_SEGMENT_LENGTH);
+        if (parentPath != null) {
+            path.append(parentPath);
+        }
+        for (int i = segment.length(); i < PATH_SEGMENT_LENGTH; i++) {
+            path.append('0');
+        }
+
+        return path.append(segment).toString();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -12,6 +12,8 @@ import org.springframework.format.annotation.DateTimeFormat;
 import javax.persistence.Column;
 import javax.persistence.EntityListeners;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
+import javax.persistence.Transient;
 import java.time.LocalDateTime;
 
 // @MappedSuperclass
@@ -43,5 +45,31 @@ public class AuditingFields {
     @LastModifiedBy
     @Column(nullable = false, length = 100)
     protected String modifiedBy;
+
+    // 이전 게시판에서 옮겨오는 글 (import) 처럼 작성 시각/작성자가 이미 정해진 경우에만 값이 있다.
+    @ToString.Exclude @Transient private LocalDateTime originalCreatedAt;
+    @ToString.Exclude @Transient private String originalCreatedBy;
+
+    /**
+     * 저장할 때 auditing 값 대신 주어진 작성 시각/작성자를 사용한다. {@code null} 인 값은 auditing 값을 그대로 쓴다.
+     */
+    public void keepOriginalAuditing(LocalDateTime createdAt, String createdBy) {
+        this.originalCreatedAt = createdAt;
+        this.originalCreatedBy = createdBy;
+    }
+
+    // AuditingEntityListener 는 persist 시 항상 현재 시각/사용자로 채운다.
+    // entity 의 callback method 는 entity listener 다음에 실행되므로, 여기서 원래 값으로 되돌린다.
+    @PrePersist
+    protected void restoreOriginalAuditing() {
+        if (originalCreatedAt != null) {
+            createdAt = originalCreatedAt;
+            modifiedAt = originalCreatedAt;
+        }
+        if (originalCreatedBy != null) {
+            createdBy = originalCreatedBy;
+            modifiedBy = originalCreatedBy;
+        }
+    }
 }
 
@@ -1,8 +1,12 @@
 package com.fastcampus.projectboard.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -17,18 +21,31 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hashtag")
 @Entity
 public class Hashtag extends AuditingFields {
+    // 새 해시태그는 hibernate 가 아닌 한 번의 (multi-row) insert 문으로 저장하므로 (HashtagRepositoryCustom#insertIgnoringDuplicates) DB 의 auto increment 를 그대로 쓴다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ToString.Exclude // 순환참조 발생 때문에 ToString 에서 제외
+    // 반대편 (해시태그 -> 게시글) 목록은 cache 하지 않음. 사용되지 않는 해시태그 정리 시 최신 상태를 봐야 하기 때문
     @ManyToMany(mappedBy = "hashtags")
     private Set<Article> articles = new LinkedHashSet<>();
 
     @Setter @Column(nullable = false) private String hashtagName;
 
+    // 이 해시태그가 달린 게시글 수. 인기 해시태그 정렬이나 정리 (삭제) 여부 확인 시 article_hashtag 를 join 하지 않기 위한 반정규화 column
+    // Article.commentCount 와 같이 한 번의 update 문으로만 바꾸므로 entity 의 insert/update 에서는 제외한다.
+    // 2차 cache 를 비우지 않도록 SQL 로 직접 바꾸므로 cache 된 entity 의 값은 오래된 값일 수 있다. query 로 읽는다. (HashtagRepositoryCustom#findArticleCountById)
+    // 같은 이유로 Data REST (/api/hashtags) 응답에도 내보내지 않는다.
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long articleCount;
+
     protected Hashtag() {}
 
     private Hashtag(String hashtagName) {
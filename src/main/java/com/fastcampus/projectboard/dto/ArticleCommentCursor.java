@@ -0,0 +1,52 @@
+package com.fastcampus.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 댓글 "더 보기" (keyset pagination) 의 기준 위치.
+ * <p>
+ * 최상위 댓글은 (createdAt desc, id asc) 순서로 보여주므로, 마지막으로 보여준 최상위 댓글의 (createdAt, id) 를 기억해 두었다가
+ * 그 다음 최상위 댓글부터 (대댓글과 함께) 보여준다.
+ * <p>
+ * client 에게는 {@link #encode()} 로 만든 불투명한 token 문자열만 노출한다.
+ */
+public record ArticleCommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCommentCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * token 이 없거나 잘못된 형식이면 {@code null} 을 반환한다. (처음부터 조회로 취급)
+     */
+    public static ArticleCommentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                return null;
+            }
+
+            return new ArticleCommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 댓글 path (materialized path) 채우기용. entity 대신 id, 부모 댓글 id, path 만 읽는다.
+ */
+public record ArticleCommentPath(
+        Long id,
+        Long parentCommentId,
+        String path
+) {
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 keyset (cursor) pagination 의 기준 위치.
+ * <p>
+ * 게시글 목록은 (createdAt desc, id desc) 순서로 보여주므로, 마지막으로 본 게시글의 (createdAt, id) 를 기억해 두었다가
+ * 그 다음 (또는 그 이전) 게시글부터 읽는다. offset 방식처럼 앞의 row 를 읽고 버리지 않으므로 몇 번째 page 든 같은 비용이 든다.
+ * <p>
+ * client 에게는 {@link #encode()} 로 만든 불투명한 token 문자열만 노출한다.
+ * {@code pageNumber} 는 화면에 page 번호를 보여주기 위한 값일 뿐, 조회 조건에는 사용하지 않는다.
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id,
+        Direction direction,
+        int pageNumber
+) {
+
+    private static final String DELIMITER = "|";
+
+    public enum Direction {
+        NEXT,       // 기준 게시글보다 오래된 게시글 (다음 page)
+        PREVIOUS    // 기준 게시글보다 최근 게시글 (이전 page)
+    }
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id, Direction direction, int pageNumber) {
+        return new ArticleCursor(createdAt, id, direction, pageNumber);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, direction.name(), createdAt.toString(), String.valueOf(id), String.valueOf(pageNumber));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * token 이 없거나 잘못된 형식이면 {@code null} 을 반환한다. (첫 page 요청으로 취급)
+     */
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4) {
+                return null;
+            }
+
+            return new ArticleCursor(
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]),
+                    Direction.valueOf(parts[0]),
+                    Math.max(Integer.parseInt(parts[3]), 0)
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기 (export) 한 줄. 게시글 import 입력과 같은 이름의 값을 가지므로, 내보낸 결과를 그대로 다시 import 할 수 있다.
+ */
+public record ArticleExportRow(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static ArticleExportRow of(Long id, String userId, String title, String content, LocalDateTime createdAt) {
+        return new ArticleExportRow(id, userId, title, content, createdAt);
+    }
+}
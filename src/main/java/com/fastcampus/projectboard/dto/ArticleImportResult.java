@@ -0,0 +1,29 @@
+package com.fastcampus.projectboard.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 import 결과.
+ * 오류는 입력 줄 번호와 함께 앞에서부터 {@code errors} 에 담기고, 담지 못한 오류가 있으면 {@code errorsTruncated} 가 {@code true} 이다. (개수는 {@code failedRows} 에 모두 포함)
+ */
+public record ArticleImportResult(
+        long totalRows,
+        long importedRows,
+        long failedRows,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    public static ArticleImportResult of(long totalRows, long importedRows, long failedRows, long elapsedMillis, List<RowError> errors, boolean errorsTruncated) {
+        double rowsPerSecond = elapsedMillis == 0 ? importedRows : importedRows * 1_000.0 / elapsedMillis;
+        return new ArticleImportResult(totalRows, importedRows, failedRows, elapsedMillis, rowsPerSecond, errors, errorsTruncated);
+    }
+
+    public record RowError(long line, String message) {
+        public static RowError of(long line, String message) {
+            return new RowError(line, message);
+        }
+    }
+}
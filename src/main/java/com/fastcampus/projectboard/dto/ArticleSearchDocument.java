@@ -0,0 +1,14 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 전문 검색 색인을 만들 때 사용하는 게시글 정보 (id, 제목, 본문만 가진다.)
+ */
+public record ArticleSearchDocument(
+        Long id,
+        String title,
+        String content
+) {
+    public static ArticleSearchDocument of(Long id, String title, String content) {
+        return new ArticleSearchDocument(id, title, content);
+    }
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 목록 한 줄에 필요한 정보만 가진 DTO.
+ * <p>
+ * 목록 화면은 본문 전체 (최대 10,000 자) 가 필요 없으므로 앞부분 ({@code contentPreview}) 만 읽는다.
+ * 해시태그는 목록 query 에서 join 하지 않고, 한 page 의 게시글 id 로 한 번에 따로 가져와서 채운다.
+ * 댓글 수는 댓글을 세지 않고 게시글의 댓글 수 column ({@code Article.commentCount}) 을 그대로 읽는다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String contentPreview,
+        Set<String> hashtagNames,
+        long commentCount,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname
+) {
+
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
+    // Querydsl constructor projection 용. (해시태그는 나중에 withHashtagNames() 로 채운다.)
+    public ArticleSummaryDto(Long id, String title, String contentPreview, long commentCount, LocalDateTime createdAt, String userId, String nickname) {
+        this(id, title, contentPreview, Set.of(), commentCount, createdAt, userId, nickname);
+    }
+
+    public static ArticleSummaryDto of(
+            Long id,
+            String title,
+            String contentPreview,
+            Set<String> hashtagNames,
+            long commentCount,
+            LocalDateTime createdAt,
+            String userId,
+            String nickname
+    ) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtagNames, commentCount, createdAt, userId, nickname);
+    }
+
+    public ArticleSummaryDto withHashtagNames(Set<String> hashtagNames) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtagNames, commentCount, createdAt, userId, nickname);
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset (cursor) pagination 결과.
+ * 전체 개수 (count query) 없이, 현재 page 의 내용과 앞/뒤 page 로 이동할 수 있는 cursor token 만 가진다.
+ * 이동할 page 가 없으면 해당 cursor 는 {@code null} 이다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        int pageNumber,
+        String previousCursor,
+        String nextCursor
+) {
+
+    public static <T> CursorPage<T> of(List<T> content, int size, int pageNumber, String previousCursor, String nextCursor) {
+        return new CursorPage<>(content, size, pageNumber, previousCursor, nextCursor);
+    }
+
+    public static <T> CursorPage<T> empty(int size) {
+        return new CursorPage<>(List.of(), size, 0, null, null);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorPage<>(content.stream().<U>map(converter).toList(), size, pageNumber, previousCursor, nextCursor);
+    }
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수가 추정치일 수 있는 {@link Page}.
+ * 검색 결과가 너무 많으면 끝까지 세지 않고 상한값까지만 센다. 이때 {@link #isTotalEstimated()} 가 {@code true} 이고,
+ * 전체 개수는 "상한값 이상" 이라는 의미이다. (ex. 10,000+)
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    private final boolean totalEstimated;
+
+    public EstimatedPage(List<T> content, Pageable pageable, long total, boolean totalEstimated) {
+        super(content, pageable, total);
+        this.totalEstimated = totalEstimated;
+    }
+
+    public static <T> EstimatedPage<T> exact(List<T> content, Pageable pageable, long total) {
+        return new EstimatedPage<>(content, pageable, total, false);
+    }
+
+    public static <T> EstimatedPage<T> estimated(List<T> content, Pageable pageable, long total) {
+        return new EstimatedPage<>(content, pageable, total, true);
+    }
+
+    public boolean isTotalEstimated() {
+        return totalEstimated;
+    }
+
+    // PageImpl#map 은 PageImpl 을 새로 만들기 때문에 추정 여부가 사라지지 않도록 재정의
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedPage<>(getContent().stream().<U>map(converter).toList(), getPageable(), getTotalElements(), totalEstimated);
+    }
+}
@@ -3,9 +3,7 @@ package com.fastcampus.projectboard.dto.response;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.List;
 
 /**
  * DTO for {@link com.fastcampus.projectboard.domain.ArticleComment}
@@ -19,7 +17,7 @@ public record ArticleCommentResponse(
         String nickname,
         String userId,
         Long parentCommentId,
-        Set<ArticleCommentResponse> childComments
+        List<ArticleCommentResponse> childComments // 작성순. 계층 구성은 ArticleCommentTree 참고
 ) {
     public static ArticleCommentResponse of(
             Long id,
@@ -49,12 +47,6 @@ public record ArticleCommentResponse(
             String userId,
             Long parentCommentId
     ) {
-        // view 에서 작성일 순으로 보여주기 위해 정렬 가능 집합 (TreeSet) 을 사용
-        // 해당 정렬을 위해 Comparator 를 사용
-        // 2차 정렬 조건으로 id 를 추가함.
-        Comparator<ArticleCommentResponse> childCommentComparator = Comparator
-                .comparing(ArticleCommentResponse::createdAt)
-                .thenComparingLong(ArticleCommentResponse::id);
         return new ArticleCommentResponse(
                 id,
                 content,
@@ -63,24 +55,29 @@ public record ArticleCommentResponse(
                 nickname,
                 userId,
                 parentCommentId,
-                new TreeSet<>(childCommentComparator)
+                List.of()
         );
     }
 
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
+        return from(dto, List.of());
+    }
+
+    public static ArticleCommentResponse from(ArticleCommentDto dto, List<ArticleCommentResponse> childComments) {
         String nickname = dto.userAccountDto().nickname();
         if (nickname == null || nickname.isBlank()) {
             nickname = dto.userAccountDto().userId();
         }
 
-        return ArticleCommentResponse.of(
+        return new ArticleCommentResponse(
                 dto.id(),
                 dto.content(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                dto.parentCommentId()
+                dto.parentCommentId(),
+                childComments
         );
     }
 
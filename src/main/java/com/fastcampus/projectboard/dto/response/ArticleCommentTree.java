@@ -0,0 +1,118 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 목록을 댓글/대댓글 계층으로 구성한다.
+ * <p>
+ * DB 가 준 순서를 그대로 사용한다. ({@code ArticleCommentService#searchArticleCommentPage}: 최상위 댓글은 화면 순서 (createdAt desc, id asc), 그 뒤에 대댓글은 path 순)
+ * 목록을 한 번만 훑으면서 최상위 댓글은 나온 순서대로 두고, 대댓글은 나온 순서대로 부모 댓글에 이어 붙이므로 다시 정렬하지 않는다.
+ * path 순이면 부모 댓글이 대댓글보다 먼저 나오고, 같은 부모의 대댓글끼리는 작성순 (id 순) 이 된다.
+ * 부모 댓글이 대댓글보다 뒤에 나오더라도 부모 자리를 먼저 만들어 두고 이어 붙인다.
+ * <p>
+ * 한 번의 요청 안에서만 사용한다. (thread-safe 하지 않음)
+ */
+public final class ArticleCommentTree {
+
+    private final List<Node> roots; // 화면에 보여줄 순서
+
+    private ArticleCommentTree(List<Node> roots) {
+        this.roots = roots;
+    }
+
+    public static ArticleCommentTree of(List<ArticleCommentDto> comments) {
+        Map<Long, Node> nodes = new HashMap<>((int) (comments.size() / 0.75f) + 1);
+        List<Node> roots = new ArrayList<>();
+
+        for (ArticleCommentDto comment : comments) {
+            Node node = nodes.computeIfAbsent(comment.id(), id -> new Node());
+            node.comment = comment;
+
+            if (comment.parentCommentId() == null) {
+                roots.add(node);
+            } else {
+                // 부모 댓글이 끝까지 나오지 않으면 (부모 댓글을 지우면 대댓글도 함께 지워지므로 정상적으로는 없음) 어느 최상위 댓글에도 속하지 않아 보이지 않는다.
+                nodes.computeIfAbsent(comment.parentCommentId(), id -> new Node()).addChild(node);
+            }
+        }
+
+        return new ArticleCommentTree(roots);
+    }
+
+    /**
+     * DB 에서 최상위 댓글 한 page 와 그 대댓글만 읽어 온 목록을 계층으로 구성한다. "더 보기" 용 cursor 는 그대로 둔다.
+     */
+    public static CursorPage<ArticleCommentResponse> toResponsePage(CursorPage<ArticleCommentDto> comments) {
+        return CursorPage.of(
+                of(comments.content()).toResponses(),
+                comments.size(),
+                comments.pageNumber(),
+                comments.previousCursor(),
+                comments.nextCursor()
+        );
+    }
+
+    public List<ArticleCommentResponse> toResponses() {
+        ArticleCommentResponse[] responses = new ArticleCommentResponse[roots.size()];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = toResponse(roots.get(i));
+        }
+
+        return List.of(responses);
+    }
+
+    // 대댓글이 수천 단계로 이어질 수도 있으므로 재귀 대신 stack 으로 훑는다.
+    // 부모가 먼저 나오는 순서로 모은 뒤 역순으로 만들면, 항상 대댓글 응답이 부모 응답보다 먼저 만들어진다.
+    private static ArticleCommentResponse toResponse(Node root) {
+        List<Node> parentsFirst = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            parentsFirst.add(node);
+            node.children.forEach(stack::push);
+        }
+
+        for (int i = parentsFirst.size() - 1; i >= 0; i--) {
+            Node node = parentsFirst.get(i);
+            node.response = ArticleCommentResponse.from(node.comment, node.childResponses());
+        }
+
+        return root.response;
+    }
+
+
+    private static final class Node {
+        private ArticleCommentDto comment; // 부모 댓글이 대댓글보다 뒤에 나오면 잠시 비어있다.
+        private List<Node> children = List.of(); // 대댓글이 생길 때 만든다.
+        private ArticleCommentResponse response;
+
+        private void addChild(Node child) {
+            if (children.isEmpty()) {
+                children = new ArrayList<>();
+            }
+            children.add(child);
+        }
+
+        private List<ArticleCommentResponse> childResponses() {
+            if (children.isEmpty()) {
+                return List.of();
+            }
+
+            ArticleCommentResponse[] responses = new ArticleCommentResponse[children.size()];
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = children.get(i).response;
+            }
+
+            return List.of(responses);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fastcampus.projectboard.dto.response;
 
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
 import com.fastcampus.projectboard.dto.HashtagDto;
 
 import java.io.Serializable;
@@ -16,6 +17,7 @@ public record ArticleResponse(
         String title,
         String content,
         Set<String> hashtags,
+        Long commentCount, // 목록 화면에서만 채운다.
         LocalDateTime createdAt,
         String email,
         String nickname
@@ -25,6 +27,7 @@ public record ArticleResponse(
                            String title,
                            String content,
                            Set<String> hashtags,
+                           Long commentCount,
                            LocalDateTime createdAt,
                            String email,
                            String nickname) {
@@ -32,6 +35,7 @@ public record ArticleResponse(
                 title,
                 content,
                 hashtags,
+                commentCount,
                 createdAt,
                 email,
                 nickname);
@@ -50,9 +54,29 @@ public record ArticleResponse(
                 dto.hashtagDtos().stream()
                         .map(HashtagDto::hashtagName)
                         .collect(Collectors.toUnmodifiableSet()),
+                null,
                 dto.createdAt(),
                 dto.userAccountDto().email(),
                 nickname
                 );
     }
+
+    // 목록 화면용. 본문은 앞부분만 있고, email 은 목록에 나오지 않으므로 비워둔다.
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                dto.contentPreview(),
+                dto.hashtagNames(),
+                dto.commentCount(),
+                dto.createdAt(),
+                null,
+                nickname
+        );
+    }
 }
\ No newline at end of file
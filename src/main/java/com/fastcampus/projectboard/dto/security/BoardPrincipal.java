@@ -49,8 +49,27 @@ public record BoardPrincipal(
             String memo,
             Map<String, Object> oAuth2Attributes
     ) {
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
+        return BoardPrincipal.of(
+                username,
+                password,
+                email,
+                nickname,
+                memo,
+                oAuth2Attributes,
+                Set.of(RoleType.USER)
+        );
+    }
 
+    // 권한 지정 (ex. 관리자)
+    public static BoardPrincipal of(
+            String username,
+            String password,
+            String email,
+            String nickname,
+            String memo,
+            Map<String, Object> oAuth2Attributes,
+            Set<RoleType> roleTypes
+    ) {
         return new BoardPrincipal(
                 username,
                 password,
@@ -76,6 +95,19 @@ public record BoardPrincipal(
         );
     }
 
+    // UserAccountDto -> BoardPrincipal (권한 지정)
+    public static BoardPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
+        return BoardPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                Map.of(),
+                roleTypes
+        );
+    }
+
     // BoardPrincipal -> Dto
     public UserAccountDto toDto() {
         return UserAccountDto.of(
@@ -115,7 +147,8 @@ public record BoardPrincipal(
     @Override public String getName() { return username; }
 
     public enum RoleType {
-        USER("ROLE_USER"); // ROLE : spring-security 에서 문자열로 권한 표현을 하는 규칙
+        USER("ROLE_USER"), // ROLE : spring-security 에서 문자열로 권한 표현을 하는 규칙
+        ADMIN("ROLE_ADMIN"); // 관리 기능 (게시글 import 등). board.security.admin-user-ids 의 계정에만 준다.
 
         @Getter private final String name;
 
@@ -3,6 +3,7 @@ package com.fastcampus.projectboard.repository;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.QArticleComment;
 import com.fastcampus.projectboard.domain.projection.ArticleCommentProjection;
+import com.fastcampus.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,12 +17,13 @@ import java.util.List;
 @RepositoryRestResource(excerptProjection = ArticleCommentProjection.class)
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment>
 {
     List<ArticleComment> findByArticle_Id(Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(long articleCommentId, String userId);
+    long deleteByIdAndUserAccount_UserId(long articleCommentId, String userId);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root) {
@@ -27,7 +27,7 @@ public interface ArticleRepository extends
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userid);
+    long deleteByIdAndUserAccount_UserId(Long articleId, String userid);
 
 
     @Override
@@ -3,9 +3,11 @@ package com.fastcampus.projectboard.repository;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.repository.querydsl.HashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 import java.util.List;
 import java.util.Set;
@@ -17,6 +19,13 @@ public interface HashtagRepository extends
         QuerydslPredicateExecutor<Hashtag> {
 
     Optional<Hashtag> findByHashtagName(String hashtagName);
+
+    // 게시글 저장/수정 때마다 같은 해시태그 이름들로 조회하므로 query cache 사용.
+    // 해시태그 table 이 바뀌면 (저장, 삭제) hibernate 가 결과를 알아서 무효화 한다.
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "hashtagQuery")
+    })
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
 
 }
@@ -0,0 +1,54 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCommentPath;
+import com.fastcampus.projectboard.dto.CursorPage;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 최상위 댓글 (대댓글 제외) 을 화면 순서 (createdAt desc, id asc) 로 {@code cursor} 다음 위치부터 {@code size} 개 만큼 가져온다.
+     * {@code cursor} 가 {@code null} 이면 첫 page 를 가져온다. count query 는 실행하지 않는다.
+     * 작성자는 함께 (fetch join) 가져온다.
+     */
+    @RestResource(exported = false)
+    CursorPage<ArticleComment> findRootComments(Long articleId, ArticleCommentCursor cursor, int size);
+
+    /**
+     * 주어진 최상위 댓글들에 달린 모든 대댓글 (대댓글의 대댓글 포함) 을 화면 순서 (path 순) 로 가져온다.
+     * 최상위 댓글 수와 관계없이 path 범위 조건으로 1번의 query 로 가져오고, 작성자는 함께 (fetch join) 가져온다.
+     * path 가 아직 없는 최상위 댓글의 대댓글은 부모 댓글 id 로 (깊이마다 1번의 query) 가져온다.
+     */
+    @RestResource(exported = false)
+    List<ArticleComment> findRepliesOf(Collection<ArticleComment> rootComments);
+
+    /**
+     * path 로 시작하는 댓글, 즉 해당 댓글과 그 하위 댓글 전체 (thread) 를 화면 순서 (path 순) 로 한 번의 범위 query 로 가져온다.
+     * 작성자는 함께 (fetch join) 가져온다.
+     */
+    @RestResource(exported = false)
+    List<ArticleComment> findThread(String path);
+
+    /**
+     * path 채우기용. path 가 없고 id 가 {@code lastId} 보다 큰 댓글을 id 순으로 {@code limit} 개 만큼 가져온다.
+     */
+    @RestResource(exported = false)
+    List<ArticleCommentPath> findPathsToFill(long lastId, int limit);
+
+    /**
+     * path 채우기용. 주어진 id 의 댓글 path 를 가져온다. 순서는 보장하지 않는다.
+     */
+    @RestResource(exported = false)
+    List<ArticleCommentPath> findPathsByIds(Collection<Long> articleCommentIds);
+
+    /**
+     * path 채우기용. 영속성 context 를 거치지 않고 (bulk update) 댓글 path 를 바꾼다.
+     */
+    @RestResource(exported = false)
+    long updatePath(Long articleCommentId, String path);
+}
@@ -0,0 +1,161 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCommentPath;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    // 게시글 목록과 마찬가지로 offset 대신 (createdAt, id) 위치를 기준으로 size + 1 개만 읽는다. (1개는 다음 page 가 있는지 확인용)
+    // 최상위 댓글은 최신순이지만 같은 시각끼리는 먼저 쓴 댓글 (id asc) 이 앞에 온다. (ArticleCommentTree 와 같은 순서)
+    @Override
+    public CursorPage<ArticleComment> findRootComments(Long articleId, ArticleCommentCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder where = new BooleanBuilder(articleComment.article.id.eq(articleId))
+                .and(articleComment.parentCommentId.isNull());
+        if (cursor != null) {
+            where.and(articleComment.createdAt.lt(cursor.createdAt())
+                    .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())))
+            );
+        }
+
+        List<ArticleComment> rows = from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(where)
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return CursorPage.empty(size);
+        }
+
+        List<ArticleComment> content = rows.subList(0, Math.min(rows.size(), size));
+        ArticleComment last = content.get(content.size() - 1);
+        String nextCursor = rows.size() > size
+                ? ArticleCommentCursor.of(last.getCreatedAt(), last.getId()).encode()
+                : null;
+
+        return CursorPage.of(List.copyOf(content), size, 0, null, nextCursor);
+    }
+
+    // 하위 댓글의 path 는 모두 최상위 댓글 path 로 시작하므로, 최상위 댓글마다 path index 의 범위 하나씩만 읽으면 된다.
+    @Override
+    public List<ArticleComment> findRepliesOf(Collection<ArticleComment> rootComments) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder inThreads = new BooleanBuilder();
+        List<Long> rootCommentIdsWithoutPath = new ArrayList<>();
+        for (ArticleComment rootComment : rootComments) {
+            if (rootComment.getPath() == null) {
+                rootCommentIdsWithoutPath.add(rootComment.getId());
+            } else {
+                inThreads.or(articleComment.path.startsWith(rootComment.getPath())
+                        .and(articleComment.path.ne(rootComment.getPath())));
+            }
+        }
+
+        List<ArticleComment> replies = new ArrayList<>();
+        if (inThreads.hasValue()) {
+            replies.addAll(from(articleComment)
+                    .innerJoin(articleComment.userAccount).fetchJoin()
+                    .where(inThreads)
+                    .orderBy(articleComment.path.asc())
+                    .fetch());
+        }
+        replies.addAll(findRepliesByParentCommentIds(rootCommentIdsWithoutPath));
+
+        return replies;
+    }
+
+    @Override
+    public List<ArticleComment> findThread(String path) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(articleComment.path.startsWith(path))
+                .orderBy(articleComment.path.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleCommentPath> findPathsToFill(long lastId, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .select(pathProjection())
+                .where(articleComment.path.isNull(), articleComment.id.gt(lastId))
+                .orderBy(articleComment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleCommentPath> findPathsByIds(Collection<Long> articleCommentIds) {
+        if (articleCommentIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+        return from(articleComment)
+                .select(pathProjection())
+                .where(articleComment.id.in(articleCommentIds))
+                .fetch();
+    }
+
+    @Override
+    public long updatePath(Long articleCommentId, String path) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return update(articleComment)
+                .set(articleComment.path, path)
+                .where(articleComment.id.eq(articleCommentId))
+                .execute();
+    }
+
+    // path 가 없는 댓글은 부모 댓글 id 만 알고 있으므로, 한 단계씩 내려가면서 바로 위 단계 댓글들의 대댓글을 한 번에 가져온다.
+    private List<ArticleComment> findRepliesByParentCommentIds(Collection<Long> rootCommentIds) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<ArticleComment> replies = new ArrayList<>();
+        Collection<Long> parentCommentIds = rootCommentIds;
+        while (!parentCommentIds.isEmpty()) {
+            List<ArticleComment> level = from(articleComment)
+                    .innerJoin(articleComment.userAccount).fetchJoin()
+                    .where(articleComment.parentCommentId.in(parentCommentIds))
+                    .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                    .fetch();
+
+            replies.addAll(level);
+            parentCommentIds = level.stream().map(ArticleComment::getId).toList();
+        }
+
+        return replies;
+    }
+
+    private static Expression<ArticleCommentPath> pathProjection() {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return Projections.constructor(ArticleCommentPath.class,
+                articleComment.id,
+                articleComment.parentCommentId,
+                articleComment.path
+        );
+    }
+}
@@ -1,11 +1,20 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ArticleRepositoryCustom {
 
@@ -16,4 +25,89 @@ public interface ArticleRepositoryCustom {
     @Deprecated
     List<String> findAllDistinctHashtags();
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+
+    /**
+     * 검색 조건에 맞는 게시글 수를 {@code limit} 개 까지만 센다. 결과가 {@code limit} 이면 실제로는 그 이상일 수 있다.
+     * 검색 결과가 아무리 많아도 DB 가 {@code limit} 개의 row 까지만 세고, 애플리케이션은 숫자 하나만 받으므로 비용에 상한이 있다.
+     */
+    @RestResource(exported = false)
+    long countUpTo(SearchType searchType, String searchKeyword, long limit);
+
+    /**
+     * {@link #findByHashtagNames(Collection, Pageable)} 의 keyset (cursor) pagination 버전.
+     * {@code cursor} 가 {@code null} 이면 첫 page 를 가져온다.
+     */
+    @RestResource(exported = false)
+    CursorPage<Article> findByHashtagNames(Collection<String> hashtagNames, ArticleCursor cursor, int size);
+
+    /**
+     * 검색 조건에 맞는 게시글을 (createdAt desc, id desc) 순서로 {@code cursor} 다음 (또는 이전) 위치부터 {@code size} 개 만큼 가져온다.
+     * 검색어가 없으면 전체 게시글이 대상이다. count query 는 실행하지 않는다.
+     */
+    @RestResource(exported = false)
+    CursorPage<Article> findByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size);
+
+    /**
+     * 게시글 목록용. 검색 조건에 맞는 게시글을 entity 대신 {@link ArticleSummaryDto} 로 가져온다. count query 는 실행하지 않는다.
+     * <ul>
+     *     <li>본문은 앞부분만, 작성자는 id 와 nickname 만 읽는다.</li>
+     *     <li>해시태그는 page 의 게시글 id 로 한 번의 query 에서 모두 가져온다.</li>
+     *     <li>해시태그 검색은 {@link #countUpTo(SearchType, String, long)} 와 같이 join 방식으로 찾는다.</li>
+     * </ul>
+     */
+    @RestResource(exported = false)
+    Slice<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 주어진 id 의 게시글 목록 정보를 가져온다. 순서는 보장하지 않는다.
+     */
+    @RestResource(exported = false)
+    List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds);
+
+    /**
+     * 주어진 id 의 게시글 목록 정보 중 {@code pageable} 의 정렬 기준으로 해당 page 만 가져온다. count query 는 실행하지 않는다.
+     * 정렬 (해시태그 포함) 과 page 계산은 {@link #findSummaries(SearchType, String, Pageable)} 와 같다.
+     */
+    @RestResource(exported = false)
+    List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds, Pageable pageable);
+
+    /**
+     * {@link #findByCursor(SearchType, String, ArticleCursor, int)} 의 목록 화면용 ({@link ArticleSummaryDto}) 버전.
+     */
+    @RestResource(exported = false)
+    CursorPage<ArticleSummaryDto> findSummariesByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size);
+
+    /**
+     * 전문 검색 색인 구성용. id 가 {@code lastId} 보다 큰 게시글을 id 순으로 {@code limit} 개 만큼 가져온다.
+     * entity 대신 id, 제목, 본문만 읽어 오므로 전체 게시글을 훑어도 영속성 context 가 커지지 않는다.
+     */
+    @RestResource(exported = false)
+    List<ArticleSearchDocument> findSearchDocuments(long lastId, int limit);
+
+    /**
+     * 내보내기 (export) 용. 검색 조건 ({@link #findByCursor} 와 같음) 에 맞는 게시글을 id 순으로, 한 방향 cursor 로 {@code fetchSize} 개씩 DB 에서 받아 가며 읽는다.
+     * entity 대신 {@link ArticleExportRow} 로 읽으므로 영속성 context 에 쌓이지 않고, 게시글 수와 관계없이 메모리 사용량이 일정하다.
+     * 반환한 stream 은 transaction 안에서 읽고 닫아야 한다. (try-with-resources)
+     */
+    @RestResource(exported = false)
+    Stream<ArticleExportRow> streamExportRows(SearchType searchType, String searchKeyword, int fetchSize);
+
+    /**
+     * 게시글의 댓글 수를 {@code delta} 만큼 바꾼다. 영속성 context 를 거치지 않는 한 번의 update 문 (bulk update) 이므로 동시에 쓰여도 증감이 사라지지 않는다.
+     */
+    @RestResource(exported = false)
+    long addCommentCount(Long articleId, long delta);
+
+    /**
+     * 댓글 수 보정용. id 가 {@code lastId} 보다 큰 게시글 id 를 id 순으로 {@code limit} 개 만큼 가져온다.
+     */
+    @RestResource(exported = false)
+    List<Long> findIdsAfter(long lastId, int limit);
+
+    /**
+     * 댓글 수 보정용. id 가 {@code fromId} 초과 {@code toId} 이하인 게시글 중 댓글 수가 실제와 다른 게시글의 댓글 수를 다시 세어 고치고, 고친 게시글 수를 반환한다.
+     */
+    @RestResource(exported = false)
+    long recountCommentCounts(long fromId, long toId);
 }
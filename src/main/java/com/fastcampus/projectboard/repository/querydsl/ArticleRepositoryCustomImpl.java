@@ -2,20 +2,55 @@ package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QArticleComment;
 import com.fastcampus.projectboard.domain.QHashtag;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import javax.sql.DataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
-    public ArticleRepositoryCustomImpl() {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ArticleRepositoryCustomImpl(DataSource dataSource) {
         super(Article.class);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
     }
 
     @Override
@@ -55,4 +90,320 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        JPQLQuery<ArticleSummaryDto> query = from(article).select(summaryProjection());
+        if (searchType == SearchType.HASHTAG && searchKeyword != null && !searchKeyword.isBlank()) {
+            query.innerJoin(article.hashtags, hashtag)
+                    .where(hashtag.hashtagName.in(Arrays.asList(searchKeyword.split(" "))));
+        } else {
+            query.where(searchCondition(searchType, searchKeyword));
+        }
+        applySummarySorting(pageable.getSort(), query);
+
+        // 1개를 더 읽어서 다음 page 가 있는지만 확인한다.
+        List<ArticleSummaryDto> rows = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(withHashtagNames(rows.subList(0, Math.min(rows.size(), pageable.getPageSize()))), pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        return withHashtagNames(from(article)
+                .select(summaryProjection())
+                .where(article.id.in(articleIds))
+                .fetch());
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds, Pageable pageable) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        JPQLQuery<ArticleSummaryDto> query = from(article)
+                .select(summaryProjection())
+                .where(article.id.in(articleIds));
+        applySummarySorting(pageable.getSort(), query);
+
+        return withHashtagNames(query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
+    }
+
+    @Override
+    public CursorPage<ArticleSummaryDto> findSummariesByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        CursorPage<ArticleSummaryDto> page = findPageByCursor(
+                summaryProjection(), ArticleSummaryDto::createdAt, ArticleSummaryDto::id,
+                searchCondition(searchType, searchKeyword), cursor, size
+        );
+
+        return CursorPage.of(withHashtagNames(page.content()), page.size(), page.pageNumber(), page.previousCursor(), page.nextCursor());
+    }
+
+    @Override
+    public long countUpTo(SearchType searchType, String searchKeyword, long limit) {
+        // JPQL 은 from 절 sub query 를 쓸 수 없어서, limit 을 건 sub query 를 DB 에서 세도록 SQL 로 실행한다.
+        // 목록 조회와 같은 조건으로 세야 page 계산이 맞는다. (hashtag 검색은 join 방식)
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        String condition = "";
+        if (searchType != null && searchKeyword != null && !searchKeyword.isBlank()) {
+            parameters.addValue("pattern", "%" + escapeLike(searchKeyword) + "%");
+            condition = switch (searchType) {
+                case TITLE -> " where a.title like :pattern escape '!'";
+                case CONTENT -> " where a.content like :pattern escape '!'";
+                case ID -> " where a.user_id like :pattern escape '!'";
+                case NICKNAME -> " join user_account u on u.user_id = a.user_id where u.nickname like :pattern escape '!'";
+                case HASHTAG -> {
+                    parameters.addValue("hashtagNames", Arrays.asList(searchKeyword.split(" ")));
+                    yield " join article_hashtag ah on ah.article_id = a.id"
+                            + " join hashtag h on h.id = ah.hashtag_id where h.hashtag_name in (:hashtagNames)";
+                }
+            };
+        }
+
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from (select 1 from article a" + condition + " limit :limit) capped", parameters, Long.class);
+
+        return count == null ? 0L : count;
+    }
+
+    // querydsl 의 contains 와 같이 '!' 를 escape 문자로 사용한다.
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    @Override
+    public CursorPage<Article> findByHashtagNames(Collection<String> hashtagNames, ArticleCursor cursor, int size) {
+        QArticle article = QArticle.article;
+
+        // join 대신 exists sub query 를 사용해서 여러 hashtag 에 걸린 게시글이 중복으로 나오지 않도록 한다.
+        return findPageByCursor(article, Article::getCreatedAt, Article::getId, article.hashtags.any().hashtagName.in(hashtagNames), cursor, size);
+    }
+
+    @Override
+    public CursorPage<Article> findByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        QArticle article = QArticle.article;
+        return findPageByCursor(article, Article::getCreatedAt, Article::getId, searchCondition(searchType, searchKeyword), cursor, size);
+    }
+
+    @Override
+    public List<ArticleSearchDocument> findSearchDocuments(long lastId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleSearchDocument.class, article.id, article.title, article.content))
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // getResultStream 은 hibernate 의 forward only ScrollableResults 위에서 동작한다.
+    // fetch size 가 없으면 driver 에 따라 (PostgreSQL 등) 결과 전체를 메모리에 받아 두므로 지정한다.
+    @Override
+    public Stream<ArticleExportRow> streamExportRows(SearchType searchType, String searchKeyword, int fetchSize) {
+        QArticle article = QArticle.article;
+
+        // query hint 는 JPQLQuery 가 아닌 JPAQuery 에만 있다.
+        return getQuerydsl().createQuery(article)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .select(Projections.constructor(ArticleExportRow.class,
+                        article.id,
+                        article.userAccount.userId,
+                        article.title,
+                        article.content,
+                        article.createdAt
+                ))
+                .where(searchCondition(searchType, searchKeyword))
+                .orderBy(article.id.asc())
+                .stream();
+    }
+
+    @Override
+    public long addCommentCount(Long articleId, long delta) {
+        QArticle article = QArticle.article;
+
+        return update(article)
+                .set(article.commentCount, article.commentCount.add(delta))
+                .where(article.id.eq(articleId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(long lastId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id)
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 댓글 수는 (article_id, parentCommentId, createdAt) index 로 게시글마다 센다. 이미 맞는 게시글은 고치지 않는다.
+    @Override
+    public long recountCommentCounts(long fromId, long toId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+        JPQLQuery<Long> actualCount = JPAExpressions
+                .select(articleComment.count())
+                .from(articleComment)
+                .where(articleComment.article.id.eq(article.id));
+
+        return update(article)
+                .set(article.commentCount, actualCount)
+                .where(article.id.gt(fromId), article.id.loe(toId), article.commentCount.ne(actualCount))
+                .execute();
+    }
+
+    private Predicate searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.in(Arrays.asList(searchKeyword.split(" ")));
+        };
+    }
+
+    // 목록 한 줄에 필요한 column 만 읽는다. (작성자는 many-to-one 이므로 join 해도 row 가 늘어나지 않는다.)
+    private static Expression<ArticleSummaryDto> summaryProjection() {
+        QArticle article = QArticle.article;
+
+        return Projections.constructor(ArticleSummaryDto.class,
+                article.id,
+                article.title,
+                article.content.substring(0, ArticleSummaryDto.CONTENT_PREVIEW_LENGTH),
+                article.commentCount,
+                article.createdAt,
+                article.userAccount.userId,
+                article.userAccount.nickname
+        );
+    }
+
+    // 해시태그는 collection 이므로 path 로 바로 정렬할 수 없다. join 한 해시태그 이름으로 정렬한다.
+    // (해시태그가 여러 개인 게시글은 기존 entity 목록과 마찬가지로 해시태그 수 만큼 나온다.)
+    private void applySummarySorting(Sort sort, JPQLQuery<ArticleSummaryDto> query) {
+        QArticle article = QArticle.article;
+
+        for (Sort.Order order : sort) {
+            if ("hashtags".equals(order.getProperty())) {
+                QHashtag sortHashtag = new QHashtag("sortHashtag");
+                query.leftJoin(article.hashtags, sortHashtag)
+                        .orderBy(order.isAscending() ? sortHashtag.hashtagName.asc() : sortHashtag.hashtagName.desc());
+            } else {
+                getQuerydsl().applySorting(Sort.by(order), query);
+            }
+        }
+    }
+
+    // page 에 나온 게시글들의 해시태그를 (게시글 수와 관계없이) 한 번의 query 로 가져와서 채운다.
+    private List<ArticleSummaryDto> withHashtagNames(List<ArticleSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        Set<Long> articleIds = summaries.stream().map(ArticleSummaryDto::id).collect(Collectors.toSet());
+
+        Map<Long, Set<String>> hashtagNamesByArticleId = new HashMap<>();
+        from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(article.id, hashtag.hashtagName)
+                .where(article.id.in(articleIds))
+                .orderBy(hashtag.hashtagName.asc())
+                .fetch()
+                .forEach(row -> hashtagNamesByArticleId
+                        .computeIfAbsent(row.get(article.id), id -> new LinkedHashSet<>())
+                        .add(row.get(hashtag.hashtagName))
+                );
+
+        return summaries.stream()
+                .map(summary -> summary.withHashtagNames(Collections.unmodifiableSet(
+                        hashtagNamesByArticleId.getOrDefault(summary.id(), Set.of())
+                )))
+                .toList();
+    }
+
+    // offset 대신 (createdAt, id) 위치를 기준으로 읽는다. -> (createdAt, id) index 를 타고 해당 위치부터 size + 1 개만 읽으면 된다.
+    // 1개를 더 읽는 것은 count query 없이 그 다음 page 가 있는지 알기 위해서이다.
+    private <T> CursorPage<T> findPageByCursor(
+            Expression<T> projection,
+            Function<T, LocalDateTime> createdAtOf,
+            Function<T, Long> idOf,
+            Predicate condition,
+            ArticleCursor cursor,
+            int size
+    ) {
+        QArticle article = QArticle.article;
+        boolean backward = cursor != null && cursor.direction() == ArticleCursor.Direction.PREVIOUS;
+
+        BooleanBuilder where = new BooleanBuilder(condition);
+        if (cursor != null) {
+            where.and(backward
+                    ? article.createdAt.gt(cursor.createdAt())
+                            .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())))
+                    : article.createdAt.lt(cursor.createdAt())
+                            .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())))
+            );
+        }
+        // 이전 page 는 반대 방향으로 읽은 뒤 뒤집어서 원래 순서 (최신순) 로 맞춘다.
+        OrderSpecifier<?>[] orders = backward
+                ? new OrderSpecifier<?>[]{article.createdAt.asc(), article.id.asc()}
+                : new OrderSpecifier<?>[]{article.createdAt.desc(), article.id.desc()};
+
+        List<T> rows = from(article)
+                .select(projection)
+                .where(where)
+                .orderBy(orders)
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasMore = rows.size() > size;
+        List<T> content = new ArrayList<>(rows.subList(0, Math.min(rows.size(), size)));
+        if (backward) {
+            Collections.reverse(content);
+        }
+        if (content.isEmpty()) {
+            return CursorPage.empty(size);
+        }
+
+        // 이전 방향으로 더 읽을 게 없다면 첫 page 에 도착한 것이다.
+        int pageNumber = cursor == null || (backward && !hasMore) ? 0 : cursor.pageNumber();
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        boolean hasNext = backward || hasMore;
+
+        T first = content.get(0);
+        T last = content.get(content.size() - 1);
+        return CursorPage.of(
+                content,
+                size,
+                pageNumber,
+                hasPrevious ? ArticleCursor.of(createdAtOf.apply(first), idOf.apply(first), ArticleCursor.Direction.PREVIOUS, Math.max(pageNumber - 1, 0)).encode() : null,
+                hasNext ? ArticleCursor.of(createdAtOf.apply(last), idOf.apply(last), ArticleCursor.Direction.NEXT, pageNumber + 1).encode() : null
+        );
+    }
 }
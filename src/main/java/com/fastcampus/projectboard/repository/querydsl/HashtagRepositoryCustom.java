@@ -1,7 +1,56 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface HashtagRepositoryCustom {
+
+    /**
+     * 전체 해시태그 이름을 인기순 (해시태그가 달린 게시글 수가 많은 순, 같으면 이름순) 으로 가져온다.
+     */
     List<String> findAllHashtagNames();
+
+    /**
+     * 해시태그가 달린 게시글 수. 영속성 context 의 entity 대신 항상 DB 에서 읽는다. 없는 해시태그이면 비어있다.
+     */
+    @RestResource(exported = false)
+    Optional<Long> findArticleCountById(Long hashtagId);
+
+    /**
+     * 해시태그들을 영속성 context 를 거치지 않고 한 번의 (multi-row) insert 문으로 저장한다.
+     * 이미 있는 이름 (다른 요청이 먼저 저장한 이름 포함) 은 DB 가 unique index 충돌 없이 건너뛰므로, 저장된 해시태그는 이름으로 다시 조회한다.
+     * 해시태그 query cache 는 hibernate 의 entity insert 때와 같이 무효화되므로, 같은 transaction 에서 바로 조회해도 저장된 해시태그가 조회된다.
+     */
+    @RestResource(exported = false)
+    void insertIgnoringDuplicates(Collection<String> hashtagNames);
+
+    /**
+     * 주어진 해시태그 중 어느 게시글에도 달려 있지 않은 해시태그를 영속성 context 를 거치지 않고 한 번에 (bulk delete) 지우고 지운 해시태그 수를 반환한다.
+     * 게시글 목록 ({@code Hashtag.articles}) 을 읽지 않고 article_hashtag 에 row 가 하나라도 있는지만 (not exists) 확인한다.
+     * 지울 해시태그가 있을 때만 bulk delete 를 실행하므로, 지울 것이 없으면 해시태그 2차 cache 와 query cache 는 그대로 남는다.
+     */
+    @RestResource(exported = false)
+    long deleteWithoutArticles(Collection<Long> hashtagIds);
+
+    /**
+     * 해시태그들의 게시글 수를 {@code delta} 만큼 바꾼다. 영속성 context 를 거치지 않는 한 번의 update 문 (SQL) 이다.
+     * hibernate 를 거치지 않으므로 해시태그 2차 cache 와 query cache 는 그대로 남는다. (게시글 수는 query 로만 읽는다)
+     */
+    @RestResource(exported = false)
+    long addArticleCount(Collection<Long> hashtagIds, long delta);
+
+    /**
+     * 게시글 수 보정용. id 가 {@code lastId} 보다 큰 해시태그 id 를 id 순으로 {@code limit} 개 만큼 가져온다.
+     */
+    @RestResource(exported = false)
+    List<Long> findIdsAfter(long lastId, int limit);
+
+    /**
+     * 게시글 수 보정용. id 가 {@code fromId} 초과 {@code toId} 이하인 해시태그 중 게시글 수가 실제와 다른 해시태그의 게시글 수를 다시 세어 고치고, 고친 해시태그 수를 반환한다.
+     */
+    @RestResource(exported = false)
+    long recountArticleCounts(long fromId, long toId);
 }
@@ -2,14 +2,49 @@ package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.QHashtag;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
 
-    public HashtagRepositoryCustomImpl() {
+    private static final String INSERT_HASHTAGS = "insert into hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) values :rows";
+    // 이미 있는 이름은 unique index 충돌 대신 아무것도 하지 않는다. 문법이 DB 마다 달라서 hibernate dialect 로 고른다.
+    private static final String MYSQL_INSERT_IGNORING_DUPLICATES = INSERT_HASHTAGS + " on duplicate key update id = id";
+    private static final String POSTGRESQL_INSERT_IGNORING_DUPLICATES = INSERT_HASHTAGS + " on conflict (hashtag_name) do nothing";
+    // 그 외 (H2 등) 는 표준 merge 문
+    private static final String MERGE_HASHTAGS = "merge into hashtag"
+            + " using (values :rows) new_hashtag (hashtag_name, created_at, created_by, modified_at, modified_by)"
+            + " on hashtag.hashtag_name = new_hashtag.hashtag_name"
+            + " when not matched then insert (hashtag_name, created_at, created_by, modified_at, modified_by)"
+            + " values (new_hashtag.hashtag_name, new_hashtag.created_at, new_hashtag.created_by, new_hashtag.modified_at, new_hashtag.modified_by)";
+    private static final String[] HASHTAG_QUERY_SPACES = {"hashtag"};
+    // 게시글 수 column 은 SQL 로 직접 바꾼다. hibernate bulk update (HQL) 는 실행할 때마다 hashtag / articleHashtags 2차 cache 와 해시태그 query cache 를 통째로 비운다.
+    private static final String ADD_ARTICLE_COUNT = "update hashtag set article_count = article_count + :delta where id in (:hashtagIds)";
+    private static final String RECOUNT_ARTICLE_COUNTS = "update hashtag h set article_count = (select count(*) from article_hashtag ah where ah.hashtag_id = h.id)"
+            + " where h.id > :fromId and h.id <= :toId"
+            + " and h.article_count <> (select count(*) from article_hashtag ah where ah.hashtag_id = h.id)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    public HashtagRepositoryCustomImpl(DataSource dataSource, AuditorAware<String> auditorAware) {
         super(Hashtag.class);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -18,7 +53,114 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
         return from(hashtag)
                 .select(hashtag.hashtagName)
+                .orderBy(hashtag.articleCount.desc(), hashtag.hashtagName.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<Long> findArticleCountById(Long hashtagId) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return Optional.ofNullable(from(hashtag)
+                .select(hashtag.articleCount)
+                .where(hashtag.id.eq(hashtagId))
+                .fetchOne());
+    }
+
+    // 같은 이름을 동시에 저장하는 요청이 있어도 먼저 저장한 쪽의 row 를 그대로 쓰면 되므로, 충돌 시 다시 시도하지 않고 건너뛴다.
+    // auditing 값 (작성 일시/작성자) 은 entity listener 를 거치지 않으므로 AuditorAware 로 직접 채운다.
+    @Override
+    public void insertIgnoringDuplicates(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        List<Object[]> rows = hashtagNames.stream()
+                .map(hashtagName -> new Object[]{hashtagName, now, auditor, now, auditor})
+                .toList();
+
+        SessionImplementor session = Objects.requireNonNull(getEntityManager()).unwrap(SessionImplementor.class);
+        jdbcTemplate.update(insertIgnoringDuplicatesSql(session.getJdbcServices().getDialect()), new MapSqlParameterSource("rows", rows));
+        invalidateQueryCache(session);
+    }
+
+    // articles is empty -> not exists (select 1 from article_hashtag where hashtag_id = ?) 로 바뀌므로 게시글이 아무리 많아도 row 하나만 확인한다.
+    // bulk delete 이므로 hibernate 가 해시태그 2차 cache 와 해시태그 query cache 를 함께 무효화한다.
+    // 게시글 수정/삭제 때마다 불리지만 대부분 지울 해시태그가 없으므로, 먼저 조회해서 지울 해시태그가 있을 때만 bulk delete 를 실행한다. (cache 를 비우지 않음)
+    @Override
+    public long deleteWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+        List<Long> hashtagIdsWithoutArticles = from(hashtag)
+                .select(hashtag.id)
+                .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                .fetch();
+        if (hashtagIdsWithoutArticles.isEmpty()) {
+            return 0;
+        }
+
+        return delete(hashtag)
+                .where(hashtag.id.in(hashtagIdsWithoutArticles), hashtag.articles.isEmpty())
+                .execute();
+    }
+
+    // 게시글 수는 query 로만 읽으므로 (findAllHashtagNames, findArticleCountById) 2차 cache 에 남아있는 entity 의 값은 그대로 둔다.
+    @Override
+    public long addArticleCount(Collection<Long> hashtagIds, long delta) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(ADD_ARTICLE_COUNT, new MapSqlParameterSource()
+                .addValue("delta", delta)
+                .addValue("hashtagIds", hashtagIds));
+    }
+
+    @Override
+    public List<Long> findIdsAfter(long lastId, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(hashtag.id)
+                .where(hashtag.id.gt(lastId))
+                .orderBy(hashtag.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
-}
\ No newline at end of file
+    // 이미 맞는 해시태그는 고치지 않는다. addArticleCount 와 같이 SQL 로 직접 바꾼다.
+    @Override
+    public long recountArticleCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECOUNT_ARTICLE_COUNTS, new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId));
+    }
+
+    private static String insertIgnoringDuplicatesSql(Dialect dialect) {
+        if (dialect instanceof MySQLDialect) {
+            return MYSQL_INSERT_IGNORING_DUPLICATES;
+        }
+        if (dialect instanceof PostgreSQL81Dialect) {
+            return POSTGRESQL_INSERT_IGNORING_DUPLICATES;
+        }
+
+        return MERGE_HASHTAGS;
+    }
+
+    // hibernate 를 거치지 않은 insert 이므로, hibernate 가 entity insert 때 하는 것과 같이 해시태그 query cache (findByHashtagNameIn) 를 무효화한다.
+    // (지금 한 번, transaction 이 끝난 뒤 한 번. 그 사이에는 cache 된 결과를 쓰지 않는다. 2차 cache 의 해시태그 entity 는 새 row 이므로 건드릴 것이 없다)
+    private static void invalidateQueryCache(SessionImplementor session) {
+        if (!session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+
+        TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+        timestampsCache.preInvalidate(HASHTAG_QUERY_SPACES, session);
+        session.getActionQueue().registerProcess((success, completedSession) -> timestampsCache.invalidate(HASHTAG_QUERY_SPACES, completedSession));
+    }
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.projectboard.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검색 색인, 검색 결과 개수 cache, 상세 화면 cache 처럼 DB 에 반영된 내용만 가지고 있어야 하는 것들을 transaction 이 commit 된 뒤에 갱신한다.
+ * commit 전에 갱신하면 그 사이 다른 요청이 commit 전 (예전) 내용을 다시 읽어 채울 수 있고, rollback 되면 DB 에 없는 내용이 남는다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * transaction 안이라면 commit 이후에, 아니면 바로 실행한다.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -6,15 +6,24 @@ import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentPath;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,9 +31,13 @@ import java.util.List;
 @Service
 public class ArticleCommentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20; // 최상위 댓글 수
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleDetailCache articleDetailCache;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(long articleId) {
@@ -34,6 +47,28 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 게시글의 최상위 댓글을 {@code cursor} 다음 위치부터 {@code size} 개 (최대 {@link #MAX_PAGE_SIZE}) 만큼, 그 대댓글과 함께 반환한다.
+     * 댓글 수와 관계없이 최상위 댓글 1번, 대댓글 1번 (path 범위 조건) 의 query 로 가져온다.
+     * 결과 목록은 최상위 댓글 (화면 순서) 뒤에 대댓글 (path 순) 이 이어진 평평한 목록이므로, 계층 구성은 이 순서를 그대로 쓰는 {@code ArticleCommentTree} 로 한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleCommentDto> searchArticleCommentPage(long articleId, ArticleCommentCursor cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CursorPage<ArticleComment> rootComments = articleCommentRepository.findRootComments(articleId, cursor, pageSize);
+        if (rootComments.content().isEmpty()) {
+            return CursorPage.empty(pageSize);
+        }
+
+        List<ArticleComment> replies = articleCommentRepository.findRepliesOf(rootComments.content());
+
+        List<ArticleCommentDto> comments = new ArrayList<>(rootComments.content().size() + replies.size());
+        rootComments.content().forEach(comment -> comments.add(ArticleCommentDto.from(comment)));
+        replies.forEach(comment -> comments.add(ArticleCommentDto.from(comment)));
+
+        return CursorPage.of(comments, pageSize, 0, null, rootComments.nextCursor());
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
@@ -41,12 +76,16 @@ public class ArticleCommentService {
 
             ArticleComment articleComment = dto.toEntity(article, userAccount);
 
+            ArticleComment parentComment = null;
             if (dto.parentCommentId() != null) {
-                ArticleComment parentComment = articleCommentRepository.getReferenceById(dto.parentCommentId());
+                parentComment = articleCommentRepository.getReferenceById(dto.parentCommentId());
                 parentComment.addChildComment(articleComment);
-            } else {
-                articleCommentRepository.save(articleComment);
             }
+            // path 는 자신의 id 로 만든다. 저장 (persist) 하면 미리 받아둔 id 가 insert 없이 정해지므로 바로 채운다. (insert 와 path update 는 flush 때 함께 실행)
+            articleCommentRepository.save(articleComment);
+            articleComment.assignPath(parentComment);
+            articleRepository.addCommentCount(dto.articleId(), 1);
+            articleDetailCache.evictAfterCommit(dto.articleId());
 
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
@@ -54,6 +93,80 @@ public class ArticleCommentService {
 
     }
 
+    /**
+     * path 도입 이전에 저장된 (path 가 없는) 댓글의 path 를 채운다.
+     * id 가 {@code lastId} 보다 큰 댓글을 id 순으로 {@code limit} 개 까지 채우고, 마지막으로 읽은 댓글 id 를 반환한다. 더 채울 댓글이 없으면 {@code lastId} 를 그대로 반환한다.
+     * 부모 댓글은 항상 대댓글보다 먼저 (작은 id 로) 저장되므로, id 순으로 채우면 부모 댓글의 path 가 먼저 채워진다.
+     */
+    public long fillArticleCommentPaths(long lastId, int limit) {
+        List<ArticleCommentPath> comments = articleCommentRepository.findPathsToFill(lastId, limit);
+        if (comments.isEmpty()) {
+            return lastId;
+        }
+
+        Map<Long, String> paths = new HashMap<>();
+        articleCommentRepository.findPathsByIds(comments.stream()
+                        .map(ArticleCommentPath::parentCommentId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .forEach(parentComment -> paths.put(parentComment.id(), parentComment.path()));
+
+        for (ArticleCommentPath comment : comments) {
+            String parentPath = comment.parentCommentId() == null ? null : paths.get(comment.parentCommentId());
+            if (comment.parentCommentId() != null && parentPath == null) {
+                log.warn("댓글 path 채우기 실패. 부모 댓글의 path 가 없습니다 - 댓글: {}, 부모 댓글: {}", comment.id(), comment.parentCommentId());
+                continue;
+            }
+
+            String path = ArticleComment.pathOf(parentPath, comment.id());
+            articleCommentRepository.updatePath(comment.id(), path);
+            paths.put(comment.id(), path); // 같은 묶음 안의 대댓글이 사용
+        }
+
+        return comments.get(comments.size() - 1).id();
+    }
+
+    /**
+     * service 를 거치지 않고 (Spring Data REST) 저장된 댓글의 path 를 채운다. 대댓글 조회가 path 범위 query 하나로 끝나도록 저장 직후에 호출한다.
+     * 부모 댓글의 path 가 아직 없으면 (path 도입 이전 댓글) 채우지 않는다. 애플리케이션이 뜰 때 path 채우기 작업이 이어서 채운다.
+     */
+    public void assignArticleCommentPath(Long articleCommentId, Long parentCommentId) {
+        String parentPath = null;
+        if (parentCommentId != null) {
+            parentPath = articleCommentRepository.findPathsByIds(List.of(parentCommentId)).stream()
+                    .map(ArticleCommentPath::path)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            if (parentPath == null) {
+                log.warn("댓글 path 채우기 실패. 부모 댓글의 path 가 없습니다 - 댓글: {}, 부모 댓글: {}", articleCommentId, parentCommentId);
+                return;
+            }
+        }
+
+        articleCommentRepository.updatePath(articleCommentId, ArticleComment.pathOf(parentPath, articleCommentId));
+    }
+
+    /**
+     * 게시글의 댓글 수 column 을 실제 댓글 수와 맞춘다. (Data REST 처럼 이 service 를 거치지 않는 쓰기가 있으면 어긋날 수 있다)
+     * id 가 {@code lastId} 보다 큰 게시글을 id 순으로 {@code limit} 개 까지 맞추고, 마지막 게시글 id 를 반환한다. 더 맞출 게시글이 없으면 {@code lastId} 를 그대로 반환한다.
+     */
+    public long reconcileCommentCounts(long lastId, int limit) {
+        List<Long> articleIds = articleRepository.findIdsAfter(lastId, limit);
+        if (articleIds.isEmpty()) {
+            return lastId;
+        }
+
+        long toId = articleIds.get(articleIds.size() - 1);
+        long corrected = articleRepository.recountCommentCounts(lastId, toId);
+        if (corrected > 0) {
+            log.warn("게시글 댓글 수 보정 - 게시글 id {} ~ {} 중 {} 건", articleIds.get(0), toId, corrected);
+        }
+
+        return toId;
+    }
+
     public void updateArticleComment(ArticleCommentDto dto) {
         try {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id()); // 기존 댓글 작성자
@@ -63,6 +176,7 @@ public class ArticleCommentService {
                 if(dto.content() != null) {
                     articleComment.setContent(dto.content());
                 }
+                articleDetailCache.evictAfterCommit(articleComment.getArticle().getId());
             }
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 수정하는데 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
@@ -70,7 +184,18 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        // 지운 뒤에는 어느 게시글의 댓글이었는지 알 수 없으므로 먼저 찾아둔다. (삭제 query 도 같은 영속성 context 를 사용)
+        Optional<ArticleComment> articleComment = articleCommentRepository.findById(articleCommentId);
+
+        long deletedCount = articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleComment.ifPresent(comment -> {
+            Long articleId = comment.getArticle().getId();
+            if (deletedCount > 0) {
+                // 대댓글도 함께 (cascade) 지워졌으므로 함께 뺀다. 대댓글 collection 은 삭제하면서 이미 읽어 두었다.
+                articleRepository.addCommentCount(articleId, -comment.countWithDescendants());
+            }
+            articleDetailCache.evictAfterCommit(articleId);
+        });
     }
 }
 
@@ -0,0 +1,67 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.exporter.ArticleExportFormat;
+import com.fastcampus.projectboard.service.exporter.ArticleExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 내보내기 (export). 전체 (또는 검색 조건에 맞는) 게시글을 NDJSON / CSV 로 쓴다.
+ * <p>
+ * Data REST ({@code /api/articles}) 로 page 를 넘겨 가며 받는 대신, 한 번의 query 를 한 방향 cursor 로 {@value #FETCH_SIZE} 개씩 받아 가며 바로 쓴다.
+ * 게시글은 entity 가 아닌 {@link ArticleExportRow} 로 읽으므로 영속성 context 에 쌓이지 않는다. (주기적으로 비울 것이 없다)
+ * 따라서 게시글 수와 관계없이 메모리 사용량이 일정하고, 첫 게시글부터 바로 응답을 시작한다.
+ * 단, MySQL driver 는 연결 속성 {@code useCursorFetch=true} 가 있어야 fetch size 대로 나눠 받는다. (없으면 결과 전체를 메모리에 받아 둔다)
+ * application.yaml 의 {@code spring.datasource.hikari.data-source-properties} 에 설정되어 있으므로, datasource 를 따로 구성한다면 JDBC URL 에 붙여야 한다.
+ * <p>
+ * 검색 조건은 {@link ArticleService#searchArticles} 와 같지만, 제목/본문 검색도 검색 엔진 대신 DB 에서 찾는다. (순서는 id 순)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    static final int FETCH_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 검색 조건에 맞는 게시글을 {@code outputStream} 에 모두 쓰고, 쓴 게시글 수를 반환한다. {@code outputStream} 은 닫힌다.
+     * 쓰는 동안 transaction (DB connection) 이 유지된다.
+     *
+     * @throws IOException 더 쓸 수 없음 (연결 끊김 등)
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(SearchType searchType, String searchKeyword, ArticleExportFormat format, OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        long count = 0;
+
+        try (Stream<ArticleExportRow> rows = articleRepository.streamExportRows(searchType, searchKeyword, FETCH_SIZE);
+             ArticleExportWriter writer = ArticleExportWriter.of(format, outputStream)) {
+            Iterator<ArticleExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        } catch (IOException e) {
+            log.warn("게시글 export 중단 - {} 건 쓴 뒤: {}", count, e.getMessage());
+            throw e;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("게시글 export 완료 - {} 건, {} ms", count, elapsedMillis);
+
+        return count;
+    }
+}
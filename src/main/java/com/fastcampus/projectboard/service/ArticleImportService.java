@@ -0,0 +1,217 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleImportResult;
+import com.fastcampus.projectboard.dto.ArticleImportResult.RowError;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.count.ArticleCounter;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import com.fastcampus.projectboard.service.importer.ArticleImportException;
+import com.fastcampus.projectboard.service.importer.ArticleImportFormat;
+import com.fastcampus.projectboard.service.importer.ArticleImportReader;
+import com.fastcampus.projectboard.service.importer.ArticleImportRow;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 대량 저장 (import). 이전 게시판의 게시글을 한 건씩 form 으로 올리지 않고 NDJSON / CSV 입력 하나로 옮겨온다.
+ * <p>
+ * 입력은 {@link ArticleImportReader} 로 한 건씩 읽고, {@value #BATCH_SIZE} 건씩 묶어서 저장한다.
+ * <ul>
+ *     <li>묶음마다 transaction 을 나눈다. commit 때 insert 가 JDBC batch 로 flush 되고 영속성 context 도 함께 닫히므로 (clear),
+ *     입력 크기와 관계없이 메모리 사용량이 일정하다. 실패한 묶음은 이미 저장된 묶음에 영향을 주지 않는다.</li>
+ *     <li>작성자는 묶음마다 한 번의 query 로 확인한다.</li>
+ *     <li>해시태그는 묶음 전체 본문의 해시태그 이름을 모아 {@link HashtagService#resolveHashtags} 한 번으로 조회/저장하고, 해시태그 게시글 수도 묶음마다 한 번에 늘린다.</li>
+ *     <li>검색 색인, 검색 결과 개수 cache, 게시글 수는 {@link ArticleService#saveArticle} 과 같이 commit 이후 갱신한다.</li>
+ * </ul>
+ * 작성 시각과 작성자 (createdAt, createdBy) 는 요청한 사용자 대신 입력의 값으로 저장한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+
+    public static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000; // 오류가 아주 많은 입력이어도 결과 크기는 일정하게
+    private static final int PROGRESS_LOG_INTERVAL = 100; // 묶음 수
+
+    private final HashtagService hashtagService;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final SearchCountStrategy searchCountStrategy;
+    private final ArticleCounter articleCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 입력의 게시글을 모두 저장하고 결과 (저장 수, 처리 속도, 줄 번호별 오류) 를 반환한다.
+     * 잘못된 게시글은 건너뛰고 결과에 남긴다.
+     *
+     * @throws IOException 입력을 끝까지 읽지 못함. 그 전까지 저장된 게시글은 그대로 남는다.
+     */
+    public ArticleImportResult importArticles(InputStream inputStream, ArticleImportFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (ArticleImportReader reader = ArticleImportReader.of(format, inputStream)) {
+            List<ArticleImportRow> batch = new ArrayList<>(BATCH_SIZE);
+            while (true) {
+                ArticleImportRow row;
+                try {
+                    row = reader.next();
+                } catch (ArticleImportException e) {
+                    progress.fail(e.getLine(), e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+
+                Optional<String> error = row.validate();
+                if (error.isPresent()) {
+                    progress.fail(row.line(), error.get());
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, progress);
+            }
+        } catch (IOException e) {
+            log.warn("게시글 import 중단 - 저장 {} 건, 실패 {} 건: {}", progress.imported, progress.failed, e.getMessage());
+            throw e;
+        }
+
+        ArticleImportResult result = progress.toResult(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("게시글 import 완료 - 저장 {} 건, 실패 {} 건, {} ms ({} 건/초)",
+                result.importedRows(), result.failedRows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+
+        return result;
+    }
+
+    private void importBatch(List<ArticleImportRow> rows, Progress progress) {
+        SavedBatch savedBatch;
+        try {
+            savedBatch = transactionTemplate.execute(status -> saveBatch(rows));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("게시글 import 묶음 저장 실패 - 줄 {} ~ {}", rows.get(0).line(), rows.get(rows.size() - 1).line(), e);
+            rows.forEach(row -> progress.fail(row.line(), "같은 묶음의 게시글을 저장하지 못했습니다. - " + e.getMostSpecificCause().getMessage()));
+            return;
+        }
+
+        savedBatch.errors().forEach(error -> progress.fail(error.line(), error.message()));
+        List<Article> articles = savedBatch.articles();
+        articles.forEach(article -> articleSearchEngine.index(article.getId(), article.getTitle(), article.getContent()));
+        articleCounter.add(articles.size());
+        searchCountStrategy.evictAll();
+
+        progress.imported += articles.size();
+        if (++progress.batches % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("게시글 import 진행 - 저장 {} 건, 실패 {} 건", progress.imported, progress.failed);
+        }
+    }
+
+    private SavedBatch saveBatch(List<ArticleImportRow> rows) {
+        Set<String> userIds = rows.stream()
+                .map(ArticleImportRow::userId)
+                .collect(Collectors.toUnmodifiableSet());
+        Map<String, UserAccount> userAccounts = userAccountRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserAccount::getUserId, Function.identity()));
+
+        List<RowError> errors = new ArrayList<>();
+        List<ArticleImportRow> importableRows = new ArrayList<>(rows.size());
+        List<Set<String>> hashtagNamesOfRows = new ArrayList<>(rows.size());
+        Set<String> hashtagNames = new HashSet<>();
+        for (ArticleImportRow row : rows) {
+            if (!userAccounts.containsKey(row.userId())) {
+                errors.add(RowError.of(row.line(), "작성자가 없습니다. - userId: " + row.userId()));
+                continue;
+            }
+
+            Set<String> hashtagNamesOfRow = hashtagService.parseHashtagNames(row.content());
+            importableRows.add(row);
+            hashtagNamesOfRows.add(hashtagNamesOfRow);
+            hashtagNames.addAll(hashtagNamesOfRow);
+        }
+
+        // 게시글마다 해시태그를 조회/저장하지 않고, 묶음 전체의 해시태그를 한 번에 처리한다.
+        Map<String, Hashtag> hashtags = hashtagNames.isEmpty()
+                ? Map.of()
+                : hashtagService.resolveHashtags(hashtagNames).stream()
+                        .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+        List<Article> articles = new ArrayList<>(importableRows.size());
+        for (int i = 0; i < importableRows.size(); i++) {
+            ArticleImportRow row = importableRows.get(i);
+            Article article = Article.of(userAccounts.get(row.userId()), row.title(), row.content());
+            article.keepOriginalAuditing(row.createdAt(), row.userId());
+            article.addHashtags(hashtagNamesOfRows.get(i).stream()
+                    .map(hashtags::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+            articles.add(article);
+        }
+        articleRepository.saveAll(articles);
+        addArticleCounts(articles);
+
+        return new SavedBatch(articles, errors);
+    }
+
+    // 해시태그마다 늘어난 게시글 수가 같은 것끼리 묶어서 update 한다. (대부분 1 이므로 update 문은 몇 개 되지 않는다)
+    private void addArticleCounts(List<Article> articles) {
+        articles.stream()
+                .flatMap(article -> article.getHashtags().stream())
+                .collect(Collectors.groupingBy(Hashtag::getId, Collectors.counting()))
+                .entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toUnmodifiableSet())))
+                .forEach((delta, hashtagIds) -> hashtagRepository.addArticleCount(hashtagIds, delta));
+    }
+
+    private record SavedBatch(List<Article> articles, List<RowError> errors) {}
+
+    private static final class Progress {
+        private long imported = 0;
+        private long failed = 0;
+        private long batches = 0;
+        private final List<RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(RowError.of(line, message));
+            }
+        }
+
+        private ArticleImportResult toResult(long elapsedMillis) {
+            return ArticleImportResult.of(imported + failed, imported, failed, elapsedMillis, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
@@ -4,22 +4,34 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
 import com.fastcampus.projectboard.dto.ArticleDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
+import com.fastcampus.projectboard.service.count.ArticleCounter;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import com.fastcampus.projectboard.service.monitoring.ArticleSearchEvent;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,42 +40,68 @@ import java.util.stream.Collectors;
 @Service
 public class ArticleService {
 
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final SearchCountStrategy searchCountStrategy;
+    private final ArticleCounter articleCounter;
+    private final ArticleDetailCache articleDetailCache;
 
     @Transactional(readOnly = true) // 검색기능으로 data 의 변경을 일어나지 않으므로
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchEvent event = new ArticleSearchEvent();
+        event.begin();
+        Page<ArticleSummaryDto> articles = findArticles(searchType, searchKeyword, pageable);
+        event.commit(searchType, searchKeyword, articles.getNumberOfElements(), articles.getTotalElements());
+
+        return articles;
+    }
+
+    private Page<ArticleSummaryDto> findArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
 
         // 1. 검색어가 없거나 whitespace 만으로 채워진 경우.
+        //
+        // 목록 화면에는 제목, 해시태그, 작성자, 작성일만 필요하므로 entity (본문 전체 + 작성자 전체) 대신
+        // 목록용 projection (ArticleSummaryDto) 으로 읽는다.
+        // service code 에서 entity 를 직접 처리하지 않으므로써 해당 코드 내애서 entity 가 노출되는 경우도 없다.
+        //
+        // 목록은 count query 없이 Slice 로 읽고, 전체 개수는 SearchCountStrategy 가 (cache / 추정치로) 채운다.
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            // Page 내 method map 의 경우 stream 없이 바로 젹용 가능??
-            // map(article -> ArticleDto.from(article)) 과 같이 lambda 표현식 대신
-            // method reference '::' 를 사용하여 표현함.
-            //
-            // 추가적으로 이와 같이 작성된 코드에서 service code 에서 entity 를 직접 처리하지 않으므로써
-            // 해당 코드 내애서 entity 가 노출되는 경우를 제거 함.
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return searchCountStrategy.toPage(articleRepository.findSummaries(null, null, pageable), searchType, searchKeyword);
         }
 
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                    Arrays.stream(searchKeyword.split(" ")).toList(),
-                    pageable
-            )
-                    .map(ArticleDto::from);
-        };
+        // 제목/본문 검색은 LIKE '%keyword%' 대신 검색 엔진의 색인을 사용한다.
+        // 기본 정렬 (또는 정렬 없음) 이면 검색 엔진 순위대로, 목록 화면에서 정렬을 고르면 찾아낸 게시글을 DB 에서 그 순서로 정렬한다.
+        if (articleSearchEngine.supports(searchType, searchKeyword)) {
+            List<Long> matchedIds = articleSearchEngine.search(searchType, searchKeyword);
+            if (isRankOrder(pageable.getSort())) {
+                return findArticlesByIds(matchedIds, pageable);
+            }
+
+            return new PageImpl<>(articleRepository.findSummariesByIds(matchedIds, pageable), pageable, matchedIds.size());
+        }
+
+        Slice<ArticleSummaryDto> articles = articleRepository.findSummaries(searchType, searchKeyword, pageable);
+
+        return searchCountStrategy.toPage(articles, searchType, searchKeyword);
     }
 
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다. - articleId: " + articleId));
+    /**
+     * {@link #searchArticles(SearchType, String, Pageable)} 의 keyset (cursor) pagination 버전.
+     * 정렬은 항상 최신순 (createdAt desc, id desc) 이고, 전체 개수를 세지 않으므로 몇 번째 page 든 조회 비용이 같다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummaryDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        ArticleSearchEvent event = new ArticleSearchEvent();
+        event.begin();
+        CursorPage<ArticleSummaryDto> articles = articleRepository.findSummariesByCursor(searchType, searchKeyword, cursor, size);
+        event.commit(searchType, searchKeyword, articles.content().size(), -1);
+
+        return articles;
     }
 
     @Transactional(readOnly = true)
@@ -80,7 +118,14 @@ public class ArticleService {
         Article article = dto.toEntity(userAccount);
         article.addHashtags(hashtags);
 
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        // 새 해시태그도 이미 저장되어 id 가 있으므로 기존 해시태그와 한 번에 늘린다.
+        hashtagRepository.addArticleCount(hashtagIdsOf(savedArticle), 1);
+        AfterCommit.run(() -> {
+            articleSearchEngine.index(savedArticle.getId(), savedArticle.getTitle(), savedArticle.getContent());
+            searchCountStrategy.evictAll();
+            articleCounter.increment();
+        });
     }
 
     public void updateArticle(Long articleId, ArticleDto dto) {
@@ -100,13 +145,23 @@ public class ArticleService {
                         .collect(Collectors.toUnmodifiableSet());
                 article.clearHashtags();
                 articleRepository.flush();
+                hashtagRepository.addArticleCount(hashtagIds, -1);
 
                 // 기존 hashtag 중 더이상 사용하지 앟는 hashtag 정리
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+                hashtagService.deleteHashtagsWithoutArticles(hashtagIds);
 
                 // 새 글의 hashtag 추출 및 추가
                 Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
                 article.addHashtags(hashtags);
+                hashtagRepository.addArticleCount(hashtagIdsOf(article), 1);
+
+                String title = article.getTitle();
+                String content = article.getContent();
+                AfterCommit.run(() -> {
+                    articleSearchEngine.index(articleId, title, content);
+                    searchCountStrategy.evictAll();
+                    articleDetailCache.evict(articleId);
+                });
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
@@ -129,25 +184,57 @@ public class ArticleService {
                         .map(Hashtag::getId)
                         .collect(Collectors.toUnmodifiableSet());
 
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userID);
+        long deletedCount = articleRepository.deleteByIdAndUserAccount_UserId(articleId, userID);
         articleRepository.flush();
+        if (deletedCount > 0) {
+            hashtagRepository.addArticleCount(hashtagIds, -1);
+        }
 
         // 기존 글에 hashtag 관련 Hashtag table 정리
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        hashtagService.deleteHashtagsWithoutArticles(hashtagIds);
+
+        if (deletedCount > 0) {
+            AfterCommit.run(() -> {
+                articleSearchEngine.remove(articleId);
+                searchCountStrategy.evictAll();
+                articleCounter.decrement();
+                articleDetailCache.evict(articleId);
+            });
+        }
     }
 
+    // 게시글 상세 화면마다 호출되므로 count(*) 대신 메모리에 유지 중인 값을 사용한다.
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCounter.get();
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
-                .map(ArticleDto::from);
+        ArticleSearchEvent event = new ArticleSearchEvent();
+        event.begin();
+        Slice<ArticleSummaryDto> slice = articleRepository.findSummaries(SearchType.HASHTAG, hashtagName, pageable);
+        Page<ArticleSummaryDto> articles = searchCountStrategy.toPage(slice, SearchType.HASHTAG, hashtagName);
+        event.commit(SearchType.HASHTAG, hashtagName, articles.getNumberOfElements(), articles.getTotalElements());
+
+        return articles;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummaryDto> searchArticlesViaHashtagByCursor(String hashtagName, ArticleCursor cursor, int size) {
+        if (hashtagName == null || hashtagName.isBlank()) {
+            return CursorPage.empty(size);
+        }
+
+        ArticleSearchEvent event = new ArticleSearchEvent();
+        event.begin();
+        CursorPage<ArticleSummaryDto> articles = articleRepository.findSummariesByCursor(SearchType.HASHTAG, hashtagName, cursor, size);
+        event.commit(SearchType.HASHTAG, hashtagName, articles.content().size(), -1);
+
+        return articles;
     }
 
     public List<String> getHashtags() {
@@ -155,21 +242,36 @@ public class ArticleService {
         return hashtagRepository.findAllHashtagNames();
     }
 
+    // 새 해시태그를 게시글 저장 시 하나씩 (cascade) insert 하지 않고, HashtagService 가 한 번에 저장한 뒤 id 와 함께 돌려준다.
     private Set<Hashtag> renewHashtagsFromContent(String content) {
         Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
-                .map(Hashtag::getHashtagName)
-                .collect(Collectors.toUnmodifiableSet());
 
-        hashtagNamesInContent.forEach(newHashtagName -> {
-           if (!existingHashtagNames.contains(newHashtagName)) {
-               hashtags.add(Hashtag.of(newHashtagName));
-           }
-        });
+        return hashtagService.resolveHashtags(hashtagNamesInContent);
+    }
 
-        return hashtags;
+    private static Set<Long> hashtagIdsOf(Article article) {
+        return article.getHashtags().stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toUnmodifiableSet());
     }
-}
 
+    // ArticleController 의 기본 정렬 (@PageableDefault: createdAt desc) 은 사용자가 고른 정렬이 아니므로 검색 엔진 순위를 그대로 쓴다.
+    private static boolean isRankOrder(Sort sort) {
+        return sort.isUnsorted() || sort.equals(DEFAULT_SORT);
+    }
 
+    // 검색 엔진이 준 순위 그대로 요청한 page 에 해당하는 id 만 잘라서 한 번의 query 로 게시글을 가져온다.
+    private Page<ArticleSummaryDto> findArticlesByIds(List<Long> rankedIds, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+
+        Map<Long, Integer> rankById = pageIds.stream()
+                .collect(Collectors.toMap(Function.identity(), pageIds::indexOf));
+        List<ArticleSummaryDto> articles = articleRepository.findSummariesByIds(pageIds).stream()
+                .sorted(Comparator.comparing(article -> rankById.get(article.id())))
+                .toList();
+
+        return new PageImpl<>(articles, pageable, rankedIds.size());
+    }
+}
@@ -2,16 +2,21 @@ package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.repository.HashtagRepository;
+import com.fastcampus.projectboard.service.hashtag.HashtagParser;
+import com.fastcampus.projectboard.service.monitoring.HashtagParseEvent;
+import com.fastcampus.projectboard.service.monitoring.HashtagResolveEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 @Service
@@ -23,32 +28,84 @@ public class HashtagService {
         return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
     }
 
-    public Set<String> parseHashtagNames(String content) {
-        if (content == null) {
-            return Set.of();
+    /**
+     * 해시태그 이름들을 해시태그로 바꾼다. 없는 이름은 새로 저장한다.
+     * <p>
+     * 이름 수와 관계없이 조회 1번 (query cache), 없는 이름이 있으면 한 번의 insert 문과 새 해시태그 조회 1번으로 끝난다.
+     * 돌려주는 해시태그는 모두 저장되어 id 가 있으므로, 게시글에 달면 article_hashtag row 만 저장 (JDBC batch) 된다.
+     */
+    public Set<Hashtag> resolveHashtags(Set<String> hashtagNames) {
+        HashtagResolveEvent event = new HashtagResolveEvent();
+        event.begin();
+        Set<Hashtag> hashtags = new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+        Set<String> newHashtagNames = new HashSet<>(hashtagNames);
+        hashtags.forEach(hashtag -> newHashtagNames.remove(hashtag.getHashtagName()));
+        if (newHashtagNames.isEmpty()) {
+            event.commit(hashtagNames.size(), 0);
+            return hashtags;
         }
 
-        // \w : word [A-Za-z0-9_]
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
+        // getReferenceById 로 만든 proxy 는 Set 에 넣을 때 (hashCode) 하나씩 초기화되므로, 새 해시태그는 한 번에 다시 조회한다.
+        hashtagRepository.insertIgnoringDuplicates(newHashtagNames);
+        hashtags.addAll(hashtagRepository.findByHashtagNameIn(newHashtagNames));
+        event.commit(hashtagNames.size(), newHashtagNames.size());
 
-        // matcher.find() : pattern 에 정의한 정규식 조건에 맞는 형태가 발견되면
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
-        }
+        return hashtags;
+    }
+
+    // 정규식 #[\w가-힣]+ 와 같은 규칙. 저장/수정마다 호출되므로 정규식 대신 본문을 한 번만 훑는 parser 사용
+    public Set<String> parseHashtagNames(String content) {
+        HashtagParseEvent event = new HashtagParseEvent();
+        event.begin();
+        Set<String> hashtagNames = HashtagParser.parse(content);
+        event.commit(content, hashtagNames.size());
 
-        // result 를 복사한 immutable object 로 변경??? (그냥 result 를 보내도 되는데 불변성을 강조하기 위해서)
-        return Set.copyOf(result);
+        return hashtagNames;
     }
 
     // 특정 게시글 하나가 지워졌다고, 해당 글의 해시태그를 지우면 안된다. 
     // 하나의 해시태그가 이를 포함한 모든 게시글이 삭제 되었을 때 비로소 해당 해시태그가 지워져야 함.
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
+    //
+    // 해시태그마다 게시글 목록 (Hashtag.articles) 을 읽어서 확인하는 대신, 주어진 해시태그 전체를 한 번의 delete 문으로 정리한다.
+    // (인기 해시태그가 달린 글을 수정해도 같은 해시태그의 다른 게시글을 읽지 않는다)
+    public void deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        hashtagRepository.deleteWithoutArticles(hashtagIds);
+    }
+
+    /**
+     * 어느 게시글에도 달려 있지 않은 해시태그를 정리한다. (Data REST 처럼 이 service 를 거치지 않은 삭제로 남은 해시태그)
+     * id 가 {@code lastId} 보다 큰 해시태그를 id 순으로 {@code limit} 개 까지 확인하고, 마지막 해시태그 id 를 반환한다. 더 확인할 해시태그가 없으면 {@code lastId} 를 그대로 반환한다.
+     */
+    public long sweepHashtagsWithoutArticles(long lastId, int limit) {
+        List<Long> hashtagIds = hashtagRepository.findIdsAfter(lastId, limit);
+        if (hashtagIds.isEmpty()) {
+            return lastId;
+        }
 
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+        long deleted = hashtagRepository.deleteWithoutArticles(hashtagIds);
+        if (deleted > 0) {
+            log.info("사용되지 않는 해시태그 정리 - 해시태그 id {} ~ {} 중 {} 건", hashtagIds.get(0), hashtagIds.get(hashtagIds.size() - 1), deleted);
         }
+
+        return hashtagIds.get(hashtagIds.size() - 1);
+    }
+
+    /**
+     * 해시태그의 게시글 수 column 을 실제 게시글 수와 맞춘다. (Data REST 처럼 service 를 거치지 않는 쓰기가 있으면 어긋날 수 있다)
+     * id 가 {@code lastId} 보다 큰 해시태그를 id 순으로 {@code limit} 개 까지 맞추고, 마지막 해시태그 id 를 반환한다. 더 맞출 해시태그가 없으면 {@code lastId} 를 그대로 반환한다.
+     */
+    public long reconcileArticleCounts(long lastId, int limit) {
+        List<Long> hashtagIds = hashtagRepository.findIdsAfter(lastId, limit);
+        if (hashtagIds.isEmpty()) {
+            return lastId;
+        }
+
+        long toId = hashtagIds.get(hashtagIds.size() - 1);
+        long corrected = hashtagRepository.recountArticleCounts(lastId, toId);
+        if (corrected > 0) {
+            log.warn("해시태그 게시글 수 보정 - 해시태그 id {} ~ {} 중 {} 건", hashtagIds.get(0), toId, corrected);
+        }
+
+        return toId;
     }
 }
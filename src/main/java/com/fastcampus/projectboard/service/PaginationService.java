@@ -17,6 +17,17 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * keyset (cursor) pagination 용 페이징 바. 전체 page 수를 모르므로 cursor 로 바로 이동할 수 있는
+     * 이전 page, 현재 page, 다음 page 번호만 만든다.
+     */
+    public List<Integer> getCursorPaginationBarNumbers(int currentPageNumber, boolean hasPrevious, boolean hasNext) {
+        int startNumber = hasPrevious ? Math.max(currentPageNumber - 1, 0) : currentPageNumber;
+        int endNumber = hasNext ? currentPageNumber + 2 : currentPageNumber + 1;
+
+        return IntStream.range(startNumber, endNumber).boxed().toList();
+    }
+
     public int currentBarLength() {
         return BAR_LENGTH;
     }
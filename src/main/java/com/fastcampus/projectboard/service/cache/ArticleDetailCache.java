@@ -0,0 +1,85 @@
+package com.fastcampus.projectboard.service.cache;
+
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.fastcampus.projectboard.service.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 화면 ({@link ArticleWithCommentsResponse}) cache. key 는 articleId.
+ * <p>
+ * 상세 화면은 쓰기 1번에 수천 번 읽히므로, 댓글 계층 구성까지 끝난 응답 객체를 그대로 들고 있는다.
+ * 크기 ({@code MAXIMUM_SIZE}) 와 TTL ({@code EXPIRE_AFTER_WRITE}) 로 밀어내고, hit / miss / eviction 은
+ * actuator ({@code /actuator/metrics/cache.gets?tag=cache:articleDetail} 등) 로 확인할 수 있다.
+ * <p>
+ * 같은 node 에서는 쓰기 이후 예전 내용이 보이면 안 된다.
+ * 쓰기 직전에 DB 에서 읽어 만든 응답이 무효화 (evict) 이후에 cache 에 들어가는 경우를 막기 위해,
+ * 무효화할 때마다 올라가는 번호 ({@code invalidations}) 를 읽기 전/후로 비교해서 그 사이 무효화가 있었다면 cache 에 남기지 않는다.
+ */
+@Component
+public class ArticleDetailCache {
+
+    public static final String CACHE_NAME = "articleDetail";
+
+    private static final long MAXIMUM_SIZE = 1_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final Cache<Long, ArticleWithCommentsResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ArticleDetailCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ArticleWithCommentsResponse get(Long articleId, Function<Long, ArticleWithCommentsResponse> loader) {
+        ArticleWithCommentsResponse cached = cache.getIfPresent(articleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        ArticleWithCommentsResponse loaded = loader.apply(articleId);
+
+        if (invalidationsBeforeLoad == invalidations.get()) {
+            cache.put(articleId, loaded);
+            // put 직전에 무효화가 끼어들었다면 방금 넣은 값을 다시 뺀다. (evict 는 번호를 먼저 올리고 지운다.)
+            if (invalidationsBeforeLoad != invalidations.get()) {
+                cache.asMap().remove(articleId, loaded);
+            }
+        }
+
+        return loaded;
+    }
+
+    public void evict(Long articleId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(articleId);
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // transaction 안이라면 commit 이후에, 아니면 바로 무효화한다. (AfterCommit 참고)
+    public void evictAfterCommit(Long articleId) {
+        AfterCommit.run(() -> evict(articleId));
+    }
+
+    public void evictAllAfterCommit() {
+        AfterCommit.run(this::evictAll);
+    }
+}
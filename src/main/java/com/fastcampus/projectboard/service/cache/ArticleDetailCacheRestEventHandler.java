@@ -0,0 +1,64 @@
+package com.fastcampus.projectboard.service.cache;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data REST ({@code /api/**}) 를 통한 쓰기는 service 를 거치지 않으므로, 여기서 게시글 상세 cache 를 무효화한다.
+ * 작성자 (nickname 등) 나 해시태그는 여러 게시글 화면에 걸쳐 있으므로 전체를 비운다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleDetailCacheRestEventHandler {
+
+    private final ArticleDetailCache articleDetailCache;
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleArticleChange(Article article) {
+        articleDetailCache.evictAfterCommit(article.getId());
+    }
+
+    // 연관관계 (ex. 해시태그) 변경 event 는 연결된 객체까지 2개의 인자로 넘어온다.
+    @HandleAfterLinkSave
+    @HandleAfterLinkDelete
+    public void handleArticleLinkChange(Article article, Object linked) {
+        articleDetailCache.evictAfterCommit(article.getId());
+    }
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleArticleCommentChange(ArticleComment articleComment) {
+        articleDetailCache.evictAfterCommit(articleComment.getArticle().getId());
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleUserAccountChange(UserAccount userAccount) {
+        articleDetailCache.evictAllAfterCommit();
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleHashtagChange(Hashtag hashtag) {
+        articleDetailCache.evictAllAfterCommit();
+    }
+
+    @HandleAfterLinkSave
+    @HandleAfterLinkDelete
+    public void handleHashtagLinkChange(Hashtag hashtag, Object linked) {
+        articleDetailCache.evictAllAfterCommit();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.service.comment;
+
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 뜨면 path 가 없는 (path 도입 이전에 저장된) 댓글의 path 를 채운다.
+ * 이미 모두 채워져 있으면 path 가 없는 댓글을 찾는 query 1번으로 끝난다.
+ * 채우는 동안 path 가 없는 최상위 댓글의 대댓글은 부모 댓글 id 로 조회된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleCommentPathInitializer {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final ArticleCommentService articleCommentService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillPaths() {
+        long startedAt = System.currentTimeMillis();
+
+        // 묶음마다 따로 commit 한다. (id 기준 keyset 방식)
+        long lastId = 0L;
+        long batchCount = 0L;
+        long filledUpTo;
+        while ((filledUpTo = articleCommentService.fillArticleCommentPaths(lastId, BATCH_SIZE)) != lastId) {
+            lastId = filledUpTo;
+            batchCount++;
+        }
+
+        if (batchCount > 0) {
+            log.info("댓글 path 채우기 완료 - {} 묶음, 마지막 댓글 id: {}, {} ms", batchCount, lastId, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fastcampus.projectboard.service.comment;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data REST ({@code /api/articleComments}) 로 작성한 댓글은 service 를 거치지 않으므로, 여기서 path 를 채운다.
+ * 채우지 않으면 path 범위로 읽는 대댓글 조회에 나오지 않는다. (부모 댓글 id 는 바꿀 수 없으므로 수정 시에는 다시 채우지 않는다)
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleCommentPathRestEventHandler {
+
+    private final ArticleCommentService articleCommentService;
+    private final ArticleDetailCache articleDetailCache;
+
+    @HandleAfterCreate
+    public void handleArticleCommentCreate(ArticleComment articleComment) {
+        articleCommentService.assignArticleCommentPath(articleComment.getId(), articleComment.getParentCommentId());
+        // 다른 event handler 의 무효화가 path 를 채우기 전에 실행되었을 수 있으므로, path 를 채운 뒤 한 번 더 비운다.
+        articleDetailCache.evictAfterCommit(articleComment.getArticle().getId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수를 메모리에 들고 있는 counter.
+ * <p>
+ * 애플리케이션이 뜰 때 한 번 세고, 이후에는 게시글 작성/삭제 시 (commit 이후) 증감만 한다.
+ * Data REST 처럼 {@code ArticleService} 를 거치지 않는 쓰기나 다중 instance 환경에서는 실제 값과 어긋날 수 있으므로,
+ * 주기적으로 DB 와 맞춰보고 (reconcile) 그 차이를 {@code board.articles.count.drift} metric 으로 남긴다.
+ */
+@Slf4j
+@Component
+public class ArticleCounter {
+
+    private static final long RECONCILE_INTERVAL_MILLIS = 5 * 60 * 1_000L;
+
+    private final ArticleRepository articleRepository;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong lastDrift = new AtomicLong();
+    private volatile boolean initialized = false;
+
+    public ArticleCounter(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+
+        Gauge.builder("board.articles.count", count, AtomicLong::get)
+                .description("메모리에 유지 중인 전체 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.articles.count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 reconcile 시점의 (메모리 게시글 수 - DB 게시글 수)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        count.set(articleRepository.count());
+        initialized = true;
+        log.info("게시글 counter 초기화 - {} 건", count.get());
+    }
+
+    public long get() {
+        // 애플리케이션이 완전히 뜨기 전에 들어온 요청이라면 직접 센다.
+        if (!initialized) {
+            return articleRepository.count();
+        }
+
+        return count.get();
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public void decrement() {
+        count.decrementAndGet();
+    }
+
+    // 여러 게시글을 한 번에 저장 (import) 한 경우
+    public void add(long delta) {
+        count.addAndGet(delta);
+    }
+
+    @Scheduled(initialDelay = RECONCILE_INTERVAL_MILLIS, fixedDelay = RECONCILE_INTERVAL_MILLIS)
+    public void reconcile() {
+        if (!initialized) {
+            return;
+        }
+
+        long cached = count.get();
+        long actual = articleRepository.count();
+        lastDrift.set(cached - actual);
+
+        // 세는 도중에 증감이 있었다면 이번에는 보정하지 않는다. (다음 reconcile 에서 보정)
+        if (cached != actual && count.compareAndSet(cached, actual)) {
+            log.warn("게시글 counter 보정 - 메모리: {}, DB: {}", cached, actual);
+        }
+    }
+}
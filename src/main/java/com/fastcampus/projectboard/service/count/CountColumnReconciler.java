@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반정규화된 counter column (게시글의 댓글 수, 해시태그의 게시글 수) 을 주기적으로 실제 값과 맞춘다.
+ * <p>
+ * 평소에는 service 의 쓰기마다 한 번의 update 문으로 증감하지만, Data REST ({@code /api/**}) 처럼 service 를 거치지 않는 쓰기는 반영되지 않는다.
+ * 전체 table 을 id 순으로 {@value #BATCH_SIZE} 개씩 나누어 묶음마다 따로 commit 하고, 값이 다른 row 만 고친다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CountColumnReconciler {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long RECONCILE_INTERVAL_MILLIS = 60 * 60 * 1_000L;
+
+    private final ArticleCommentService articleCommentService;
+    private final HashtagService hashtagService;
+
+    @Scheduled(initialDelay = RECONCILE_INTERVAL_MILLIS, fixedDelay = RECONCILE_INTERVAL_MILLIS)
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+
+        long articleBatchCount = reconcileAll(articleCommentService::reconcileCommentCounts);
+        long hashtagBatchCount = reconcileAll(hashtagService::reconcileArticleCounts);
+
+        log.info("counter column 보정 완료 - 게시글 {} 묶음, 해시태그 {} 묶음, {} ms",
+                articleBatchCount, hashtagBatchCount, System.currentTimeMillis() - startedAt);
+    }
+
+    // id 기준 keyset 방식으로 더 이상 진행하지 않을 때까지 묶음을 반복하고, 묶음 수를 반환한다.
+    private static long reconcileAll(BatchReconciliation batch) {
+        long lastId = 0L;
+        long batchCount = 0L;
+        long reconciledUpTo;
+        while ((reconciledUpTo = batch.reconcile(lastId, BATCH_SIZE)) != lastId) {
+            lastId = reconciledUpTo;
+            batchCount++;
+        }
+
+        return batchCount;
+    }
+
+    @FunctionalInterface
+    private interface BatchReconciliation {
+        long reconcile(long lastId, int limit);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 조건 (검색 유형, 검색어) 별 게시글 수 cache.
+ * <p>
+ * 게시글이 작성/수정/삭제되면 어떤 검색 결과가 바뀌었는지 따지지 않고 전부 비운다. (쓰기보다 읽기가 훨씬 많으므로)
+ * 그 외 경로 (ex. 회원 닉네임 변경) 로 바뀌는 결과는 {@code TIME_TO_LIVE} 가 지나면 다시 센다.
+ */
+@Component
+public class SearchCountCache {
+
+    private static final long TIME_TO_LIVE_MILLIS = 5 * 60 * 1_000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public SearchCountCache() {
+        this(Clock.systemUTC());
+    }
+
+    SearchCountCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    public OptionalLong get(SearchType searchType, String searchKeyword) {
+        Key key = Key.of(searchType, searchKeyword);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        if (entry.expiresAt() < clock.millis()) {
+            entries.remove(key, entry);
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(entry.count());
+    }
+
+    public void put(SearchType searchType, String searchKeyword, long count) {
+        // 검색어 종류는 끝이 없으므로 크기가 넘치면 통째로 비운다. (검색어 분포 상 자주 쓰이는 검색어는 금방 다시 채워짐)
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(Key.of(searchType, searchKeyword), new Entry(count, clock.millis() + TIME_TO_LIVE_MILLIS));
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+
+    private record Key(SearchType searchType, String searchKeyword) {
+        static Key of(SearchType searchType, String searchKeyword) {
+            if (searchKeyword == null || searchKeyword.isBlank()) {
+                return new Key(null, null); // 검색어가 없으면 검색 유형과 관계없이 전체 게시글
+            }
+            return new Key(searchType, searchKeyword);
+        }
+    }
+
+    private record Entry(long count, long expiresAt) {}
+}
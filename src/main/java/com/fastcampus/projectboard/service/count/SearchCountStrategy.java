@@ -0,0 +1,72 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.EstimatedPage;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * 게시글 목록의 전체 개수를 정하는 전략.
+ * <p>
+ * 목록은 count query 없이 {@link Slice} 로 읽고, 전체 개수는 아래 순서로 가장 싼 방법을 사용한다.
+ * <ol>
+ *     <li>검색어가 없으면 {@link ArticleCounter} 가 들고 있는 전체 게시글 수를 사용한다. (query 없음)</li>
+ *     <li>마지막 page 라면 앞 page 들의 개수 + 현재 page 개수가 곧 전체 개수이다. (query 없음)</li>
+ *     <li>같은 검색 조건으로 센 적이 있으면 cache 된 값을 사용한다.</li>
+ *     <li>{@code ESTIMATE_THRESHOLD} 개 까지만 센다. 그보다 많으면 정확히 세지 않고 "{@code ESTIMATE_THRESHOLD}+" 로 추정한다.</li>
+ * </ol>
+ */
+@RequiredArgsConstructor
+@Component
+public class SearchCountStrategy {
+
+    public static final long ESTIMATE_THRESHOLD = 10_000L;
+
+    private final ArticleRepository articleRepository;
+    private final SearchCountCache searchCountCache;
+    private final ArticleCounter articleCounter;
+
+    public <T> Page<T> toPage(Slice<T> slice, SearchType searchType, String searchKeyword) {
+        Pageable pageable = slice.getPageable();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0L;
+
+        // 1. 전체 게시글
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return EstimatedPage.exact(slice.getContent(), pageable, articleCounter.get());
+        }
+
+        // 2. 마지막 page (단, 범위를 벗어난 빈 page 는 제외)
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            long total = offset + slice.getNumberOfElements();
+            searchCountCache.put(searchType, searchKeyword, total);
+            return EstimatedPage.exact(slice.getContent(), pageable, total);
+        }
+
+        // 3. cache
+        OptionalLong cached = searchCountCache.get(searchType, searchKeyword);
+        if (cached.isPresent()) {
+            return EstimatedPage.exact(slice.getContent(), pageable, cached.getAsLong());
+        }
+
+        // 4. 상한까지만 세기
+        long count = articleRepository.countUpTo(searchType, searchKeyword, ESTIMATE_THRESHOLD + 1);
+        if (count <= ESTIMATE_THRESHOLD) {
+            searchCountCache.put(searchType, searchKeyword, count);
+            return EstimatedPage.exact(slice.getContent(), pageable, count);
+        }
+
+        // 상한보다 깊은 page 를 보고 있다면, 적어도 현재 page (+ 다음 page) 까지는 paging bar 에 나오도록 한다.
+        long estimatedTotal = Math.max(ESTIMATE_THRESHOLD, offset + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0));
+        return EstimatedPage.estimated(slice.getContent(), pageable, estimatedTotal);
+    }
+
+    public void evictAll() {
+        searchCountCache.evictAll();
+    }
+}
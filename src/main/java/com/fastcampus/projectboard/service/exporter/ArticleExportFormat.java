@@ -0,0 +1,19 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import lombok.Getter;
+
+/**
+ * 게시글 내보내기 (export) 형식. 게시글 import 형식 ({@link com.fastcampus.projectboard.service.importer.ArticleImportFormat}) 과 같다.
+ */
+public enum ArticleExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    @Getter private final String contentType;
+    @Getter private final String fileExtension;
+
+    ArticleExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+}
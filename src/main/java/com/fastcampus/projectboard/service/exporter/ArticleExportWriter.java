@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글을 한 건씩 내보내기 (export) 형식 (NDJSON, CSV) 으로 쓴다.
+ * <p>
+ * 쓴 내용은 buffer 가 찰 때마다 바로 내보내므로, 전체 게시글을 모으지 않고 읽는 대로 응답을 시작할 수 있다.
+ * {@link #close()} 는 남은 buffer 를 내보내고 받은 {@link OutputStream} 도 닫는다.
+ */
+public abstract class ArticleExportWriter implements Closeable {
+
+    protected final Writer writer;
+
+    protected ArticleExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static ArticleExportWriter of(ArticleExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        return switch (format) {
+            case NDJSON -> new NdjsonArticleExportWriter(writer);
+            case CSV -> new CsvArticleExportWriter(writer);
+        };
+    }
+
+    public abstract void write(ArticleExportRow row) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 첫 줄은 column 이름 (header). 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 "" 로 쓴다. (RFC 4180)
+class CsvArticleExportWriter extends ArticleExportWriter {
+
+    CsvArticleExportWriter(Writer writer) throws IOException {
+        super(writer);
+        writer.write("id,userId,title,content,createdAt\n");
+    }
+
+    @Override
+    public void write(ArticleExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writeValue(row.userId());
+        writer.write(',');
+        writeValue(row.title());
+        writer.write(',');
+        writeValue(row.content());
+        writer.write(',');
+        writeValue(row.createdAt() == null ? null : row.createdAt().toString());
+        writer.write('\n');
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
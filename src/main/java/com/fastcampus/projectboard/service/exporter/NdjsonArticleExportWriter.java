@@ -0,0 +1,39 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 한 줄에 JSON object 하나. createdAt 은 ISO 형식 (2023-01-01T10:00:00) 문자열
+class NdjsonArticleExportWriter extends ArticleExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    NdjsonArticleExportWriter(Writer writer) throws IOException {
+        super(writer);
+        this.generator = JSON_FACTORY.createGenerator(writer);
+        this.generator.setRootValueSeparator(null); // object 사이는 직접 줄바꿈으로 구분
+    }
+
+    @Override
+    public void write(ArticleExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("userId", row.userId());
+        generator.writeStringField("title", row.title());
+        generator.writeStringField("content", row.content());
+        generator.writeStringField("createdAt", row.createdAt() == null ? null : row.createdAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close(); // writer 까지 닫는다
+    }
+}
@@ -0,0 +1,61 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 해시태그 이름을 뽑아내는 parser.
+ * <p>
+ * 정규식 {@code #[\w가-힣]+} 와 같은 규칙을 따른다. ('#' 뒤에 이어지는 영문/숫자/'_'/한글 음절)
+ * 게시글 저장/수정마다 최대 10,000 자 본문을 읽으므로, 정규식 없이 본문을 한 번만 훑으면서
+ * 결과로 돌려줄 해시태그 이름 문자열과 이를 담을 set 만 만든다. (해시태그가 없으면 아무것도 만들지 않는다.)
+ */
+public final class HashtagParser {
+
+    private static final char HASHTAG_PREFIX = '#';
+
+    private HashtagParser() {}
+
+    /**
+     * @return 중복 없는 해시태그 이름들 (변경 불가)
+     */
+    public static Set<String> parse(String content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Set<String> hashtagNames = null;
+        int length = content.length();
+        int index = content.indexOf(HASHTAG_PREFIX);
+
+        while (index >= 0) {
+            int start = index + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
+
+            if (end > start) {
+                if (hashtagNames == null) {
+                    hashtagNames = new HashSet<>();
+                }
+                hashtagNames.add(content.substring(start, end));
+            }
+
+            // 이름이 끝난 자리가 바로 다음 '#' 일 수 있으므로 (ex. "#java#spring") 그 자리부터 다시 찾는다.
+            index = end < length ? content.indexOf(HASHTAG_PREFIX, end) : -1;
+        }
+
+        return hashtagNames == null ? Set.of() : Collections.unmodifiableSet(hashtagNames);
+    }
+
+    // 정규식의 \w (UNICODE_CHARACTER_CLASS 없이 [a-zA-Z_0-9]) 와 가-힣 (U+AC00 ~ U+D7A3)
+    static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
+    }
+}
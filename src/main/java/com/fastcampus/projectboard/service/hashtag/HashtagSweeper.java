@@ -0,0 +1,39 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어느 게시글에도 달려 있지 않은 해시태그를 주기적으로 정리한다.
+ * <p>
+ * 게시글 수정/삭제 시에는 {@code ArticleService} 가 바로 정리하므로, 여기서는 Data REST 처럼 service 를 거치지 않은 쓰기로 남은 해시태그만 지워진다.
+ * 해시태그 table 을 id 순으로 {@value #BATCH_SIZE} 개씩 나누어 묶음마다 한 번의 delete 문으로 정리하고 따로 commit 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagSweeper {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SWEEP_INTERVAL_MILLIS = 60 * 60 * 1_000L;
+
+    private final HashtagService hashtagService;
+
+    @Scheduled(initialDelay = SWEEP_INTERVAL_MILLIS, fixedDelay = SWEEP_INTERVAL_MILLIS)
+    public void sweep() {
+        long startedAt = System.currentTimeMillis();
+
+        long lastId = 0L;
+        long batchCount = 0L;
+        long sweptUpTo;
+        while ((sweptUpTo = hashtagService.sweepHashtagsWithoutArticles(lastId, BATCH_SIZE)) != lastId) {
+            lastId = sweptUpTo;
+            batchCount++;
+        }
+
+        log.info("해시태그 정리 완료 - {} 묶음, {} ms", batchCount, System.currentTimeMillis() - startedAt);
+    }
+}
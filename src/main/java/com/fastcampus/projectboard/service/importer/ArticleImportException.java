@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.service.importer;
+
+import lombok.Getter;
+
+/**
+ * import 입력의 record 하나를 읽을 수 없을 때 발생한다. 해당 record 만 건너뛰고 다음 record 부터 계속 읽을 수 있다.
+ */
+@Getter
+public class ArticleImportException extends RuntimeException {
+
+    private final long line;
+
+    public ArticleImportException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.projectboard.service.importer;
+
+/**
+ * 게시글 import 입력 형식.
+ * <ul>
+ *     <li>{@code NDJSON} : 한 줄에 게시글 하나 (JSON object). {@code {"userId": "uno", "title": "...", "content": "...", "createdAt": "2023-01-01T10:00:00"}}</li>
+ *     <li>{@code CSV} : 첫 줄은 column 이름 (header). 따옴표 안의 쉼표, 줄바꿈, {@code ""} (따옴표) 를 지원한다. (RFC 4180)</li>
+ * </ul>
+ * {@code createdAt} 은 생략할 수 있다. (저장 시각 사용)
+ */
+public enum ArticleImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,113 @@
+package com.fastcampus.projectboard.service.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * import 입력 (NDJSON, CSV) 을 게시글 한 건씩 읽는다.
+ * <p>
+ * 입력 전체를 메모리에 올리지 않고 한 record 씩 읽으므로 입력 크기와 관계없이 메모리 사용량이 일정하다.
+ * 형식이 잘못된 record 는 {@link ArticleImportException} 으로 알리고, 다음 {@link #next()} 는 그 다음 record 부터 읽는다.
+ */
+public abstract class ArticleImportReader implements Closeable {
+
+    // record 하나의 최대 길이 (본문 최대 10,000 자 + 나머지 column).
+    // 줄바꿈이 없는 입력이나 닫히지 않은 따옴표 때문에 입력 전체를 한 record 로 읽지 않도록 한다.
+    static final int MAX_RECORD_LENGTH = 32 * 1024;
+
+    private final Reader reader;
+    private long lineNumber = 0; // 지금까지 읽은 줄 수
+
+    protected ArticleImportReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public static ArticleImportReader of(ArticleImportFormat format, InputStream inputStream) {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        return switch (format) {
+            case NDJSON -> new NdjsonArticleImportReader(reader);
+            case CSV -> new CsvArticleImportReader(reader);
+        };
+    }
+
+    /**
+     * 다음 게시글을 읽는다. 입력이 끝났으면 {@code null} 을 반환한다.
+     *
+     * @throws ArticleImportException 형식이 잘못된 record. 해당 record 는 건너뛴 상태이다.
+     * @throws IOException 입력을 더 읽을 수 없음 (연결 끊김 등)
+     */
+    public abstract ArticleImportRow next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected long lineNumber() {
+        return lineNumber;
+    }
+
+    // 한 글자를 읽고, 줄바꿈이면 줄 수를 늘린다. 입력이 끝나면 -1
+    protected int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            lineNumber++;
+        }
+
+        return c;
+    }
+
+    // 다음 줄을 (줄바꿈 문자 없이) 읽는다. 입력이 끝났으면 null. 너무 긴 줄은 끝까지 건너뛰고 ArticleImportException
+    protected String readLine() throws IOException {
+        long line = lineNumber + 1;
+        StringBuilder builder = new StringBuilder();
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        while (c != -1 && c != '\n') {
+            if (builder.length() == MAX_RECORD_LENGTH) {
+                skipLine();
+                throw new ArticleImportException(line, "한 줄이 " + MAX_RECORD_LENGTH + " 자를 넘습니다.");
+            }
+            builder.append((char) c);
+            c = read();
+        }
+
+        int length = builder.length();
+        if (length > 0 && builder.charAt(length - 1) == '\r') {
+            builder.setLength(length - 1);
+        }
+
+        return builder.toString();
+    }
+
+    // 현재 줄의 나머지를 버린다.
+    protected void skipLine() throws IOException {
+        int c = read();
+        while (c != -1 && c != '\n') {
+            c = read();
+        }
+    }
+
+    protected static LocalDateTime parseCreatedAt(long line, String createdAt) {
+        if (createdAt == null || createdAt.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(createdAt.strip());
+        } catch (DateTimeParseException e) {
+            throw new ArticleImportException(line, "createdAt 형식이 잘못되었습니다. (예: 2023-01-01T10:00:00) - " + createdAt);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.service.importer;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * import 입력에서 읽은 게시글 한 건. {@code line} 은 입력에서 해당 게시글이 시작되는 줄 번호 (1 부터) 이다.
+ */
+public record ArticleImportRow(
+        long line,
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+    // Article column 길이와 같다.
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+
+    public static ArticleImportRow of(long line, String userId, String title, String content, LocalDateTime createdAt) {
+        return new ArticleImportRow(line, userId, title, content, createdAt);
+    }
+
+    /**
+     * DB 에 저장하기 전에 확인할 수 있는 오류. 오류가 없으면 비어있다. (작성자가 있는지는 저장할 때 한 번에 확인한다)
+     */
+    public Optional<String> validate() {
+        if (userId == null || userId.isBlank()) { return Optional.of("userId 가 없습니다."); }
+        if (title == null || title.isBlank()) { return Optional.of("title 이 없습니다."); }
+        if (title.length() > MAX_TITLE_LENGTH) { return Optional.of("title 은 " + MAX_TITLE_LENGTH + " 자를 넘을 수 없습니다."); }
+        if (content == null || content.isBlank()) { return Optional.of("content 가 없습니다."); }
+        if (content.length() > MAX_CONTENT_LENGTH) { return Optional.of("content 는 " + MAX_CONTENT_LENGTH + " 자를 넘을 수 없습니다."); }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,131 @@
+package com.fastcampus.projectboard.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 첫 줄 (header) 의 column 이름으로 값을 찾으므로 column 순서는 자유롭다. (userId, title, content 필수, createdAt 선택)
+// 따옴표로 감싼 값 안의 쉼표, 줄바꿈, "" (따옴표) 를 지원한다. 빈 줄은 건너뛴다.
+class CsvArticleImportReader extends ArticleImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("userId", "title", "content");
+
+    private Map<String, Integer> columnIndexes; // header 를 읽기 전에는 null
+    private boolean invalidHeader = false;
+
+    CsvArticleImportReader(Reader reader) {
+        super(reader);
+    }
+
+    @Override
+    public ArticleImportRow next() throws IOException {
+        if (invalidHeader) {
+            return null;
+        }
+        if (columnIndexes == null) {
+            readHeader();
+        }
+
+        List<String> values;
+        long line;
+        do {
+            line = lineNumber() + 1;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+
+        if (values.size() != columnIndexes.size()) {
+            throw new ArticleImportException(line, "column 수가 header 와 다릅니다. (header: " + columnIndexes.size() + ", 값: " + values.size() + ")");
+        }
+
+        return ArticleImportRow.of(
+                line,
+                value(values, "userId"),
+                value(values, "title"),
+                value(values, "content"),
+                parseCreatedAt(line, value(values, "createdAt"))
+        );
+    }
+
+    // header 가 잘못되었으면 값을 해석할 수 없으므로, 오류를 한 번 알리고 입력을 더 읽지 않는다.
+    private void readHeader() throws IOException {
+        columnIndexes = new HashMap<>();
+        List<String> columns = readRecord();
+        if (columns == null) {
+            invalidHeader = true;
+            throw new ArticleImportException(1, "CSV header 가 없습니다.");
+        }
+
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndexes.put(columns.get(i).strip(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columnIndexes.containsKey(column)) {
+                invalidHeader = true;
+                throw new ArticleImportException(1, "CSV header 에 " + column + " column 이 없습니다.");
+            }
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columnIndexes.get(column);
+        return index == null ? null : values.get(index);
+    }
+
+    // record (따옴표 안의 줄바꿈을 포함할 수 있음) 하나를 읽는다. 입력이 끝났으면 null
+    private List<String> readRecord() throws IOException {
+        long line = lineNumber() + 1;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (++length > MAX_RECORD_LENGTH) {
+                // 닫히지 않은 따옴표일 수 있으므로 현재 줄 끝에서 다시 시작한다.
+                if (c != '\n') { skipLine(); }
+                throw new ArticleImportException(line, "record 가 " + MAX_RECORD_LENGTH + " 자를 넘습니다.");
+            }
+
+            if (c == -1) {
+                if (quoted) {
+                    throw new ArticleImportException(line, "따옴표가 닫히지 않았습니다.");
+                }
+                values.add(value.toString());
+                return values;
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') { // "" 는 따옴표 문자, 아니면 따옴표가 닫힌 것
+                        quoted = false;
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                values.add(value.toString());
+                return values;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+
+            c = read();
+        }
+    }
+}
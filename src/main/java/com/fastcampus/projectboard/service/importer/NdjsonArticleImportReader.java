@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// 한 줄에 JSON object 하나. 빈 줄은 건너뛴다.
+// 줄 단위로 parsing 하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽을 수 있다.
+class NdjsonArticleImportReader extends ArticleImportReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    NdjsonArticleImportReader(Reader reader) {
+        super(reader);
+    }
+
+    @Override
+    public ArticleImportRow next() throws IOException {
+        String json;
+        long line;
+        do {
+            line = lineNumber() + 1;
+            json = readLine();
+            if (json == null) {
+                return null;
+            }
+        } while (json.isBlank());
+
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new ArticleImportException(line, "JSON 형식이 잘못되었습니다. - " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new ArticleImportException(line, "JSON object 가 아닙니다.");
+        }
+
+        return ArticleImportRow.of(
+                line,
+                text(node, "userId"),
+                text(node, "title"),
+                text(node, "content"),
+                parseCreatedAt(line, text(node, "createdAt"))
+        );
+    }
+
+    private static String text(JsonNode node, String fieldName) {
+        JsonNode field = node.get(fieldName);
+        return field == null || field.isNull() ? null : field.asText();
+    }
+}
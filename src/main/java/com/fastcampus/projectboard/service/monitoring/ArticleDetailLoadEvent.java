@@ -0,0 +1,54 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * 게시글 상세 화면 data (게시글 + 댓글 첫 page) 준비 한 번 (JFR event). 사용법은 {@link ArticleSearchEvent} 참고
+ * 상세 화면 cache 에 없어서 새로 만든 경우에만 DTO 변환 (댓글 계층 구성 포함) 시간이 남는다.
+ */
+@Name("board.ArticleDetailLoad")
+@Label("Article Detail Load")
+@Description("게시글 상세 화면 data 준비")
+@Category({"Board", "Article"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class ArticleDetailLoadEvent extends Event {
+
+    @Label("Article Id")
+    long articleId;
+
+    @Label("Comment Count")
+    @Description("화면에 처음 그리는 최상위 댓글 수")
+    int commentCount;
+
+    @Label("Cache Hit")
+    boolean cacheHit = true;
+
+    @Label("DTO Build Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dtoBuildTime;
+
+    /**
+     * cache 에 없어서 새로 만들었고, 응답 DTO 를 만드는 데 {@code dtoBuildNanos} 가 걸렸다.
+     */
+    public void loaded(long dtoBuildNanos) {
+        this.cacheHit = false;
+        this.dtoBuildTime = dtoBuildNanos;
+    }
+
+    public void commit(long articleId, int commentCount) {
+        end();
+        if (shouldCommit()) {
+            this.articleId = articleId;
+            this.commentCount = commentCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 게시글 검색 (목록 조회 포함) 한 번 (JFR event). 설정은 jfr/board.jfc 참고
+ * <pre>{@code
+ * ArticleSearchEvent event = new ArticleSearchEvent();
+ * event.begin();
+ * Page<ArticleSummaryDto> articles = ...;
+ * event.commit(searchType, searchKeyword, articles.getNumberOfElements(), articles.getTotalElements());
+ * }</pre>
+ * 기록 중이 아니면 {@code begin} / {@code commit} 은 아무것도 하지 않는다. (JIT 가 event 객체 생성도 없앤다)
+ * 설정 없이 JFR 을 켜면 각 event 의 기본 threshold 보다 오래 걸린 것만 남는다.
+ */
+@Name("board.ArticleSearch")
+@Label("Article Search")
+@Description("게시글 검색 / 목록 조회")
+@Category({"Board", "Article"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class ArticleSearchEvent extends Event {
+
+    @Label("Search Type")
+    String searchType;
+
+    @Label("Keyword Length")
+    int keywordLength;
+
+    @Label("Hit Count")
+    @Description("이번 page 의 게시글 수")
+    int hitCount;
+
+    @Label("Total Hits")
+    @Description("전체 검색 결과 수 (추정치일 수 있음). cursor 방식은 세지 않으므로 -1")
+    long totalHits;
+
+    public void commit(SearchType searchType, String searchKeyword, int hitCount, long totalHits) {
+        end();
+        if (shouldCommit()) {
+            this.searchType = searchType == null ? null : searchType.name();
+            this.keywordLength = searchKeyword == null ? 0 : searchKeyword.length();
+            this.hitCount = hitCount;
+            this.totalHits = totalHits;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 최근 구간 동안 가장 느린 HTTP 요청과 SQL 문을 메모리에 남긴다. ({@code /actuator/flightrecorder})
+ * <p>
+ * 모든 문장을 log 로 남기는 show-sql / bind 값 trace log 대신 사용한다.
+ * 기준 시간 ({@link FlightRecorderProperties}) 보다 빠른 요청 / 문장은 시간 비교만 하고 버리며,
+ * 남기는 개수가 고정이므로 운영 중 켜 두어도 메모리와 처리량에 주는 영향이 작다.
+ * 같은 요청 / 문장은 JFR event ({@link HttpRequestEvent}, {@link SqlStatementEvent}) 로도 남으므로, GC 나 lock 대기와 함께 보려면 JFR 을 사용한다.
+ */
+public class FlightRecorder implements StatementListener {
+
+    private static final int MAX_SQL_LENGTH = 2_000; // 여러 row 를 한 문장에 넣는 insert 등
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private final FlightRecorderProperties properties;
+    private final Clock clock;
+    private final long requestThresholdNanos;
+    private final long statementThresholdNanos;
+    private final SlowestEntries<SlowRequest> requests;
+    private final SlowestEntries<SlowStatement> statements;
+
+    public FlightRecorder(FlightRecorderProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.requestThresholdNanos = properties.requestThreshold().toNanos();
+        this.statementThresholdNanos = properties.statementThreshold().toNanos();
+        this.requests = new SlowestEntries<>(properties.size(), properties.window(), clock);
+        this.statements = new SlowestEntries<>(properties.size(), properties.window(), clock);
+    }
+
+    @Override
+    public void statementExecuted(String sql, List<Object> bindValues, long elapsedNanos) {
+        if (elapsedNanos < statementThresholdNanos) {
+            return;
+        }
+
+        statements.offer(elapsedNanos, () -> new SlowStatement(
+                clock.instant(),
+                toMillis(elapsedNanos),
+                abbreviate(sql, MAX_SQL_LENGTH),
+                properties.bindValues() ? format(bindValues) : List.of(),
+                Thread.currentThread().getName()
+        ));
+    }
+
+    /**
+     * @param request 요청 정보. 남길 만큼 느린 요청일 때만 호출한다.
+     */
+    public void requestCompleted(long elapsedNanos, Supplier<SlowRequest> request) {
+        if (elapsedNanos < requestThresholdNanos) {
+            return;
+        }
+
+        requests.offer(elapsedNanos, request);
+    }
+
+    public Recording snapshot() {
+        return new Recording(properties.window(), properties.size(), requests.snapshot(), statements.snapshot());
+    }
+
+    public void clear() {
+        requests.clear();
+        statements.clear();
+    }
+
+    Instant now() {
+        return clock.instant();
+    }
+
+    static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // 긴 본문 등은 앞부분만 남긴다.
+    private static List<String> format(List<Object> bindValues) {
+        List<String> values = new ArrayList<>(bindValues.size());
+        for (Object bindValue : bindValues) {
+            values.add(abbreviate(String.valueOf(bindValue), MAX_VALUE_LENGTH));
+        }
+
+        return values;
+    }
+
+    private static String abbreviate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength) + "...";
+    }
+
+    /**
+     * @param handler    처리한 controller method (ex. "ArticleController#articles")
+     * @param searchType 검색 유형 parameter
+     * @param page       page 번호 parameter
+     * @param statements 요청 동안 실행한 SQL 문 수
+     * @param sqlMillis  요청 동안 SQL 실행에 걸린 시간 합계
+     */
+    public record SlowRequest(
+            Instant recordedAt,
+            double elapsedMillis,
+            String method,
+            String uri,
+            String handler,
+            String searchType,
+            String page,
+            int status,
+            long statements,
+            double sqlMillis
+    ) {
+    }
+
+    public record SlowStatement(
+            Instant recordedAt,
+            double elapsedMillis,
+            String sql,
+            List<String> bindValues,
+            String thread
+    ) {
+    }
+
+    /**
+     * 최근 구간 동안 가장 느린 요청 / SQL 문 (오래 걸린 순)
+     */
+    public record Recording(
+            Duration window,
+            int size,
+            List<SlowRequest> requests,
+            List<SlowStatement> statements
+    ) {
+    }
+}
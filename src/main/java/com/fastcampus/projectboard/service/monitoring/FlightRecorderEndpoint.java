@@ -0,0 +1,32 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 최근 가장 느린 요청 / SQL 문 조회. ({@link FlightRecorder})
+ * <pre>
+ * GET    /actuator/flightrecorder : 조회
+ * DELETE /actuator/flightrecorder : 비우기 (ex. 설정 변경 후 다시 측정)
+ * </pre>
+ * bind 값이 들어 있을 수 있으므로 다른 actuator endpoint 와 같이 관리자만 볼 수 있다. (SecurityConfig)
+ * DELETE 는 CSRF 검사 대상이므로 로그인한 session 의 CSRF token 을 함께 보낸다. (ArticleImportController 의 예 참고)
+ */
+@Endpoint(id = "flightrecorder")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorder flightRecorder;
+
+    @ReadOperation
+    public FlightRecorder.Recording recording() {
+        return flightRecorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        flightRecorder.clear();
+    }
+}
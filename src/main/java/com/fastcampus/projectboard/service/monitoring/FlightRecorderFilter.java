@@ -0,0 +1,70 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청의 처리 시간과 SQL 문 수를 {@link FlightRecorder} 와 JFR event ({@link HttpRequestEvent}) 로 남긴다.
+ * 처리 중 예외가 난 요청도 남긴다.
+ */
+@RequiredArgsConstructor
+public class FlightRecorderFilter extends OncePerRequestFilter {
+
+    private final FlightRecorder flightRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        QueryCount count = QueryCounter.start();
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            QueryCounter.stop(count);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.handler = handler(request);
+                event.searchType = request.getParameter("searchType");
+                event.page = request.getParameter("page");
+                event.status = response.getStatus();
+                event.statements = count.getStatements();
+                event.commit();
+            }
+            flightRecorder.requestCompleted(elapsedNanos, () -> new FlightRecorder.SlowRequest(
+                    flightRecorder.now(),
+                    FlightRecorder.toMillis(elapsedNanos),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    handler(request),
+                    request.getParameter("searchType"),
+                    request.getParameter("page"),
+                    response.getStatus(),
+                    count.getStatements(),
+                    FlightRecorder.toMillis(count.getElapsedNanos())
+            ));
+        }
+    }
+
+    // 요청을 처리한 controller method (ex. "ArticleController#articles"). controller 까지 가지 못한 요청은 null
+    private static String handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+
+        return handler == null ? null : handler.getClass().getSimpleName();
+    }
+}
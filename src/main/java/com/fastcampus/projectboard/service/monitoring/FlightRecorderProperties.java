@@ -0,0 +1,40 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 느린 요청 / SQL 기록 설정. ({@code board.flight-recorder.*})
+ *
+ * @param size               요청, SQL 문 각각 남길 개수
+ * @param window             기록 구간. 최근 1 ~ 2 구간 동안 가장 느린 것을 남긴다.
+ * @param requestThreshold   이보다 빨리 끝난 요청은 보지 않는다.
+ * @param statementThreshold 이보다 빨리 끝난 SQL 문은 보지 않는다.
+ * @param bindValues         SQL 문의 bind 값을 함께 남긴다. (값은 앞 100 자까지) 개인 정보가 들어갈 수 있으므로 기본값은 남기지 않음
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.flight-recorder")
+public record FlightRecorderProperties(
+        @DefaultValue("20") int size,
+        @DefaultValue("5m") Duration window,
+        @DefaultValue("100ms") Duration requestThreshold,
+        @DefaultValue("10ms") Duration statementThreshold,
+        @DefaultValue("false") boolean bindValues
+) {
+
+    public FlightRecorderProperties {
+        if (size < 1) {
+            throw new IllegalArgumentException("board.flight-recorder.size 는 1 이상이어야 합니다. - size: " + size);
+        }
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("board.flight-recorder.window 는 0 보다 커야 합니다. - window: " + window);
+        }
+    }
+
+    public static FlightRecorderProperties of(int size, Duration window, Duration requestThreshold, Duration statementThreshold, boolean bindValues) {
+        return new FlightRecorderProperties(size, window, requestThreshold, statementThreshold, bindValues);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 본문에서 해시태그 이름 추출 한 번 (JFR event). 사용법은 {@link ArticleSearchEvent} 참고
+ */
+@Name("board.HashtagParse")
+@Label("Hashtag Parse")
+@Description("본문 해시태그 추출")
+@Category({"Board", "Hashtag"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class HashtagParseEvent extends Event {
+
+    @Label("Content Length")
+    int contentLength;
+
+    @Label("Hashtag Count")
+    int hashtagCount;
+
+    public void commit(String content, int hashtagCount) {
+        end();
+        if (shouldCommit()) {
+            this.contentLength = content == null ? 0 : content.length();
+            this.hashtagCount = hashtagCount;
+            commit();
+        }
+    }
+}
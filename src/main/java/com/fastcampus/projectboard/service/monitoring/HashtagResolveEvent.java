@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 해시태그 이름을 해시태그 (entity) 로 바꾸기 한 번 (JFR event). 사용법은 {@link ArticleSearchEvent} 참고
+ */
+@Name("board.HashtagResolve")
+@Label("Hashtag Resolve")
+@Description("해시태그 조회 / 새 해시태그 저장")
+@Category({"Board", "Hashtag"})
+@Threshold("5 ms")
+@StackTrace(false)
+public class HashtagResolveEvent extends Event {
+
+    @Label("Requested")
+    @Description("요청한 해시태그 이름 수")
+    int requested;
+
+    @Label("Created")
+    @Description("없어서 새로 저장한 해시태그 수")
+    int created;
+
+    public void commit(int requested, int created) {
+        end();
+        if (shouldCommit()) {
+            this.requested = requested;
+            this.created = created;
+            commit();
+        }
+    }
+}
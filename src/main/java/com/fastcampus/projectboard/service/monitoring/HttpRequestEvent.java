@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * HTTP 요청 하나의 처리 (JFR event). 기본으로 100 ms 이상 걸린 요청만 남는다. ({@link SqlStatementEvent} 참고)
+ */
+@Name("board.HttpRequest")
+@Label("HTTP Request")
+@Description("HTTP 요청 처리")
+@Category({"Board", "Web"})
+@Threshold("100 ms")
+@StackTrace(false)
+class HttpRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Search Type")
+    String searchType;
+
+    @Label("Page")
+    String page;
+
+    @Label("Status")
+    int status;
+
+    @Label("SQL Statements")
+    long statements;
+}
@@ -0,0 +1,11 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+/**
+ * SQL 문 수가 설정한 예산을 넘음. ({@code board.sql.fail-on-exceed: true} 일 때만 던진다)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
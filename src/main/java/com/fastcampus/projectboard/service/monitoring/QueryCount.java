@@ -0,0 +1,30 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 한 구간 (HTTP 요청, service method, test 의 일부 등) 동안 실행된 SQL 문 수, 읽거나 바꾼 row 수, 실행 시간.
+ * 구간은 {@link QueryCounter#start()} 부터 {@link QueryCounter#stop(QueryCount)} 까지이며, 구간을 시작한 thread 에서 실행된 문장만 센다.
+ * <p>
+ * row 수는 select 는 실제로 읽은 (ResultSet 을 넘긴) row 수, insert/update/delete 는 DB 가 알려준 변경 row 수다.
+ * 실행 시간은 문장 실행 (execute) 에 걸린 시간만이며, 결과를 읽는 시간은 포함하지 않는다.
+ */
+@Getter
+@ToString
+public class QueryCount {
+
+    private long statements;
+    private long rows;
+    private long elapsedNanos;
+
+    void addStatement(long rows, long elapsedNanos) {
+        this.statements++;
+        this.rows += rows;
+        this.elapsedNanos += elapsedNanos;
+    }
+
+    void addRow() {
+        this.rows++;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 게시글, 댓글, 해시태그 service 의 public method 한 번 호출 동안 실행된 SQL 문을 세어 {@link QueryCountRecorder} 에 넘긴다.
+ * transaction 보다 바깥에서 세어야 commit 때 flush 되는 insert/update 까지 포함되므로 가장 먼저 적용한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountAspect {
+
+    private final QueryCountRecorder queryCountRecorder;
+
+    @Around("execution(public * com.fastcampus.projectboard.service.ArticleService.*(..))"
+            + " || execution(public * com.fastcampus.projectboard.service.ArticleCommentService.*(..))"
+            + " || execution(public * com.fastcampus.projectboard.service.HashtagService.*(..))")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryCount count = QueryCounter.start();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            QueryCounter.stop(count);
+        }
+
+        queryCountRecorder.record(QueryCountRecorder.METHOD,
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(), count);
+
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 문을 세어 {@link QueryCountRecorder} 에 넘긴다.
+ * 요청 이름은 요청 URL 대신 mapping 된 pattern 을 쓴다. (ex. "GET /articles/{articleId}", metric tag 수가 늘어나지 않도록)
+ * 처리 중 예외가 난 요청은 남기지 않는다.
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final QueryCountRecorder queryCountRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCount count = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop(count);
+        }
+
+        queryCountRecorder.record(QueryCountRecorder.REQUEST, request.getMethod() + " " + pattern(request), count);
+    }
+
+    private static String pattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+}
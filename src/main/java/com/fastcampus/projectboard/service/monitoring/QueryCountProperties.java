@@ -0,0 +1,25 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * SQL 문 수 예산 설정. ({@code board.sql.*})
+ *
+ * @param requestStatementBudget HTTP 요청 하나에서 실행해도 되는 SQL 문 수
+ * @param methodStatementBudget  service method 한 번 호출에서 실행해도 되는 SQL 문 수
+ * @param failOnExceed           예산을 넘으면 경고 log 대신 {@link QueryBudgetExceededException} 을 던진다. (test 용)
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.sql")
+public record QueryCountProperties(
+        @DefaultValue("20") int requestStatementBudget,
+        @DefaultValue("15") int methodStatementBudget,
+        @DefaultValue("false") boolean failOnExceed
+) {
+
+    public static QueryCountProperties of(int requestStatementBudget, int methodStatementBudget, boolean failOnExceed) {
+        return new QueryCountProperties(requestStatementBudget, methodStatementBudget, failOnExceed);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간별 SQL 문 수, row 수, 실행 시간을 metric 으로 남기고 예산과 비교한다.
+ * <p>
+ * metric 은 {@code board.sql.statements}, {@code board.sql.rows} (분포), {@code board.sql.time} (timer) 이며,
+ * {@code scope} (request / method) 와 {@code name} (ex. "GET /articles/{articleId}", "ArticleService.getArticle") tag 로 나뉜다.
+ * ex) /actuator/metrics/board.sql.statements?tag=scope:request&tag=name:GET%20/articles
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountRecorder {
+
+    public static final String REQUEST = "request";
+    public static final String METHOD = "method";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryCountProperties properties;
+
+    public void record(String scope, String name, QueryCount count) {
+        DistributionSummary.builder("board.sql.statements")
+                .description("구간별 실행 SQL 문 수")
+                .tags("scope", scope, "name", name)
+                .register(meterRegistry)
+                .record(count.getStatements());
+        DistributionSummary.builder("board.sql.rows")
+                .description("구간별 SQL 로 읽거나 바꾼 row 수")
+                .tags("scope", scope, "name", name)
+                .register(meterRegistry)
+                .record(count.getRows());
+        Timer.builder("board.sql.time")
+                .description("구간별 SQL 실행 시간 합계")
+                .tags("scope", scope, "name", name)
+                .register(meterRegistry)
+                .record(count.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = REQUEST.equals(scope) ? properties.requestStatementBudget() : properties.methodStatementBudget();
+        if (count.getStatements() > budget) {
+            String message = String.format("SQL 문 수 예산 초과 (N+1 의심) - %s %s: %d 문장 (예산 %d), %d rows, %d ms",
+                    scope, name, count.getStatements(), budget, count.getRows(), TimeUnit.NANOSECONDS.toMillis(count.getElapsedNanos()));
+            if (properties.failOnExceed()) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+}
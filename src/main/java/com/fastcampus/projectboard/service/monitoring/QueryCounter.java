@@ -0,0 +1,68 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+
+/**
+ * thread 별로 측정 중인 구간 ({@link QueryCount}) 을 들고 있다.
+ * 구간은 겹쳐서 (ex. HTTP 요청 안의 service method) 열 수 있으며, SQL 문은 그 thread 에 열린 모든 구간에 더해진다.
+ * <p>
+ * test 에서는 {@link #measure(Callable)} 로 원하는 부분의 query 수를 고정 (pin) 할 수 있다.
+ * <pre>{@code
+ * QueryCount count = QueryCounter.measure(() -> mvc.perform(get("/articles")));
+ * assertThat(count.getStatements()).isEqualTo(2);
+ * }</pre>
+ */
+public final class QueryCounter {
+
+    private static final QueryCount[] NO_SCOPES = new QueryCount[0];
+    private static final ThreadLocal<Deque<QueryCount>> SCOPES = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryCount start() {
+        Deque<QueryCount> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryCount count = new QueryCount();
+        scopes.push(count);
+
+        return count;
+    }
+
+    public static void stop(QueryCount count) {
+        Deque<QueryCount> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(count);
+        // thread pool 의 thread 에 빈 deque 를 남겨두지 않는다.
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    /**
+     * {@code work} 를 실행하는 동안의 SQL 문 수를 센다.
+     */
+    public static QueryCount measure(Callable<?> work) throws Exception {
+        QueryCount count = start();
+        try {
+            work.call();
+        } finally {
+            stop(count);
+        }
+
+        return count;
+    }
+
+    // 측정 중인 구간이 없으면 빈 배열 (SQL 문 실행 시 아무것도 하지 않는다)
+    static QueryCount[] activeScopes() {
+        Deque<QueryCount> scopes = SCOPES.get();
+        return scopes == null ? NO_SCOPES : scopes.toArray(NO_SCOPES);
+    }
+}
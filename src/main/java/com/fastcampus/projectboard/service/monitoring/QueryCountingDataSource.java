@@ -0,0 +1,239 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource 를 감싸서 (JDK dynamic proxy), 실행되는 SQL 문마다 {@link QueryCounter} 로 열린 구간에 문장 수, row 수, 실행 시간을 더한다.
+ * <p>
+ * DataSource -> Connection -> Statement -> ResultSet 순으로 감싼다. 열린 구간이 없으면 (ex. scheduler, 애플리케이션 시작)
+ * 세지 않고 원래 객체를 그대로 호출하며, ResultSet 도 감싸지 않는다.
+ * {@code unwrap} 등 나머지 method 는 원래 객체로 넘기므로, HikariCP metric 처럼 원래 DataSource 를 찾는 쪽은 그대로 동작한다.
+ * <p>
+ * 실행 시간은 구간과 관계없이 모든 문장에 대해 재서 {@link StatementListener} (느린 SQL 기록) 와 JFR event ({@link SqlStatementEvent}) 로 넘긴다.
+ * 이를 위해 SQL 과 PreparedStatement 의 bind 값을 문장 객체마다 들고 있는다. (bind 값은 다음 bind 로 덮어쓴다)
+ */
+public final class QueryCountingDataSource {
+
+    private QueryCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return wrap(dataSource, StatementListener.NONE);
+    }
+
+    public static DataSource wrap(DataSource dataSource, StatementListener listener) {
+        if (isWrapped(dataSource)) {
+            return dataSource;
+        }
+
+        return (DataSource) proxy(dataSource, ClassUtils.getAllInterfaces(dataSource), new DataSourceHandler(dataSource, listener));
+    }
+
+    public static boolean isWrapped(Object object) {
+        return Proxy.isProxyClass(object.getClass()) && Proxy.getInvocationHandler(object) instanceof DataSourceHandler;
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), interfaces, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "QueryCounting(" + target + ")";
+                default -> handle(method, args);
+            };
+        }
+
+        protected abstract Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static class DataSourceHandler extends DelegatingHandler {
+
+        private final StatementListener listener;
+
+        DataSourceHandler(DataSource target, StatementListener listener) {
+            super(target);
+            this.listener = listener;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (method.getName().equals("getConnection")) {
+                return proxy(result, new Class<?>[]{Connection.class}, new ConnectionHandler(result, listener));
+            }
+
+            return result;
+        }
+    }
+
+    private static class ConnectionHandler extends DelegatingHandler {
+
+        private final StatementListener listener;
+
+        ConnectionHandler(Object target, StatementListener listener) {
+            super(target);
+            this.listener = listener;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            // createStatement -> Statement, prepareStatement -> PreparedStatement, prepareCall -> CallableStatement
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Statement.class || returnType == PreparedStatement.class || returnType == CallableStatement.class) {
+                // prepareStatement / prepareCall 은 첫 인자가 SQL. createStatement 는 execute 할 때 받는다.
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                return proxy(result, new Class<?>[]{returnType}, new StatementHandler(result, sql, listener));
+            }
+
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends DelegatingHandler {
+
+        private final StatementListener listener;
+        private final List<Object> bindValues = new ArrayList<>();
+        private String sql;
+
+        StatementHandler(Object target, String sql, StatementListener listener) {
+            super(target);
+            this.sql = sql;
+            this.listener = listener;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                captureSqlOrBindValue(name, args);
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+            if (args != null && args.length > 0 && args[0] instanceof String value) {
+                sql = value; // Statement.execute*(sql, ...)
+            }
+
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            long startedAt = System.nanoTime();
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            event.end();
+
+            long rows = changedRows(result);
+            if (event.shouldCommit()) {
+                event.sql = sql;
+                event.bindValues = bindValues.toString();
+                event.changedRows = rows;
+                event.commit();
+            }
+            listener.statementExecuted(sql, bindValues, elapsedNanos);
+
+            QueryCount[] scopes = QueryCounter.activeScopes();
+            if (scopes.length == 0) {
+                return result;
+            }
+            for (QueryCount scope : scopes) {
+                scope.addStatement(rows, elapsedNanos);
+            }
+            // select 의 row 수는 ResultSet 을 넘길 때 센다.
+            if (result instanceof ResultSet resultSet) {
+                return proxy(resultSet, new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet, scopes));
+            }
+
+            return result;
+        }
+
+        // PreparedStatement.setXxx(parameterIndex, value, ...) 의 bind 값과 Statement.addBatch(sql) 의 SQL
+        private void captureSqlOrBindValue(String name, Object[] args) {
+            if (name.equals("clearParameters")) {
+                bindValues.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String value) {
+                sql = value;
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer parameterIndex && parameterIndex > 0) {
+                int index = parameterIndex - 1;
+                while (bindValues.size() <= index) {
+                    bindValues.add(null);
+                }
+                bindValues.set(index, name.equals("setNull") ? null : args[1]);
+            }
+        }
+
+        // executeUpdate / executeLargeUpdate / executeBatch 의 변경 row 수 (execute 는 결과 종류를 알 수 없으므로 0)
+        private static long changedRows(Object result) {
+            if (result instanceof Integer rows) {
+                return Math.max(rows, 0);
+            }
+            if (result instanceof Long rows) {
+                return Math.max(rows, 0);
+            }
+            long rows = 0;
+            if (result instanceof int[] batchRows) {
+                for (int row : batchRows) {
+                    rows += Math.max(row, 0); // SUCCESS_NO_INFO (-2) 는 제외
+                }
+            } else if (result instanceof long[] batchRows) {
+                for (long row : batchRows) {
+                    rows += Math.max(row, 0);
+                }
+            }
+
+            return rows;
+        }
+    }
+
+    private static class ResultSetHandler extends DelegatingHandler {
+
+        private final QueryCount[] scopes;
+
+        ResultSetHandler(ResultSet target, QueryCount[] scopes) {
+            super(target);
+            this.scopes = scopes;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                for (QueryCount scope : scopes) {
+                    scope.addRow();
+                }
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 애플리케이션의 DataSource bean 을 {@link QueryCountingDataSource} 로 감싼다.
+ * 다른 설정에 의존하지 않으므로 {@code @DataJpaTest} 에서도 {@code @Import} 해서 query 수를 셀 수 있다.
+ * <p>
+ * {@link StatementListener} bean (ex. {@link FlightRecorder}) 이 있으면 실행된 문장을 넘긴다.
+ * BeanPostProcessor 는 다른 bean 보다 먼저 만들어지므로, listener 는 처음 문장이 실행될 때 찾는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<StatementListener> statementListener;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return QueryCountingDataSource.wrap(dataSource, new LazyStatementListener(statementListener));
+        }
+
+        return bean;
+    }
+
+    @RequiredArgsConstructor
+    private static class LazyStatementListener implements StatementListener {
+
+        private final ObjectProvider<StatementListener> provider;
+        private volatile StatementListener resolved;
+
+        @Override
+        public void statementExecuted(String sql, List<Object> bindValues, long elapsedNanos) {
+            StatementListener listener = resolved;
+            if (listener == null) {
+                // listener bean 이 없는 context (ex. @DataJpaTest) 에서는 매번 찾는다.
+                listener = provider.getIfUnique();
+                if (listener == null) {
+                    return;
+                }
+                resolved = listener;
+            }
+            listener.statementExecuted(sql, bindValues, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글, 댓글, 해시태그, 회원 service 의 public method 실행 시간을 {@code board.service} timer 로 남긴다.
+ * <p>
+ * tag 는 {@code method} (ex. "ArticleService.searchArticles") 와 {@code searchType} (검색 유형 인자가 있는 method 만, 나머지는 "none") 이며,
+ * 백분위 (p50, p95, p99) 와 Prometheus 등에서 합산할 수 있는 histogram 을 함께 남긴다.
+ * ex) /actuator/metrics/board.service?tag=method:ArticleService.searchArticles&tag=searchType:HASHTAG
+ * <p>
+ * 호출마다 timer 를 찾는 비용을 줄이기 위해 method (와 검색 유형) 별 timer 를 한 번만 만들어 둔다.
+ * 측정 비용은 ServiceTimerBenchmark 참고.
+ * {@link QueryCountAspect} 바로 안쪽에서 transaction 을 포함한 시간을 잰다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ServiceTimerAspect {
+
+    public static final String METRIC_NAME = "board.service";
+    static final String NO_SEARCH_TYPE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.fastcampus.projectboard.service.ArticleService.*(..))"
+            + " || execution(public * com.fastcampus.projectboard.service.ArticleCommentService.*(..))"
+            + " || execution(public * com.fastcampus.projectboard.service.HashtagService.*(..))"
+            + " || execution(public * com.fastcampus.projectboard.service.UserAccountService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(method, MethodTimers::new);
+        Timer timer = methodTimers.timer(joinPoint.getArgs());
+
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // method 하나의 timer. 검색 유형 인자가 있으면 검색 유형마다 timer 를 따로 둔다.
+    private class MethodTimers {
+
+        private final String name;
+        private final int searchTypeIndex;
+        private final Timer noSearchType;
+        private final Map<SearchType, Timer> bySearchType = new EnumMap<>(SearchType.class);
+
+        MethodTimers(Method method) {
+            this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.searchTypeIndex = indexOfSearchType(method.getParameterTypes());
+            this.noSearchType = register(NO_SEARCH_TYPE);
+            if (searchTypeIndex >= 0) {
+                for (SearchType searchType : SearchType.values()) {
+                    bySearchType.put(searchType, register(searchType.name()));
+                }
+            }
+        }
+
+        Timer timer(Object[] args) {
+            if (searchTypeIndex < 0 || args[searchTypeIndex] == null) {
+                return noSearchType;
+            }
+
+            return bySearchType.get((SearchType) args[searchTypeIndex]);
+        }
+
+        private Timer register(String searchType) {
+            return Timer.builder(METRIC_NAME)
+                    .description("service method 실행 시간")
+                    .tags("method", name, "searchType", searchType)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    // 해시태그 파싱처럼 µs 단위로 끝나는 method 도 있으므로 histogram 구간을 기본 (1ms ~) 보다 아래부터 둔다.
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+
+        private static int indexOfSearchType(Class<?>[] parameterTypes) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i] == SearchType.class) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+/**
+ * 최근 구간 (window) 동안 가장 오래 걸린 항목 {@code size} 개를 들고 있는 고정 크기 buffer.
+ * <p>
+ * 구간이 지나면 현재 구간을 이전 구간으로 넘기고 새로 시작하며, 조회 결과는 이전 구간과 현재 구간을 합친 상위 {@code size} 개다.
+ * (따라서 최근 1 ~ 2 구간의 항목이 보인다) 메모리는 구간마다 최대 {@code size} 개로 고정이다.
+ * <p>
+ * 대부분의 호출은 이미 찬 buffer 의 가장 빠른 항목보다도 빠르므로, lock 없이 비교만 하고 돌아간다.
+ * 항목 내용은 buffer 에 들어갈 때만 만든다. ({@link #offer(long, Supplier)})
+ */
+class SlowestEntries<T> {
+
+    private static final Comparator<Entry<?>> FASTEST_FIRST = Comparator.comparingLong(Entry::elapsedNanos);
+
+    private final int size;
+    private final long windowMillis;
+    private final Clock clock;
+
+    private PriorityQueue<Entry<T>> current;
+    private PriorityQueue<Entry<T>> previous;
+    private long currentStartedAt;
+    // 현재 구간이 가득 찼을 때 들어오려면 넘어야 하는 시간. 구간이 끝나는 시각과 함께 lock 없이 읽는다.
+    private volatile long admissionNanos;
+    private volatile long currentEndsAt;
+
+    SlowestEntries(int size, Duration window, Clock clock) {
+        this.size = size;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.current = new PriorityQueue<>(size, FASTEST_FIRST);
+        this.previous = new PriorityQueue<>(size, FASTEST_FIRST);
+        startWindow(clock.millis());
+    }
+
+    /**
+     * @return buffer 에 들어갔으면 true
+     */
+    boolean offer(long elapsedNanos, Supplier<T> value) {
+        long now = clock.millis();
+        if (elapsedNanos <= admissionNanos && now < currentEndsAt) {
+            return false;
+        }
+
+        synchronized (this) {
+            rotateIfExpired(now);
+            if (current.size() == size) {
+                if (elapsedNanos <= current.peek().elapsedNanos()) {
+                    return false;
+                }
+                current.poll();
+            }
+            current.add(new Entry<>(elapsedNanos, value.get()));
+            if (current.size() == size) {
+                admissionNanos = current.peek().elapsedNanos();
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * @return 최근 구간의 항목을 오래 걸린 순으로 최대 {@code size} 개
+     */
+    synchronized List<T> snapshot() {
+        rotateIfExpired(clock.millis());
+        List<Entry<T>> entries = new ArrayList<>(previous.size() + current.size());
+        entries.addAll(previous);
+        entries.addAll(current);
+        entries.sort(FASTEST_FIRST.reversed());
+
+        return entries.stream()
+                .limit(size)
+                .map(Entry::value)
+                .toList();
+    }
+
+    synchronized void clear() {
+        previous.clear();
+        current.clear();
+        startWindow(clock.millis());
+    }
+
+    private void rotateIfExpired(long now) {
+        if (now < currentEndsAt) {
+            return;
+        }
+        // 두 구간 이상 비어 있었으면 이전 구간도 오래된 것이므로 버린다.
+        PriorityQueue<Entry<T>> expired = previous;
+        expired.clear();
+        if (now - currentStartedAt < 2 * windowMillis) {
+            previous = current;
+            current = expired;
+        } else {
+            current.clear();
+        }
+        startWindow(now);
+    }
+
+    private void startWindow(long now) {
+        currentStartedAt = now;
+        currentEndsAt = now + windowMillis;
+        admissionNanos = 0;
+    }
+
+    private record Entry<T>(long elapsedNanos, T value) {
+    }
+}
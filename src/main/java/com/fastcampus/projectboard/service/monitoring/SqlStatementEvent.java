@@ -0,0 +1,35 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * SQL 문 하나의 실행 (JFR event). GC, lock 대기 등 같은 시간대의 JVM event 와 함께 볼 수 있다.
+ * 기본으로 10 ms 이상 걸린 문장만 남으며, JFR 설정 (threshold) 으로 바꿀 수 있다.
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start name=board duration=60s filename=board.jfr
+ * jfr print --events board.SqlStatement board.jfr
+ * </pre>
+ */
+@Name("board.SqlStatement")
+@Label("SQL Statement")
+@Description("SQL 문 실행")
+@Category({"Board", "SQL"})
+@Threshold("10 ms")
+@StackTrace(false)
+class SqlStatementEvent extends jdk.jfr.Event {
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Bind Values")
+    String bindValues;
+
+    @Label("Changed Rows")
+    @Description("insert / update / delete 로 바뀐 row 수 (select 는 0)")
+    long changedRows;
+}
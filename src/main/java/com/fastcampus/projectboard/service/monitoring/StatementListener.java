@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import java.util.List;
+
+/**
+ * {@link QueryCountingDataSource} 로 감싼 DataSource 에서 SQL 문이 실행될 때마다 (측정 구간과 관계없이) 호출된다.
+ * 실행 thread 에서 바로 호출되므로 오래 걸리는 작업을 하면 안 된다.
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    StatementListener NONE = (sql, bindValues, elapsedNanos) -> { };
+
+    /**
+     * @param sql          실행한 SQL (batch 는 마지막으로 추가한 문장)
+     * @param bindValues   PreparedStatement 에 마지막으로 넣은 bind 값 (1 번 parameter 부터). 이 호출 안에서만 유효하다.
+     * @param elapsedNanos 실행 (execute) 에 걸린 시간
+     */
+    void statementExecuted(String sql, List<Object> bindValues, long elapsedNanos);
+}
@@ -0,0 +1,32 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Thymeleaf template rendering 한 번 (JFR event). {@link TimedViewResolver} 가 남긴다.
+ */
+@Name("board.TemplateRender")
+@Label("Template Render")
+@Description("Thymeleaf template rendering")
+@Category({"Board", "Web"})
+@Threshold("10 ms")
+@StackTrace(false)
+class TemplateRenderEvent extends Event {
+
+    @Label("Template")
+    String template;
+
+    void commit(String template) {
+        end();
+        if (shouldCommit()) {
+            this.template = template;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.thymeleaf.spring5.view.AbstractThymeleafView;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ThymeleafViewResolver} 가 돌려주는 화면의 rendering 시간을 template 별 {@code board.view.render} timer 로 남긴다.
+ * ex) /actuator/metrics/board.view.render?tag=template:articles/index
+ * <p>
+ * redirect / forward 처럼 template 이 아닌 view 는 그대로 돌려준다. (view 이름에 id 등이 들어가므로 tag 로 쓰지 않는다)
+ * service method 시간 ({@link ServiceTimerAspect}) 과 나눠서, 느린 화면이 조회 때문인지 rendering 때문인지 구분할 수 있다.
+ * JFR 기록 중이면 같은 시간을 {@link TemplateRenderEvent} 로도 남긴다.
+ */
+public class TimedViewResolver implements ViewResolver, Ordered {
+
+    public static final String METRIC_NAME = "board.view.render";
+
+    private final ThymeleafViewResolver delegate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedViewResolver(ThymeleafViewResolver delegate, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) throws Exception {
+        View view = delegate.resolveViewName(viewName, locale);
+        if (view instanceof AbstractThymeleafView thymeleafView) {
+            String templateName = thymeleafView.getTemplateName();
+            return new TimedView(view, templateName, timers.computeIfAbsent(templateName, this::register));
+        }
+
+        return view;
+    }
+
+    @Override
+    public int getOrder() {
+        return delegate.getOrder();
+    }
+
+    private Timer register(String templateName) {
+        return Timer.builder(METRIC_NAME)
+                .description("template rendering 시간")
+                .tag("template", templateName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry.getObject());
+    }
+
+    private record TimedView(View delegate, String templateName, Timer timer) implements View {
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+            TemplateRenderEvent event = new TemplateRenderEvent();
+            event.begin();
+            long startedAt = System.nanoTime();
+            try {
+                delegate.render(model, request, response);
+            } finally {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                event.commit(templateName);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+/**
+ * Spring Boot 가 만든 {@link ThymeleafViewResolver} 를 {@link TimedViewResolver} 로 감싼다.
+ * BeanPostProcessor 는 다른 bean 보다 먼저 만들어지므로 MeterRegistry 는 처음 rendering 할 때 가져온다.
+ */
+@RequiredArgsConstructor
+public class TimedViewResolverPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ThymeleafViewResolver viewResolver) {
+            return new TimedViewResolver(viewResolver, meterRegistry);
+        }
+
+        return bean;
+    }
+}
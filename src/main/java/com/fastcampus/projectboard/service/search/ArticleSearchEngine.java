@@ -0,0 +1,49 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+
+import java.util.List;
+
+/**
+ * 게시글 제목/본문 전문 검색 엔진.
+ * <p>
+ * {@code LIKE '%keyword%'} 검색은 index 를 탈 수 없어 게시글 수에 비례해서 느려지므로,
+ * 제목/본문 검색은 이 interface 의 구현체에 맡기고 DB 에서는 찾아낸 id 로만 게시글을 조회한다.
+ * 구현체를 교체할 수 있도록 {@link com.fastcampus.projectboard.service.ArticleService} 는 이 interface 에만 의존한다.
+ */
+public interface ArticleSearchEngine {
+
+    /**
+     * 해당 검색 조건을 이 엔진으로 처리할 수 있는지 알려준다.
+     * {@code false} 라면 호출하는 쪽에서 기존 DB 검색으로 대신 처리해야 한다. (색인 구성 중, 지원하지 않는 검색어 등)
+     */
+    boolean supports(SearchType searchType, String keyword);
+
+    /**
+     * 검색어에 맞는 게시글 id 를 연관도가 높은 순서로 반환한다.
+     */
+    List<Long> search(SearchType searchType, String keyword);
+
+    /**
+     * 게시글을 색인에 추가한다. 이미 색인된 게시글이면 기존 내용을 새 내용으로 교체한다.
+     */
+    void index(Long articleId, String title, String content);
+
+    void remove(Long articleId);
+
+    /**
+     * 색인 구성 ({@link #clear()} ~ {@link #markReady()}) 중에 DB 에서 읽어 온 게시글을 색인한다.
+     * 그 사이 {@link #index}, {@link #remove} 로 들어온 변경은 구성이 끝날 때 이 내용 위에 반영되어야 한다. (먼저 읽어 둔 예전 내용이 덮어쓰지 않도록)
+     */
+    void load(Long articleId, String title, String content);
+
+    /**
+     * 색인을 비운다. 색인을 다시 만드는 동안에는 {@link #supports} 가 {@code false} 를 반환한다.
+     */
+    void clear();
+
+    /**
+     * 색인 구성이 끝났음을 알린다. 구성 중에 들어온 변경을 반영한 뒤, 이후부터 검색 요청을 처리한다.
+     */
+    void markReady();
+}
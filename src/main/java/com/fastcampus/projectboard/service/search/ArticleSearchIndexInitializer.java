@@ -0,0 +1,49 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션이 뜨면 article table 전체를 읽어 검색 색인을 만든다.
+ * 색인이 만들어지는 동안의 제목/본문 검색은 기존 DB 검색으로 처리된다.
+ * 그 사이 수정/삭제된 게시글은 검색 엔진이 구성이 끝난 뒤에 반영하므로, 여기서 먼저 읽어 둔 예전 내용이 남지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchEngine articleSearchEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startedAt = System.currentTimeMillis();
+        articleSearchEngine.clear();
+
+        long lastId = 0L;
+        long indexedCount = 0L;
+        List<ArticleSearchDocument> documents;
+        do {
+            // id 기준 keyset 방식으로 잘라 읽는다. (offset 방식은 뒤로 갈수록 느려짐)
+            documents = articleRepository.findSearchDocuments(lastId, BATCH_SIZE);
+            for (ArticleSearchDocument document : documents) {
+                articleSearchEngine.load(document.id(), document.title(), document.content());
+                lastId = document.id();
+            }
+            indexedCount += documents.size();
+        } while (documents.size() == BATCH_SIZE);
+
+        articleSearchEngine.markReady();
+        log.info("게시글 검색 색인 구성 완료 - {} 건, {} ms", indexedCount, System.currentTimeMillis() - startedAt);
+    }
+}
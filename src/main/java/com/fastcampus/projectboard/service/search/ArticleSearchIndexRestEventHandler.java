@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.service.AfterCommit;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data REST ({@code /api/articles}) 를 통한 게시글 쓰기는 service 를 거치지 않으므로, 여기서 검색 색인과 검색 결과 수 cache 에 반영한다.
+ * 반영하지 않으면 API 로 작성/수정한 게시글은 재시작 전까지 제목/본문 검색에 나오지 않는다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleSearchIndexRestEventHandler {
+
+    private final ArticleSearchEngine articleSearchEngine;
+    private final SearchCountStrategy searchCountStrategy;
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    public void handleArticleSave(Article article) {
+        Long articleId = article.getId();
+        String title = article.getTitle();
+        String content = article.getContent();
+        AfterCommit.run(() -> {
+            articleSearchEngine.index(articleId, title, content);
+            searchCountStrategy.evictAll();
+        });
+    }
+
+    @HandleAfterDelete
+    public void handleArticleDelete(Article article) {
+        Long articleId = article.getId();
+        AfterCommit.run(() -> {
+            articleSearchEngine.remove(articleId);
+            searchCountStrategy.evictAll();
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 본문을 위한 tokenizer.
+ * <p>
+ * 한글은 조사가 단어에 붙어 나오기 때문에 ("스프링을", "스프링부트는") 공백 단위 단어만으로는 부분 검색이 되지 않는다.
+ * 그래서 글자(letter/digit) 단위로 단어를 나눈 뒤, 단어 안에서 연속된 두 글자 (bigram) 를 모두 token 으로 만든다.
+ * 검색어의 bigram 이 모두 들어있는 문서를 찾으면 {@code LIKE '%검색어%'} 와 거의 같은 결과를 얻을 수 있다.
+ * <p>
+ * 공백 단위 단어 token 도 같이 만들어서, 단어가 정확히 일치하는 문서의 점수를 높이는 데 사용한다.
+ * 단어 token 은 bigram 과 겹치지 않도록 앞에 {@link #WORD_PREFIX} 를 붙인다.
+ */
+public final class BigramTokenizer {
+
+    static final char WORD_PREFIX = ' ';
+
+    private BigramTokenizer() {}
+
+    /**
+     * 색인용. 문서에 나오는 token 과 출현 횟수를 반환한다.
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : words(text)) {
+            frequencies.merge(WORD_PREFIX + word, 1, Integer::sum);
+            for (int i = 0; i + 1 < word.length(); i++) {
+                frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+            }
+        }
+
+        return frequencies;
+    }
+
+    /**
+     * 검색용. 검색어를 단어 단위로 나눈다.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) { start = i; }
+            } else if (start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+
+        return words;
+    }
+
+    /**
+     * 검색용. 검색어 단어들의 bigram 을 중복 없이 반환한다. 문서는 이 token 들을 모두 가지고 있어야 검색 결과가 된다.
+     */
+    public static Set<String> bigrams(List<String> words) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (String word : words) {
+            for (int i = 0; i + 1 < word.length(); i++) {
+                bigrams.add(word.substring(i, i + 2));
+            }
+        }
+
+        return bigrams;
+    }
+
+    public static String wordTerm(String word) {
+        return WORD_PREFIX + word;
+    }
+}
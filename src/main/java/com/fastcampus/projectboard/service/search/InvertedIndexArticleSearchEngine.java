@@ -0,0 +1,362 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 내 역색인 (inverted index) 기반 검색 엔진.
+ * <p>
+ * 제목, 본문을 각각 별도 색인으로 관리한다. 색인은 token 별로 (문서 번호, 출현 횟수) 목록 (posting) 을 가진다.
+ * 문서 번호는 색인할 때마다 1씩 증가시켜 부여하므로 posting 은 항상 문서 번호 순으로 정렬되어 있고,
+ * 게시글이 수정/삭제되면 기존 문서 번호를 삭제 표시만 하고, 삭제 표시된 문서가 살아있는 문서보다 많아지면 문서 번호를 다시 매겨 정리한다.
+ * <p>
+ * 검색 결과는 검색어 bigram 을 모두 가진 문서들을 TF-IDF 점수 (단어 일치 가산점 포함) 순으로 정렬한다.
+ * <p>
+ * 색인을 구성하는 동안 ({@link #clear()} ~ {@link #markReady()}) 들어온 수정/삭제는 바로 반영하지 않고 모아 두었다가,
+ * 구성이 끝나면 DB 에서 읽어 온 내용 위에 순서대로 반영한다. -> 구성 중에 먼저 읽어 둔 예전 내용이 나중에 색인되어 수정/삭제를 덮어쓰지 않는다.
+ */
+@Component
+public class InvertedIndexArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final double WORD_MATCH_BONUS = 2.0;
+
+    private final FieldIndex titleIndex = new FieldIndex();
+    private final FieldIndex contentIndex = new FieldIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pendingChanges = new ArrayList<>(); // 색인 구성 중 들어온 수정/삭제 (write lock 안에서만 사용)
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean supports(SearchType searchType, String keyword) {
+        if (!ready || (searchType != SearchType.TITLE && searchType != SearchType.CONTENT)) {
+            return false;
+        }
+
+        // 한 글자 단어는 bigram 을 만들 수 없으므로 DB 검색에 맡긴다.
+        List<String> words = BigramTokenizer.words(keyword);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= 2);
+    }
+
+    @Override
+    public List<Long> search(SearchType searchType, String keyword) {
+        FieldIndex fieldIndex = searchType == SearchType.TITLE ? titleIndex : contentIndex;
+        List<String> words = BigramTokenizer.words(keyword);
+
+        lock.readLock().lock();
+        try {
+            return fieldIndex.search(words);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Long articleId, String title, String content) {
+        Map<String, Integer> titleTerms = BigramTokenizer.termFrequencies(title);
+        Map<String, Integer> contentTerms = BigramTokenizer.termFrequencies(content);
+
+        applyOrDefer(() -> {
+            titleIndex.add(articleId, titleTerms);
+            contentIndex.add(articleId, contentTerms);
+        });
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        applyOrDefer(() -> {
+            titleIndex.remove(articleId);
+            contentIndex.remove(articleId);
+        });
+    }
+
+    @Override
+    public void load(Long articleId, String title, String content) {
+        Map<String, Integer> titleTerms = BigramTokenizer.termFrequencies(title);
+        Map<String, Integer> contentTerms = BigramTokenizer.termFrequencies(content);
+
+        lock.writeLock().lock();
+        try {
+            titleIndex.add(articleId, titleTerms);
+            contentIndex.add(articleId, contentTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            titleIndex.clear();
+            contentIndex.clear();
+            // 이미 commit 된 변경이므로, 이후 색인 구성에서 DB 를 읽을 때 함께 반영된다.
+            pendingChanges.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인 구성 중이라면 markReady 때 반영하도록 모아 둔다.
+    // ready 확인과 반영을 같은 write lock 안에서 하므로, markReady 와 겹쳐도 빠지거나 순서가 바뀌는 변경이 없다.
+    private void applyOrDefer(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.run();
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 삭제 표시된 문서를 포함한 제목 색인의 문서 번호 수 (test 용)
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return titleIndex.documentSlots();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private static final class FieldIndex {
+        // 삭제 표시된 문서가 살아있는 문서 수 (최소 COMPACT_MIN_DELETED) 를 넘으면 문서 번호를 다시 매긴다.
+        private static final int COMPACT_MIN_DELETED = 1_024;
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> docNumberByArticleId = new HashMap<>();
+        private long[] articleIdByDocNumber = new long[1024];
+        // 삭제할 때 문서가 들어있는 posting 의 살아있는 문서 수 (document frequency) 를 줄이기 위함
+        private Postings[][] postingsByDocNumber = new Postings[1024][];
+        private final BitSet deleted = new BitSet();
+        private int nextDocNumber = 0;
+
+        void add(Long articleId, Map<String, Integer> termFrequencies) {
+            remove(articleId);
+
+            int docNumber = nextDocNumber++;
+            if (docNumber == articleIdByDocNumber.length) {
+                articleIdByDocNumber = Arrays.copyOf(articleIdByDocNumber, docNumber * 2);
+                postingsByDocNumber = Arrays.copyOf(postingsByDocNumber, docNumber * 2);
+            }
+            articleIdByDocNumber[docNumber] = articleId;
+            docNumberByArticleId.put(articleId, docNumber);
+
+            Postings[] documentPostings = new Postings[termFrequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                Postings list = postings.computeIfAbsent(entry.getKey(), key -> new Postings());
+                list.add(docNumber, entry.getValue());
+                documentPostings[i++] = list;
+            }
+            postingsByDocNumber[docNumber] = documentPostings;
+        }
+
+        void remove(Long articleId) {
+            Integer docNumber = docNumberByArticleId.remove(articleId);
+            if (docNumber == null) {
+                return;
+            }
+
+            deleted.set(docNumber);
+            for (Postings list : postingsByDocNumber[docNumber]) {
+                list.liveSize--;
+            }
+            postingsByDocNumber[docNumber] = null;
+
+            int deletedCount = nextDocNumber - docNumberByArticleId.size();
+            if (deletedCount >= Math.max(docNumberByArticleId.size(), COMPACT_MIN_DELETED)) {
+                compact();
+            }
+        }
+
+        void clear() {
+            postings.clear();
+            docNumberByArticleId.clear();
+            Arrays.fill(postingsByDocNumber, null);
+            deleted.clear();
+            nextDocNumber = 0;
+        }
+
+        int documentSlots() {
+            return nextDocNumber;
+        }
+
+        /**
+         * 삭제 표시된 문서를 posting 에서 빼고, 살아있는 문서에 0 부터 문서 번호를 다시 매긴다.
+         * 기존 순서대로 번호를 매기므로 posting 은 계속 문서 번호 순으로 정렬되어 있다.
+         */
+        private void compact() {
+            int[] newDocNumbers = new int[nextDocNumber];
+            int liveCount = 0;
+            for (int docNumber = 0; docNumber < nextDocNumber; docNumber++) {
+                newDocNumbers[docNumber] = deleted.get(docNumber) ? -1 : liveCount++;
+            }
+
+            postings.values().removeIf(list -> !list.compact(newDocNumbers));
+
+            int capacity = Math.max(Integer.highestOneBit(Math.max(liveCount, 1)) * 2, 1024);
+            long[] compactedArticleIds = new long[capacity];
+            Postings[][] compactedPostings = new Postings[capacity][];
+            for (int docNumber = 0; docNumber < nextDocNumber; docNumber++) {
+                int newDocNumber = newDocNumbers[docNumber];
+                if (newDocNumber >= 0) {
+                    compactedArticleIds[newDocNumber] = articleIdByDocNumber[docNumber];
+                    compactedPostings[newDocNumber] = postingsByDocNumber[docNumber];
+                    docNumberByArticleId.put(articleIdByDocNumber[docNumber], newDocNumber);
+                }
+            }
+
+            articleIdByDocNumber = compactedArticleIds;
+            postingsByDocNumber = compactedPostings;
+            deleted.clear();
+            nextDocNumber = liveCount;
+        }
+
+        List<Long> search(List<String> words) {
+            Set<String> bigrams = BigramTokenizer.bigrams(words);
+            if (bigrams.isEmpty()) {
+                return List.of();
+            }
+
+            List<Postings> required = new ArrayList<>(bigrams.size());
+            for (String bigram : bigrams) {
+                Postings list = postings.get(bigram);
+                if (list == null || list.liveSize == 0) {
+                    return List.of();
+                }
+                required.add(list);
+            }
+            required.sort(Comparator.comparingInt(list -> list.size));
+
+            List<Postings> wordMatches = words.stream()
+                    .map(word -> postings.get(BigramTokenizer.wordTerm(word)))
+                    .filter(list -> list != null && list.liveSize > 0)
+                    .toList();
+
+            int liveDocuments = Math.max(docNumberByArticleId.size(), 1);
+            Postings smallest = required.get(0);
+            List<Hit> hits = new ArrayList<>();
+
+            // 가장 짧은 posting 을 기준으로 나머지 posting 에 모두 들어있는 문서만 남긴다.
+            nextDocument:
+            for (int i = 0; i < smallest.size; i++) {
+                int docNumber = smallest.docs[i];
+                if (deleted.get(docNumber)) {
+                    continue;
+                }
+
+                double score = 0;
+                for (Postings list : required) {
+                    int frequency = list.frequencyOf(docNumber);
+                    if (frequency == 0) {
+                        continue nextDocument;
+                    }
+                    score += tfIdf(frequency, list.liveSize, liveDocuments);
+                }
+                for (Postings list : wordMatches) {
+                    int frequency = list.frequencyOf(docNumber);
+                    if (frequency > 0) {
+                        score += WORD_MATCH_BONUS * tfIdf(frequency, list.liveSize, liveDocuments);
+                    }
+                }
+
+                hits.add(new Hit(articleIdByDocNumber[docNumber], score));
+            }
+
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(Hit::score).reversed()
+                            .thenComparing(Comparator.comparingLong(Hit::articleId).reversed()))
+                    .map(Hit::articleId)
+                    .toList();
+        }
+
+        private static double tfIdf(int frequency, int documentFrequency, int documentCount) {
+            double tf = frequency / (frequency + 1.0);
+            double idf = Math.log(1.0 + (double) documentCount / documentFrequency);
+            return tf * idf;
+        }
+    }
+
+    /**
+     * 하나의 token 에 대한 (문서 번호, 출현 횟수) 목록. 문서 번호 오름차순으로 쌓이므로 이진 탐색이 가능하다.
+     * {@code size} 는 삭제 표시된 문서를 포함한 길이, {@code liveSize} 는 살아있는 문서 수 (IDF 계산용) 이다.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size = 0;
+        private int liveSize = 0;
+
+        void add(int docNumber, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = docNumber;
+            frequencies[size] = frequency;
+            size++;
+            liveSize++;
+        }
+
+        /**
+         * 삭제된 문서 ({@code newDocNumbers} 가 -1) 를 빼고 문서 번호를 바꾼다.
+         *
+         * @return 살아있는 문서가 남아있으면 {@code true}
+         */
+        boolean compact(int[] newDocNumbers) {
+            int[] compactedDocs = new int[Math.max(liveSize, 4)];
+            int[] compactedFrequencies = new int[compactedDocs.length];
+            int compactedSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newDocNumber = newDocNumbers[docs[i]];
+                if (newDocNumber >= 0) {
+                    compactedDocs[compactedSize] = newDocNumber;
+                    compactedFrequencies[compactedSize] = frequencies[i];
+                    compactedSize++;
+                }
+            }
+
+            docs = compactedDocs;
+            frequencies = compactedFrequencies;
+            size = compactedSize;
+            liveSize = compactedSize;
+
+            return size > 0;
+        }
+
+        int frequencyOf(int docNumber) {
+            int position = Arrays.binarySearch(docs, 0, size, docNumber);
+            return position < 0 ? 0 : frequencies[position];
+        }
+    }
+
+    private record Hit(long articleId, double score) {}
+}
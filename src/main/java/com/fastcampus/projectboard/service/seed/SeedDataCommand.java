@@ -0,0 +1,35 @@
+package com.fastcampus.projectboard.service.seed;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * 애플리케이션을 띄우지 않고 부하 test 용 data 를 만든다. ({@code ./gradlew seedData}, build.gradle 참고)
+ * <p>
+ * schema 는 미리 있어야 한다. (애플리케이션을 한 번 띄워 hibernate 가 만든 schema)
+ * 설정은 application.yaml 과 같은 이름의 인자로 받는다.
+ * ex) --spring.datasource.url=jdbc:mysql://localhost:3306/board --spring.datasource.username=uno --board.seed.articles=1000000
+ */
+public class SeedDataCommand {
+
+    public static void main(String[] args) throws SQLException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(new SimpleCommandLinePropertySource(args)));
+        String url = binder.bind("spring.datasource.url", String.class)
+                .orElseThrow(() -> new IllegalArgumentException("--spring.datasource.url 이 필요합니다."));
+        SeedProperties seedProperties = binder.bindOrCreate("board.seed", SeedProperties.class);
+
+        Properties connectionProperties = new Properties();
+        binder.bind("spring.datasource.username", String.class).ifBound(username -> connectionProperties.setProperty("user", username));
+        binder.bind("spring.datasource.password", String.class).ifBound(password -> connectionProperties.setProperty("password", password));
+
+        try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+            new SeedDataGenerator(seedProperties).generate(connection);
+        }
+    }
+}
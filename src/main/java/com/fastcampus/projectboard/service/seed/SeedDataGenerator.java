@@ -0,0 +1,445 @@
+package com.fastcampus.projectboard.service.seed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 test 용 사용자, 게시글, 댓글 (대댓글), 해시태그를 만들어 DB 에 바로 쓴다.
+ * <p>
+ * data.sql 처럼 문장을 하나씩 실행하거나 JPA entity 를 거치지 않고, row 여러 개를 담은 insert 문 ({@code insert ... values (...), (...), ...}) 으로 쓴다.
+ * 게시글/댓글 id 는 기존 id 다음부터 직접 정하고, 끝나면 id_generator 를 마지막 id 로 맞춘다. (data.sql 과 같은 방식)
+ * 반정규화 counter (게시글 댓글 수, 해시태그 게시글 수) 와 댓글 path 도 만들면서 함께 채우므로, 끝난 뒤 다시 세지 않는다.
+ * <p>
+ * 게시글 {@link SeedProperties#batchSize()} 개마다 commit 한다. (중간에 실패해도 그 전 묶음까지는 남는다)
+ * 애플리케이션이 id_generator 에서 받아 둔 id 와 겹칠 수 있으므로, 애플리케이션이 게시글/댓글을 쓰기 전 (시작 시) 이나 멈춘 상태에서 실행한다.
+ */
+@Slf4j
+public class SeedDataGenerator {
+
+    static final String USER_ID_PREFIX = "seed";
+    private static final String USER_PASSWORD = "{noop}asdf1234";
+    // 게시글 작성 일시를 (실행 시점 기준) 최근 1년에 고르게 나눈다.
+    private static final Duration PERIOD = Duration.ofDays(365);
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int CONTENT_MAX_LENGTH = 10_000;
+    private static final int COMMENT_MAX_LENGTH = 500;
+
+    private static final String[] KOREAN_WORDS = {
+            "게시판", "스프링", "자바", "데이터", "검색", "해시태그", "댓글", "서버", "배포", "성능",
+            "캐시", "쿼리", "인덱스", "트랜잭션", "테스트", "개발자", "공부", "질문", "답변", "오늘",
+            "내일", "프로젝트", "코드", "리뷰", "설계", "구조", "화면", "사용자", "로그인", "보안",
+            "정리", "후기", "추천", "문제", "해결", "방법", "경험", "공유", "확인", "변경",
+            "기능", "추가", "삭제", "수정", "조회", "목록", "상세", "페이지", "요청", "응답"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "labore", "dolore", "magna", "aliqua", "enim", "minim", "veniam",
+            "quis", "nostrud", "exercitation", "ullamco", "laboris", "nisi", "aliquip", "commodo", "consequat", "duis",
+            "aute", "irure", "reprehenderit", "voluptate", "velit", "esse", "cillum", "fugiat", "nulla", "pariatur",
+            "spring", "java", "board", "search", "cache", "query", "index", "server", "deploy", "review"
+    };
+
+    private final SeedProperties properties;
+
+    public SeedDataGenerator(SeedProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 설정만큼 data 를 만들어 {@code connection} 으로 쓴다. 이미 있는 생성 사용자, 해시태그는 다시 만들지 않고 그대로 사용한다.
+     * {@code connection} 의 auto commit 설정은 끝나면 원래대로 돌려 둔다.
+     */
+    public Result generate(Connection connection) throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try {
+            SplittableRandom random = new SplittableRandom(properties.randomSeed());
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+            String[] userIds = userIds();
+            long insertedUsers = insertUsers(connection, userIds, now);
+            String[] hashtagNames = hashtagNames();
+            long insertedHashtags = insertHashtags(connection, hashtagNames, userIds[0], now);
+            long[] hashtagIds = findHashtagIds(connection, hashtagNames);
+            connection.commit();
+
+            ArticleCounts articleCounts = insertArticles(connection, random, userIds, hashtagIds, now);
+            connection.commit();
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            Result result = Result.of(insertedUsers, insertedHashtags, articleCounts.articles(), articleCounts.comments(), articleCounts.articleHashtags(), elapsedMillis);
+            log.info("부하 test data 생성 완료 - 사용자 {}, 해시태그 {}, 게시글 {}, 댓글 {}, 게시글 해시태그 {} 건, {} ms ({} rows/s)",
+                    result.users(), result.hashtags(), result.articles(), result.comments(), result.articleHashtags(), elapsedMillis, result.rowsPerSecond());
+
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private String[] userIds() {
+        String[] userIds = new String[properties.users()];
+        for (int i = 0; i < userIds.length; i++) {
+            userIds[i] = String.format("%s%07d", USER_ID_PREFIX, i + 1);
+        }
+
+        return userIds;
+    }
+
+    private long insertUsers(Connection connection, String[] userIds, LocalDateTime now) throws SQLException {
+        Set<String> existingUserIds = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement("select user_id from user_account where user_id like ?")) {
+            statement.setString(1, USER_ID_PREFIX + "%");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    existingUserIds.add(resultSet.getString(1));
+                }
+            }
+        }
+
+        try (MultiRowInsert userInsert = new MultiRowInsert(connection, "user_account", properties.batchSize(),
+                "user_id", "user_password", "nickname", "email", "memo", "created_at", "created_by", "modified_at", "modified_by")) {
+            for (String userId : userIds) {
+                if (!existingUserIds.contains(userId)) {
+                    userInsert.add(userId, USER_PASSWORD, userId, userId + "@mail.com", null, now, userId, now, userId);
+                }
+            }
+
+            return userInsert.flush();
+        }
+    }
+
+    private String[] hashtagNames() {
+        String[] hashtagNames = new String[properties.hashtags()];
+        for (int i = 0; i < hashtagNames.length; i++) {
+            hashtagNames[i] = hashtagNameOf(i);
+        }
+
+        return hashtagNames;
+    }
+
+    // 해시태그 id 는 IDENTITY 이므로 이름만 넣고 다시 조회한다.
+    private long insertHashtags(Connection connection, String[] hashtagNames, String auditor, LocalDateTime now) throws SQLException {
+        Set<String> existingNames = findHashtagIdsByName(connection).keySet();
+
+        try (MultiRowInsert hashtagInsert = new MultiRowInsert(connection, "hashtag", properties.batchSize(),
+                "hashtag_name", "created_at", "created_by", "modified_at", "modified_by")) {
+            for (String hashtagName : hashtagNames) {
+                if (!existingNames.contains(hashtagName)) {
+                    hashtagInsert.add(hashtagName, now, auditor, now, auditor);
+                }
+            }
+
+            return hashtagInsert.flush();
+        }
+    }
+
+    private long[] findHashtagIds(Connection connection, String[] hashtagNames) throws SQLException {
+        Map<String, Long> idsByName = findHashtagIdsByName(connection);
+
+        long[] hashtagIds = new long[hashtagNames.length];
+        for (int i = 0; i < hashtagNames.length; i++) {
+            hashtagIds[i] = idsByName.get(hashtagNames[i]);
+        }
+
+        return hashtagIds;
+    }
+
+    private Map<String, Long> findHashtagIdsByName(Connection connection) throws SQLException {
+        Map<String, Long> idsByName = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id, hashtag_name from hashtag")) {
+            while (resultSet.next()) {
+                idsByName.put(resultSet.getString(2), resultSet.getLong(1));
+            }
+        }
+
+        return idsByName;
+    }
+
+    private ArticleCounts insertArticles(Connection connection, SplittableRandom random, String[] userIds, long[] hashtagIds, LocalDateTime now) throws SQLException {
+        int batchSize = properties.batchSize();
+        long lastArticleId = lastId(connection, "article");
+        long lastCommentId = lastId(connection, "article_comment");
+        long articleInterval = Math.max(PERIOD.toSeconds() / Math.max(properties.articles(), 1), 1);
+        LocalDateTime startAt = now.minus(PERIOD);
+        long[] hashtagArticleCounts = new long[hashtagIds.length];
+
+        long articleCount = 0L;
+        long commentCount = 0L;
+        long articleHashtagCount = 0L;
+        long[] commentIds = new long[properties.commentsPerArticle() * 2 + 1];
+        String[] commentPaths = new String[commentIds.length];
+        int[] commentDepths = new int[commentIds.length];
+        int[] hashtagIndexes = new int[Math.min(properties.hashtagsPerArticle() * 2, hashtagIds.length)];
+
+        try (MultiRowInsert articleInsert = new MultiRowInsert(connection, "article", batchSize,
+                "id", "user_id", "title", "content", "comment_count", "created_at", "created_by", "modified_at", "modified_by");
+             MultiRowInsert commentInsert = new MultiRowInsert(connection, "article_comment", batchSize,
+                     "id", "article_id", "user_id", "parent_comment_id", "path", "content", "created_at", "created_by", "modified_at", "modified_by");
+             MultiRowInsert articleHashtagInsert = new MultiRowInsert(connection, "article_hashtag", batchSize,
+                     "article_id", "hashtag_id")) {
+            for (int i = 0; i < properties.articles(); i++) {
+                long articleId = ++lastArticleId;
+                String userId = userIds[random.nextInt(userIds.length)];
+                boolean korean = random.nextDouble() < properties.koreanRatio();
+                LocalDateTime createdAt = startAt.plusSeconds(i * articleInterval + random.nextLong(articleInterval));
+
+                // 해시태그는 본문 끝에 붙인다. (게시글 수정 시 본문에서 다시 읽어 들이므로)
+                int hashtagCount = hashtagIndexes.length == 0 ? 0 : pickHashtags(random, hashtagIndexes, random.nextInt(hashtagIndexes.length + 1));
+                StringBuilder content = words(random, korean, 20 + random.nextInt(100), CONTENT_MAX_LENGTH - 1_000);
+                for (int h = 0; h < hashtagCount; h++) {
+                    content.append(h == 0 ? "\n#" : " #").append(hashtagNameOf(hashtagIndexes[h]));
+                    articleHashtagInsert.add(articleId, hashtagIds[hashtagIndexes[h]]);
+                    hashtagArticleCounts[hashtagIndexes[h]]++;
+                }
+
+                int commentsOfArticle = random.nextInt(commentIds.length);
+                articleInsert.add(articleId, userId, words(random, korean, 2 + random.nextInt(6), TITLE_MAX_LENGTH).toString(), content.toString(),
+                        commentsOfArticle, createdAt, userId, createdAt, userId);
+
+                for (int c = 0; c < commentsOfArticle; c++) {
+                    commentIds[c] = ++lastCommentId;
+
+                    // 앞서 단 댓글 중 하나에 대댓글로 달되, 최대 깊이에 이미 닿은 댓글이면 최상위 댓글로 단다.
+                    int parent = -1;
+                    if (c > 0 && properties.replyDepth() > 0 && random.nextDouble() < properties.replyRatio()) {
+                        int candidate = random.nextInt(c);
+                        if (commentDepths[candidate] < properties.replyDepth()) {
+                            parent = candidate;
+                        }
+                    }
+                    commentDepths[c] = parent < 0 ? 0 : commentDepths[parent] + 1;
+                    commentPaths[c] = (parent < 0 ? "" : commentPaths[parent]) + String.format("%010d", commentIds[c]);
+
+                    String commentUserId = userIds[random.nextInt(userIds.length)];
+                    LocalDateTime commentCreatedAt = createdAt.plusSeconds((c + 1) * 60L + random.nextInt(60));
+                    commentInsert.add(commentIds[c], articleId, commentUserId, parent < 0 ? null : commentIds[parent], commentPaths[c],
+                            words(random, korean, 3 + random.nextInt(20), COMMENT_MAX_LENGTH).toString(),
+                            commentCreatedAt, commentUserId, commentCreatedAt, commentUserId);
+                }
+
+                // 게시글 -> 댓글 -> 게시글 해시태그 순으로 써야 외래 키가 맞는다.
+                if ((i + 1) % batchSize == 0 || i + 1 == properties.articles()) {
+                    articleCount += articleInsert.flush();
+                    commentCount += commentInsert.flush();
+                    articleHashtagCount += articleHashtagInsert.flush();
+                    connection.commit();
+
+                    if (articleCount % 100_000 < batchSize) {
+                        log.info("게시글 생성 중 - {} / {} 건", articleCount, properties.articles());
+                    }
+                }
+            }
+        }
+
+        addHashtagArticleCounts(connection, hashtagIds, hashtagArticleCounts);
+        advanceIdGenerator(connection, "article", lastArticleId);
+        advanceIdGenerator(connection, "article_comment", lastCommentId);
+
+        return new ArticleCounts(articleCount, commentCount, articleHashtagCount);
+    }
+
+    // 앞쪽 해시태그가 훨씬 자주 뽑히도록 한다. (인기 해시태그)
+    private int pickHashtags(SplittableRandom random, int[] hashtagIndexes, int count) {
+        int picked = 0;
+        while (picked < count) {
+            int index = (int) (properties.hashtags() * Math.pow(random.nextDouble(), 3));
+            boolean duplicated = false;
+            for (int p = 0; p < picked; p++) {
+                duplicated |= hashtagIndexes[p] == index;
+            }
+            if (!duplicated) {
+                hashtagIndexes[picked++] = index;
+            }
+        }
+
+        return picked;
+    }
+
+    // 한글, 영문 단어를 번갈아 차례로 쓰고, 다 쓰면 뒤에 번호를 붙인다. (ex. 게시판, lorem, 스프링, ipsum, ..., 게시판1, lorem1, ...)
+    private static String hashtagNameOf(int index) {
+        String[] words = index % 2 == 0 ? KOREAN_WORDS : ENGLISH_WORDS;
+        int round = index / 2 / words.length;
+
+        return words[index / 2 % words.length] + (round == 0 ? "" : round);
+    }
+
+    private static StringBuilder words(SplittableRandom random, boolean korean, int count, int maxLength) {
+        String[] words = korean ? KOREAN_WORDS : ENGLISH_WORDS;
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < count; w++) {
+            String word = words[random.nextInt(words.length)];
+            if (builder.length() + word.length() + 1 > maxLength) {
+                break;
+            }
+            if (w > 0) {
+                builder.append(w % 12 == 0 ? '\n' : ' ');
+            }
+            builder.append(word);
+        }
+
+        return builder;
+    }
+
+    // 이미 있는 id 와, 애플리케이션이 id_generator 에서 받아 간 id 모두와 겹치지 않도록 둘 중 큰 값 다음부터 쓴다.
+    private static long lastId(Connection connection, String table) throws SQLException {
+        return Math.max(
+                queryLong(connection, "select coalesce(max(id), 0) from " + table),
+                queryLong(connection, "select coalesce(max(next_val), 0) from id_generator where sequence_name = '" + table + "'")
+        );
+    }
+
+    private static void addHashtagArticleCounts(Connection connection, long[] hashtagIds, long[] hashtagArticleCounts) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("update hashtag set article_count = article_count + ? where id = ?")) {
+            for (int i = 0; i < hashtagIds.length; i++) {
+                if (hashtagArticleCounts[i] > 0) {
+                    statement.setLong(1, hashtagArticleCounts[i]);
+                    statement.setLong(2, hashtagIds[i]);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // next_val 에는 마지막으로 할당한 id 를 둔다. (data.sql 참고) row 가 없으면 hibernate 가 처음 값부터 할당하므로 직접 넣는다.
+    private static void advanceIdGenerator(Connection connection, String sequenceName, long lastId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement("update id_generator set next_val = ? where sequence_name = ? and next_val < ?")) {
+            update.setLong(1, lastId);
+            update.setString(2, sequenceName);
+            update.setLong(3, lastId);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+
+        if (queryLong(connection, "select count(*) from id_generator where sequence_name = '" + sequenceName + "'") == 0) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into id_generator (sequence_name, next_val) values (?, ?)")) {
+                insert.setString(1, sequenceName);
+                insert.setLong(2, lastId);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * 새로 만든 row 수. (이미 있어서 다시 쓰지 않은 사용자, 해시태그는 제외)
+     */
+    public record Result(long users, long hashtags, long articles, long comments, long articleHashtags, long elapsedMillis) {
+
+        public static Result of(long users, long hashtags, long articles, long comments, long articleHashtags, long elapsedMillis) {
+            return new Result(users, hashtags, articles, comments, articleHashtags, elapsedMillis);
+        }
+
+        public long rowsPerSecond() {
+            return (users + hashtags + articles + comments + articleHashtags) * 1_000 / Math.max(elapsedMillis, 1);
+        }
+    }
+
+    private record ArticleCounts(long articles, long comments, long articleHashtags) {}
+
+    /**
+     * row 여러 개를 insert 문 하나에 담아 쓴다.
+     * {@link #flush()} 때 모아 둔 row 를 batchSize 개씩 나누어 실행하며, batchSize 개를 꽉 채운 문장은 한 번 준비 (prepare) 해서 재사용한다.
+     */
+    private static class MultiRowInsert implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final String[] columns;
+        private final int batchSize;
+        private final List<Object[]> rows = new ArrayList<>();
+        private PreparedStatement fullStatement;
+
+        MultiRowInsert(Connection connection, String table, int batchSize, String... columns) {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.batchSize = batchSize;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+        }
+
+        // 쓴 row 수를 반환한다.
+        long flush() throws SQLException {
+            long written = rows.size();
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<Object[]> statementRows = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                if (statementRows.size() == batchSize) {
+                    if (fullStatement == null) {
+                        fullStatement = connection.prepareStatement(sql(batchSize));
+                    }
+                    execute(fullStatement, statementRows);
+                } else {
+                    try (PreparedStatement statement = connection.prepareStatement(sql(statementRows.size()))) {
+                        execute(statement, statementRows);
+                    }
+                }
+            }
+            rows.clear();
+
+            return written;
+        }
+
+        private String sql(int rowCount) {
+            String row = "(?" + ", ?".repeat(columns.length - 1) + ")";
+            StringBuilder sql = new StringBuilder("insert into ").append(table)
+                    .append(" (").append(String.join(", ", columns)).append(") values ")
+                    .append(row);
+            for (int i = 1; i < rowCount; i++) {
+                sql.append(", ").append(row);
+            }
+
+            return sql.toString();
+        }
+
+        private static void execute(PreparedStatement statement, List<Object[]> rows) throws SQLException {
+            int index = 1;
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    statement.setObject(index++, value);
+                }
+            }
+            statement.executeUpdate();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fastcampus.projectboard.service.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * seed profile 로 띄우면, 요청을 받기 전에 {@code board.seed.*} 설정만큼 부하 test 용 data 를 만든다. (data.sql 대신)
+ * ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로, 검색 색인과 게시글 counter 는 만든 data 까지 포함해서 초기화된다.
+ */
+@RequiredArgsConstructor
+@Profile("seed")
+@Component
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final SeedProperties seedProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            new SeedDataGenerator(seedProperties).generate(connection);
+        }
+    }
+}
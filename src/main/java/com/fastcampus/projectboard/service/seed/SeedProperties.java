@@ -0,0 +1,62 @@
+package com.fastcampus.projectboard.service.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 부하 test 용 data 생성 설정. ({@code board.seed.*})
+ * 댓글 수와 게시글당 해시태그 수는 평균값이며, 실제 값은 게시글마다 0 ~ 평균의 2배 사이에서 정해진다.
+ *
+ * @param users              사용자 수 (id: seed0000001 ~, 비밀번호: asdf1234)
+ * @param articles           게시글 수
+ * @param commentsPerArticle 게시글당 평균 댓글 수 (대댓글 포함)
+ * @param replyRatio         댓글 중 대댓글의 비율 (0 ~ 1)
+ * @param replyDepth         대댓글의 최대 깊이 (0 이면 최상위 댓글만)
+ * @param hashtags           해시태그 종류 수 (앞쪽 해시태그일수록 많이 사용된다)
+ * @param hashtagsPerArticle 게시글당 평균 해시태그 수
+ * @param koreanRatio        한글 게시글의 비율 (0 ~ 1, 나머지는 영문)
+ * @param batchSize          insert 문 하나에 담는 row 수이자 commit 단위 게시글 수
+ * @param randomSeed         같은 값이면 같은 내용을 생성한다. (작성 일시 제외)
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.seed")
+public record SeedProperties(
+        @DefaultValue("100") int users,
+        @DefaultValue("10000") int articles,
+        @DefaultValue("3") int commentsPerArticle,
+        @DefaultValue("0.3") double replyRatio,
+        @DefaultValue("2") int replyDepth,
+        @DefaultValue("200") int hashtags,
+        @DefaultValue("2") int hashtagsPerArticle,
+        @DefaultValue("0.5") double koreanRatio,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("42") long randomSeed
+) {
+
+    // 댓글 path 는 단계마다 10자리 (최대 500자)
+    static final int MAX_REPLY_DEPTH = 49;
+    // PostgreSQL 의 문장당 bind parameter 수 제한 (65,535) 안에 들도록 (댓글 10 column)
+    static final int MAX_BATCH_SIZE = 5_000;
+
+    public SeedProperties {
+        if (users < 1 || articles < 0 || commentsPerArticle < 0 || hashtags < 0 || hashtagsPerArticle < 0) {
+            throw new IllegalArgumentException("users 는 1 이상, 나머지 수는 0 이상이어야 합니다.");
+        }
+        if (replyRatio < 0 || replyRatio > 1 || koreanRatio < 0 || koreanRatio > 1) {
+            throw new IllegalArgumentException("reply-ratio, korean-ratio 는 0 ~ 1 사이여야 합니다.");
+        }
+        if (replyDepth < 0 || replyDepth > MAX_REPLY_DEPTH) {
+            throw new IllegalArgumentException("reply-depth 는 0 ~ " + MAX_REPLY_DEPTH + " 사이여야 합니다.");
+        }
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch-size 는 1 ~ " + MAX_BATCH_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    public static SeedProperties of(int users, int articles, int commentsPerArticle, double replyRatio, int replyDepth,
+                                    int hashtags, int hashtagsPerArticle, double koreanRatio, int batchSize, long randomSeed) {
+        return new SeedProperties(users, articles, commentsPerArticle, replyRatio, replyDepth,
+                hashtags, hashtagsPerArticle, koreanRatio, batchSize, randomSeed);
+    }
+}
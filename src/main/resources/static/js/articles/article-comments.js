@@ -0,0 +1,96 @@
+// 게시글 상세 화면: 댓글 "더 보기"
+// 서버는 댓글 첫 page 만 그려서 보내므로, 나머지는 GET /comments (JSON) 로 이어서 가져와서 이미 그려진 댓글을 본떠 붙인다.
+// (삭제/대댓글 form 의 csrf token 도 복사한 댓글의 것을 그대로 쓴다.)
+document.addEventListener('DOMContentLoaded', () => {
+    const moreComments = document.getElementById('more-comments');
+    const button = document.getElementById('more-comments-button');
+    const commentList = document.getElementById('article-comments');
+    if (!moreComments || !button || !commentList) {
+        return;
+    }
+
+    const template = commentList.querySelector('.parent-comment');
+    if (!template) {
+        moreComments.remove();
+        return;
+    }
+
+    button.addEventListener('click', async () => {
+        button.disabled = true;
+        try {
+            const params = new URLSearchParams({
+                articleId: button.dataset.articleId,
+                cursor: button.dataset.nextCursor
+            });
+            const response = await fetch('/comments?' + params, { headers: { 'Accept': 'application/json' } });
+            if (!response.ok) {
+                throw new Error('댓글을 불러오지 못했습니다 - ' + response.status);
+            }
+
+            const page = await response.json();
+            page.content.forEach(comment => commentList.appendChild(toParentComment(comment)));
+
+            if (page.nextCursor) {
+                button.dataset.nextCursor = page.nextCursor;
+            } else {
+                moreComments.remove();
+            }
+        } catch (e) {
+            console.error(e);
+        } finally {
+            button.disabled = false;
+        }
+    });
+
+    function toParentComment(comment) {
+        const item = template.cloneNode(true);
+        const deleteForm = item.querySelector('.comment-delete-form');
+        fillComment(deleteForm, comment);
+
+        item.querySelectorAll('ul').forEach(childList => childList.remove());
+        if (comment.childComments.length > 0) {
+            const childList = document.createElement('ul');
+            childList.className = 'row me-0';
+            comment.childComments.forEach(childComment => {
+                const childItem = document.createElement('li');
+                childItem.className = 'child-comment';
+                const childForm = deleteForm.cloneNode(true);
+                fillComment(childForm, childComment);
+                childItem.appendChild(childForm);
+                childList.appendChild(childItem);
+            });
+            deleteForm.after(childList);
+        }
+
+        const parentCommentId = item.querySelector('.parent-comment-id');
+        if (parentCommentId) {
+            parentCommentId.value = comment.id;
+        }
+        item.querySelectorAll('details').forEach(details => details.open = false);
+        item.querySelectorAll('details .comment-textbox').forEach(textbox => textbox.value = '');
+
+        return item;
+    }
+
+    function fillComment(form, comment) {
+        form.action = '/comments/' + comment.id + '/delete';
+        form.querySelector('strong').textContent = comment.nickname;
+        const time = form.querySelector('time');
+        time.dateTime = comment.createdAt;
+        time.textContent = comment.createdAt.replace('T', ' ').substring(0, 19);
+        form.querySelector('p').textContent = comment.content;
+
+        // 삭제 버튼은 내가 쓴 댓글에만 보여준다.
+        const buttonArea = form.querySelector('.align-self-center');
+        const deleteButton = buttonArea.querySelector('button');
+        if (comment.userId !== button.dataset.userId) {
+            deleteButton?.remove();
+        } else if (!deleteButton) {
+            const newButton = document.createElement('button');
+            newButton.type = 'submit';
+            newButton.className = 'btn btn-outline-danger';
+            newButton.textContent = '삭제';
+            buttonArea.appendChild(newButton);
+        }
+    }
+});
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.config;
+
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("virtual thread 요청 처리 설정")
+@EnabledForJreRange(min = JRE.OTHER) // JUnit 5.8 은 Java 19 이상을 OTHER 로 구분
+class VirtualThreadConfigTest {
+
+    private final VirtualThreadConfig sut = new VirtualThreadConfig();
+
+    @DisplayName("Tomcat 요청 처리 executor 를 요청마다 virtual thread 를 만드는 executor 로 바꾼다.")
+    @Test
+    void givenProtocolHandler_whenCustomizing_thenUsesVirtualThreadExecutor() throws Exception {
+        // Given
+        Http11NioProtocol protocolHandler = new Http11NioProtocol();
+
+        // When
+        sut.virtualThreadProtocolHandlerCustomizer().customize(protocolHandler);
+
+        // Then
+        assertThat(protocolHandler.getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+        CompletableFuture<Thread> executedOn = new CompletableFuture<>();
+        protocolHandler.getExecutor().execute(() -> executedOn.complete(Thread.currentThread()));
+        Thread thread = executedOn.get(5, TimeUnit.SECONDS);
+        assertThat(thread.getName()).startsWith("tomcat-handler-");
+        assertThat(thread.isDaemon()).isTrue(); // virtual thread 는 항상 daemon
+    }
+}
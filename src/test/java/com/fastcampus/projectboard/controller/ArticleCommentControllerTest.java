@@ -1,7 +1,10 @@
 package com.fastcampus.projectboard.controller;
 
 import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleCommentRequest;
 import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.util.FormDataEncoder;
@@ -17,12 +20,16 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
@@ -115,5 +122,54 @@ class ArticleCommentControllerTest {
 
         then(articleCommentService).should().saveArticleComment(any(ArticleCommentDto.class));
     }
-}
 
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[json][GET] 댓글 더 보기 - cursor 다음의 최상위 댓글을 대댓글과 함께 계층으로 반환")
+    @Test
+    void givenCursor_whenRequestingArticleComments_thenReturnsNextCommentPageAsJson() throws Exception {
+        // Given
+        long articleId = 1L;
+        LocalDateTime now = LocalDateTime.of(2023, 10, 1, 12, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(now.plusHours(3L), 5L);
+        given(articleCommentService.searchArticleCommentPage(articleId, cursor, 2)).willReturn(CursorPage.of(
+                List.of(
+                        createArticleCommentDto(3L, null, now.plusHours(2L)),
+                        createArticleCommentDto(1L, null, now),
+                        createArticleCommentDto(4L, 1L, now.plusHours(1L))
+                ),
+                2, 0, null, "next-cursor"
+        ));
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.get("/comments")
+                        .param("articleId", String.valueOf(articleId))
+                        .param("cursor", cursor.encode())
+                        .param("size", "2")
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.content[1].id").value(1L))
+                .andExpect(jsonPath("$.content[1].childComments[0].id").value(4L))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+        then(articleCommentService).should().searchArticleCommentPage(articleId, cursor, 2);
+    }
+
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                UserAccountDto.of("unoTest", "pw", "uno-test@email.com", "uno-test", "test memo"),
+                parentCommentId,
+                "comment " + id,
+                createdAt,
+                "unoTest",
+                createdAt,
+                "unoTest"
+        );
+    }
+}
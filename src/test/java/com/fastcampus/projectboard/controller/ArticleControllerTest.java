@@ -3,14 +3,20 @@ package com.fastcampus.projectboard.controller;
 import com.fastcampus.projectboard.config.TestSecurityConfig;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCursor;
 import com.fastcampus.projectboard.dto.ArticleDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.dto.HashtagDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
 import com.fastcampus.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +39,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -59,7 +66,9 @@ class ArticleControllerTest {
 
     // 반대로 @MockBean 은 construction injection 으로 사용 불가
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleCommentService articleCommentService;
     @MockBean private PaginationService paginationService;
+    @MockBean private ArticleDetailCache articleDetailCache;
 
     ArticleControllerTest(
             @Autowired MockMvc mvc,
@@ -148,6 +157,33 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판 페이지) - cursor 와 함께 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithCursors() throws Exception {
+        // Given
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 10L, ArticleCursor.Direction.NEXT, 3);
+        CursorPage<ArticleSummaryDto> articles = CursorPage.of(List.of(createArticleSummaryDto()), 10, 3, "prev-token", "next-token");
+        given(articleService.searchArticlesByCursor(null, null, cursor, 10)).willReturn(articles);
+        given(paginationService.getCursorPaginationBarNumbers(3, true, true)).willReturn(List.of(2, 3, 4));
+
+        // When & Then
+        mvc.perform(MockMvcRequestBuilders.get("/articles")
+                        .queryParam("cursor", cursor.encode())
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("paginationBarNumbers", List.of(2, 3, 4)))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("previousCursor", "prev-token"))
+                .andExpect(model().attribute("nextCursor", "next-token"));
+
+        then(articleService).should().searchArticlesByCursor(null, null, cursor, 10);
+        then(articleService).shouldHaveNoMoreInteractions();
+        then(paginationService).should().getCursorPaginationBarNumbers(3, true, true);
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -174,7 +210,11 @@ class ArticleControllerTest {
         Long articleId = 1L;
         Long totalCount = 1L;
 
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleDetailCache.get(eq(articleId), any())).willAnswer(invocation ->
+                invocation.<Function<Long, ArticleWithCommentsResponse>>getArgument(1).apply(articleId)); // cache miss
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto(articleId));
+        given(articleCommentService.searchArticleCommentPage(articleId, null, ArticleCommentService.DEFAULT_PAGE_SIZE))
+                .willReturn(CursorPage.of(List.of(createArticleCommentDto(1L)), ArticleCommentService.DEFAULT_PAGE_SIZE, 0, null, "next-cursor"));
         given(articleService.getArticleCount()).willReturn(totalCount);
 
         // When & Then
@@ -184,10 +224,12 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
+                .andExpect(model().attribute("commentsNextCursor", "next-cursor"))
                 .andExpect(model().attribute("totalCount", totalCount))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG)); // TODO : 추후 확인 및 관련 controller logic 추가
 
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleCommentService).should().searchArticleCommentPage(articleId, null, ArticleCommentService.DEFAULT_PAGE_SIZE);
         then(articleService).should().getArticleCount();
     }
 
@@ -378,6 +420,19 @@ class ArticleControllerTest {
 
     // ----------------- Fixture for Test -------------------
 
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(
+                1L,
+                "title",
+                "content",
+                Set.of("java"),
+                3L,
+                LocalDateTime.now(),
+                "uno",
+                "Uno"
+        );
+    }
+
     private ArticleDto createArticleDto() {
         return ArticleDto.of(
           createUserAccountDto(),
@@ -387,11 +442,10 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
+    private ArticleDto createArticleDto(Long articleId) {
+        return ArticleDto.of(
+                articleId,
                 createUserAccountDto(),
-                Set.of(),
                 "title",
                 "content",
                 Set.of(HashtagDto.of("java")),
@@ -402,6 +456,20 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleCommentDto createArticleCommentDto(Long id) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                null,
+                "comment",
+                LocalDateTime.now(),
+                "gon",
+                LocalDateTime.now(),
+                "gon"
+        );
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "gon",
@@ -0,0 +1,113 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.service.ArticleExportService;
+import com.fastcampus.projectboard.service.exporter.ArticleExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("View controller - 게시글 export")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleExportController.class)
+class ArticleExportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleExportService articleExportService;
+
+    ArticleExportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[file][GET] 게시글 export - 정상 호출, 검색 조건을 넘기고 NDJSON 파일로 응답")
+    @Test
+    void givenSearchParameters_whenRequestingExport_thenStreamsNdjsonFile() throws Exception {
+        // Given
+        given(articleExportService.exportArticles(eq(SearchType.HASHTAG), eq("java"), eq(ArticleExportFormat.NDJSON), any(OutputStream.class)))
+                .willAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(3).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.get("/articles/export")
+                        .queryParam("searchType", SearchType.HASHTAG.name())
+                        .queryParam("searchValue", "java")
+        )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+
+        then(articleExportService).should().exportArticles(eq(SearchType.HASHTAG), eq("java"), eq(ArticleExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[file][GET] 게시글 export - gzip 요청이면 압축하면서 응답")
+    @Test
+    void givenGzip_whenRequestingExport_thenStreamsGzippedCsvFile() throws Exception {
+        // Given
+        String csv = "id,userId,title,content,createdAt\n";
+        given(articleExportService.exportArticles(eq(null), eq(null), eq(ArticleExportFormat.CSV), any(OutputStream.class)))
+                .willAnswer(invocation -> {
+                    try (OutputStream outputStream = invocation.getArgument(3)) {
+                        outputStream.write(csv.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return 0L;
+                });
+
+        // When
+        MvcResult result = mvc.perform(
+                MockMvcRequestBuilders.get("/articles/export")
+                        .queryParam("format", ArticleExportFormat.CSV.name())
+                        .queryParam("gzip", "true")
+        )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.csv.gz\""))
+                .andReturn();
+
+        // Then
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(csv);
+        }
+    }
+
+    @DisplayName("[file][GET] 게시글 export - 인증 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenNothing_whenRequestingExport_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(MockMvcRequestBuilders.get("/articles/export"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+}
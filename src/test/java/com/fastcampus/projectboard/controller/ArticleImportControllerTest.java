@@ -0,0 +1,141 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.dto.ArticleImportResult;
+import com.fastcampus.projectboard.service.ArticleImportService;
+import com.fastcampus.projectboard.service.importer.ArticleImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("View controller - 게시글 import")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(controllers = ArticleImportController.class, properties = "board.security.admin-user-ids=unoTest") // 관리자만 사용 가능
+class ArticleImportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleImportService articleImportService;
+
+    ArticleImportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[json][POST] 게시글 import (NDJSON) - 정상 호출, 관리자")
+    @Test
+    void givenNdjson_whenRequestingImport_thenReturnsImportResult() throws Exception {
+        // Given
+        given(articleImportService.importArticles(any(InputStream.class), eq(ArticleImportFormat.NDJSON)))
+                .willReturn(ArticleImportResult.of(2, 1, 1, 10, List.of(ArticleImportResult.RowError.of(2, "title 이 없습니다.")), false));
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.post("/articles/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\": \"uno\", \"title\": \"title\", \"content\": \"content\"}\n{\"userId\": \"uno\"}\n")
+                        .with(csrf())
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.failedRows").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").value(100.0))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+
+        then(articleImportService).should().importArticles(any(InputStream.class), eq(ArticleImportFormat.NDJSON));
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[json][POST] 게시글 import (CSV) - 정상 호출, 관리자")
+    @Test
+    void givenCsv_whenRequestingImport_thenImportsAsCsv() throws Exception {
+        // Given
+        given(articleImportService.importArticles(any(InputStream.class), eq(ArticleImportFormat.CSV)))
+                .willReturn(ArticleImportResult.of(1, 1, 0, 10, List.of(), false));
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.post("/articles/import")
+                        .contentType("text/csv")
+                        .content("userId,title,content\nuno,title,content\n")
+                        .with(csrf())
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1));
+
+        then(articleImportService).should().importArticles(any(InputStream.class), eq(ArticleImportFormat.CSV));
+    }
+
+    @WithMockUser(username = "uno2") // 관리자가 아닌 로그인 사용자
+    @DisplayName("[json][POST] 게시글 import - 관리자가 아니면 거부")
+    @Test
+    void givenNonAdminUser_whenRequestingImport_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.post("/articles/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\": \"uno\", \"title\": \"title\", \"content\": \"content\"}\n")
+                        .with(csrf())
+        )
+                .andExpect(status().isForbidden());
+
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION, userDetailsServiceBeanName = "userDetailsService")
+    @DisplayName("[json][POST] 게시글 import - CSRF token 이 없으면 거부")
+    @Test
+    void givenNoCsrfToken_whenRequestingImport_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.post("/articles/import")
+                        .contentType("text/csv")
+                        .content("userId,title,content\nuno,title,content\n")
+        )
+                .andExpect(status().isForbidden());
+
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[json][POST] 게시글 import - 인증 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenNothing_whenRequestingImport_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                MockMvcRequestBuilders.post("/articles/import")
+                        .contentType("text/csv")
+                        .content("userId,title,content\n")
+                        .with(csrf())
+        )
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.service.monitoring.QueryCount;
+import com.fastcampus.projectboard.service.monitoring.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ArticleControllerTest 는 service 를 mock 으로 대신하므로 SQL 문 수를 확인할 수 없다.
+// 화면별 SQL 문 수를 고정 (pin) 해서, N+1 이 생기면 (문장 수가 늘면) test 가 실패하도록 전체 context 로 실행한다.
+// 예산을 넘으면 예외를 던지도록 (board.sql.fail-on-exceed) 해서, 요청 / service method 예산도 함께 확인한다.
+// 문장 수는 (게시글 상세를 빼면) 2차 cache 가 채워진 뒤 (같은 요청을 한 번 보낸 뒤) 의 값이다.
+@DisplayName("View 컨트롤러 - 게시글 SQL 문 수")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "board.sql.fail-on-exceed=true")
+@AutoConfigureMockMvc
+class ArticleQueryCountTest {
+
+    private final MockMvc mvc;
+
+    ArticleQueryCountTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[view][GET] 게시글 list (게시판) 페이지")
+    @Test
+    void givenNothing_whenRequestingArticlesView_thenExecutesPinnedStatements() throws Exception {
+        // Given
+        RequestBuilder request = get("/articles");
+
+        // When
+        QueryCount actual = measure(request);
+
+        // Then
+        assertThat(actual.getStatements()).isEqualTo(2);
+    }
+
+    @DisplayName("[view][GET] 게시글 list (게시판) 페이지 - 제목 검색")
+    @Test
+    void givenSearchKeyword_whenSearchingArticlesView_thenExecutesPinnedStatements() throws Exception {
+        // Given
+        RequestBuilder request = get("/articles").queryParam("searchType", "TITLE").queryParam("searchValue", "quis");
+
+        // When
+        QueryCount actual = measure(request);
+
+        // Then
+        assertThat(actual.getStatements()).isEqualTo(2);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][GET] 게시글 페이지 - 정상 호출, 인증된 사용자")
+    @Test
+    void givenAuthorizedUser_whenRequestingArticleView_thenExecutesPinnedStatements() throws Exception {
+        // Given
+        RequestBuilder request = get("/articles/2");
+
+        // When (이 test 에서만 조회하는 게시글이므로 처음 요청은 cache 가 비어 있다)
+        QueryCount first = QueryCounter.measure(() -> mvc.perform(request).andExpect(status().isOk()));
+        QueryCount cached = QueryCounter.measure(() -> mvc.perform(request).andExpect(status().isOk()));
+
+        // Then
+        assertThat(first.getStatements()).isEqualTo(5);
+        assertThat(cached.getStatements()).isZero(); // 상세 화면 cache
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[JSON][GET] 댓글 더 보기")
+    @Test
+    void givenArticleId_whenRequestingArticleComments_thenExecutesPinnedStatements() throws Exception {
+        // Given
+        RequestBuilder request = get("/comments").queryParam("articleId", "1");
+
+        // When
+        QueryCount actual = measure(request);
+
+        // Then
+        assertThat(actual.getStatements()).isEqualTo(3);
+    }
+
+    @DisplayName("[view][GET] 해시태그 검색 페이지")
+    @Test
+    void givenHashtag_whenRequestingArticleSearchHashtagView_thenExecutesPinnedStatements() throws Exception {
+        // Given
+        RequestBuilder request = get("/articles/search-hashtag").queryParam("searchValue", "blue");
+
+        // When
+        QueryCount actual = measure(request);
+
+        // Then
+        assertThat(actual.getStatements()).isEqualTo(3);
+    }
+
+    // 한 번 요청해서 cache 를 채운 뒤, 같은 요청의 SQL 문 수를 센다.
+    private QueryCount measure(RequestBuilder request) throws Exception {
+        mvc.perform(request).andExpect(status().isOk());
+
+        return QueryCounter.measure(() -> mvc.perform(request).andExpect(status().isOk()));
+    }
+}
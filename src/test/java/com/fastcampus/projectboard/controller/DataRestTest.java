@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -49,6 +50,20 @@ class DataRestTest {
 
     }
 
+    @DisplayName("[api] 게시글 list 조회 - cursor 방식")
+    @Test
+    void givenCursor_whenRequestArticles_thenReturnsArticleJsonResponseWithNextLink() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles").queryParam("cursor", "").queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$._embedded.articles.length()").value(5))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andExpect(jsonPath("$._links.prev").doesNotExist());
+    }
+
     @DisplayName("[api] 게시글 단건 조회")
     @Test
     void givenNothing_whenRequestArticles_thenReturn1ArticleJsonResponse() throws Exception {
@@ -94,6 +109,19 @@ class DataRestTest {
                 .andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
     }
 
+    @DisplayName("[api] 해시태그 단건 조회 - cache 된 entity 의 게시글 수는 오래된 값일 수 있으므로 내보내지 않는다.")
+    @Test
+    void givenNothing_whenRequestingHashtag_thenReturnsHashtagWithoutArticleCount() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/hashtags/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$.hashtagName").exists())
+                .andExpect(jsonPath("$.articleCount").doesNotExist());
+    }
+
     @DisplayName("[api] 회원 관련 AIP 는 일체 제공하지 않는다")
     @Test
     void givenNothing_whenRequestingUserAccounts_thenThrowsException() throws Exception {
@@ -0,0 +1,106 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DTO - 댓글 계층 구성")
+class ArticleCommentTreeTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 10, 1, 12, 0);
+
+    @DisplayName("DB 가 준 순서 (최상위 댓글은 화면 순서, 그 뒤에 대댓글은 path 순) 로 구성하면, 다시 정렬하지 않고 그 순서대로 계층을 만든다.")
+    @Test
+    void givenCommentsInDatabaseOrder_whenOrganizing_thenKeepsOrder() {
+        // Given
+        List<ArticleCommentDto> comments = List.of(
+                createArticleCommentDto(6L, null, now.plusHours(3L)),
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(2L, null, now),
+                createArticleCommentDto(3L, 1L, now.plusHours(1L)),
+                createArticleCommentDto(7L, 3L, now.plusHours(4L)),
+                createArticleCommentDto(5L, 1L, now.plusHours(2L)),
+                createArticleCommentDto(4L, 2L, now.plusHours(1L))
+        );
+
+        // When
+        List<ArticleCommentResponse> actual = ArticleCommentTree.of(comments).toResponses();
+
+        // Then
+        assertThat(actual)
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(6L, 1L, 2L);
+        assertThat(actual.get(1).childComments())
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(3L, 5L);
+        assertThat(actual.get(1).childComments().get(0).childComments())
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(7L);
+        assertThat(actual.get(2).childComments())
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(4L);
+    }
+
+    @DisplayName("부모 댓글이 대댓글보다 뒤에 나와도, 부모 댓글 밑에 이어 붙인다.")
+    @Test
+    void givenReplyBeforeParent_whenOrganizing_thenAttachesReplyToParent() {
+        // Given
+        List<ArticleCommentDto> comments = List.of(
+                createArticleCommentDto(3L, 1L, now.plusHours(1L)),
+                createArticleCommentDto(1L, null, now)
+        );
+
+        // When
+        List<ArticleCommentResponse> actual = ArticleCommentTree.of(comments).toResponses();
+
+        // Then
+        assertThat(actual).extracting(ArticleCommentResponse::id).containsExactly(1L);
+        assertThat(actual.get(0).childComments()).extracting(ArticleCommentResponse::id).containsExactly(3L);
+    }
+
+    @DisplayName("대댓글이 아주 깊게 이어져도, 깊이 제한 없이 끝까지 구성한다.")
+    @Test
+    void givenVeryDeepReplies_whenOrganizing_thenOrganizesWithoutDepthLimit() {
+        // Given
+        int depth = 10_000;
+        List<ArticleCommentDto> comments = new ArrayList<>();
+        comments.add(createArticleCommentDto(1L, null, now));
+        for (long id = 2; id <= depth; id++) {
+            comments.add(createArticleCommentDto(id, id - 1, now.plusSeconds(id)));
+        }
+
+        // When
+        List<ArticleCommentResponse> actual = ArticleCommentTree.of(comments).toResponses();
+
+        // Then
+        ArticleCommentResponse comment = actual.get(0);
+        int actualDepth = 1;
+        while (!comment.childComments().isEmpty()) {
+            comment = comment.childComments().get(0);
+            actualDepth++;
+        }
+        assertThat(actualDepth).isEqualTo(depth);
+        assertThat(comment.id()).isEqualTo((long) depth);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", "memo"),
+                parentCommentId,
+                "test comment " + id,
+                createdAt,
+                "uno",
+                createdAt,
+                "uno"
+        );
+    }
+}
@@ -1,7 +1,8 @@
 package com.fastcampus.projectboard.dto.response;
 
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.dto.HashtagDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,19 +23,18 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentDtoWithoutChildComments_whenMapping_thenOrganizesCommentsWithCertianOrder() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
-                createArticleCommentDto(1L, null, now),
-                createArticleCommentDto(2L, null, now.plusDays(1L)),
-                createArticleCommentDto(3L, null, now.plusDays(3L)),
-                createArticleCommentDto(4L, null, now),
+        List<ArticleCommentDto> articleCommentDtos = List.of( // DB 가 주는 순서 (최상위 댓글: createdAt desc, id asc)
                 createArticleCommentDto(5L, null, now.plusDays(5L)),
+                createArticleCommentDto(7L, null, now.plusDays(5L)),
+                createArticleCommentDto(3L, null, now.plusDays(3L)),
                 createArticleCommentDto(6L, null, now.plusDays(2L)),
-                createArticleCommentDto(7L, null, now.plusDays(5L))
+                createArticleCommentDto(2L, null, now.plusDays(1L)),
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(4L, null, now)
         );
-        ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
 
         // When
-        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(createArticleDto(), createCommentPage(articleCommentDtos));
 
         // Then
         assertThat(actual.articleCommentsResponse())
@@ -53,23 +54,23 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentDto_whenMapping_thenOrganizesParentAndChildCommentsWithCertianOrder() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        List<ArticleCommentDto> articleCommentDtos = List.of( // DB 가 주는 순서 (최상위 댓글 다음에 대댓글 path 순)
+                createArticleCommentDto(6L, null, now.plusDays(4L)),
                 createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(5L, null, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 1L, now.plusDays(3L)),
-                createArticleCommentDto(4L, 1L, now),
-                createArticleCommentDto(5L, null, now),
-                createArticleCommentDto(6L, null, now.plusDays(4L)),
-                createArticleCommentDto(7L, 6L, now.plusDays(2L)),
+                createArticleCommentDto(4L, 1L, now.plusDays(4L)),
+                createArticleCommentDto(7L, 6L, now.plusDays(5L)),
                 createArticleCommentDto(8L, 6L, now.plusDays(7L))
         );
-        ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
 
         // When
-        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(createArticleDto(), createCommentPage(articleCommentDtos));
 
         // Then
         assertThat(actual.articleCommentsResponse())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("childComments") // 자식 댓글은 아래에서 따로 비교
                 .containsExactly(
                         createArticleCommentResponse(6L, null, now.plusDays(4L)),
                         createArticleCommentResponse(1L, null, now),
@@ -78,11 +79,11 @@ class ArticleWithCommentsResponseTest {
                         )
                 .flatExtracting(ArticleCommentResponse::childComments)
                 .containsExactly(
-                        createArticleCommentResponse(7L, 6L, now.plusDays(2L)),
+                        createArticleCommentResponse(7L, 6L, now.plusDays(5L)),
                         createArticleCommentResponse(8L, 6L, now.plusDays(7L)),
-                        createArticleCommentResponse(4L, 1L, now),
                         createArticleCommentResponse(2L, 1L, now.plusDays(1L)),
-                        createArticleCommentResponse(3L, 1L, now.plusDays(3L))
+                        createArticleCommentResponse(3L, 1L, now.plusDays(3L)),
+                        createArticleCommentResponse(4L, 1L, now.plusDays(4L))
                 );
     }
 
@@ -91,7 +92,7 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentsDto_whenMapping_thenOrganizesParentAndChildCommentsWithoutDepthLimit() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        List<ArticleCommentDto> articleCommentDtos = List.of(
                 createArticleCommentDto(1L, null, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 2L, now.plusDays(2L)),
@@ -101,10 +102,9 @@ class ArticleWithCommentsResponseTest {
                 createArticleCommentDto(7L, 6L, now.plusDays(6L)),
                 createArticleCommentDto(8L, 7L, now.plusDays(7L))
         );
-        ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
 
         // When
-        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(createArticleDto(), createCommentPage(articleCommentDtos));
 
         // Then
         Iterator<ArticleCommentResponse> iterator = actual.articleCommentsResponse().iterator();
@@ -121,13 +121,39 @@ class ArticleWithCommentsResponseTest {
         }
     }
 
+    @DisplayName("게시글 dto 와 댓글 첫 page 를 api 응답으로 변환할 때, 댓글 계층을 구성하고 '더 보기' cursor 를 함께 담는다.")
+    @Test
+    void givenArticleDtoAndCommentPage_whenMapping_thenOrganizesCommentsAndKeepsNextCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        CursorPage<ArticleCommentDto> articleComments = CursorPage.of(
+                List.of(
+                        createArticleCommentDto(2L, null, now.plusDays(1L)),
+                        createArticleCommentDto(1L, null, now),
+                        createArticleCommentDto(3L, 1L, now.plusDays(2L))
+                ),
+                2, 0, null, "next-cursor"
+        );
+
+        // When
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(createArticleDto(), articleComments);
+
+        // Then
+        assertThat(actual.articleCommentsResponse())
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(2L, 1L);
+        assertThat(actual.articleCommentsResponse().get(1).childComments())
+                .containsExactly(createArticleCommentResponse(3L, 1L, now.plusDays(2L)));
+        assertThat(actual.hashtags()).containsExactly("java");
+        assertThat(actual.commentsNextCursor()).isEqualTo("next-cursor");
+    }
+
     //------------------- Fixture for Test ------------------
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto(Set<ArticleCommentDto> articleCommentDtos) {
-        return ArticleWithCommentsDto.of(
+    private ArticleDto createArticleDto() {
+        return ArticleDto.of(
                 1L,
                 createUserAccountDto(),
-                articleCommentDtos,
                 "title",
                 "content",
                 Set.of(HashtagDto.of("java")),
@@ -138,6 +164,11 @@ class ArticleWithCommentsResponseTest {
         );
     }
 
+    // 더 볼 댓글이 없는 댓글 page
+    private CursorPage<ArticleCommentDto> createCommentPage(List<ArticleCommentDto> articleCommentDtos) {
+        return CursorPage.of(articleCommentDtos, articleCommentDtos.size(), 0, null, null);
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "uno",
@@ -1,25 +1,46 @@
 package com.fastcampus.projectboard.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.repository.querydsl.HashtagRepositoryCustom;
 import org.aspectj.weaver.ast.Instanceof;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -27,24 +48,33 @@ import static org.assertj.core.api.Assertions.*;
 //@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DisplayName("JPA 연결 test")
 @Import(JpaRepositoryTest.TestJpaConfig.class)  // 기존 JpaConfig.Class 를 대신 사용 (해당 test 에서만 Auditing 이 임의로 통과시키도록)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // 상세 조회 query 수 확인용
 class JpaRepositoryTest {
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final TestEntityManager testEntityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Statistics statistics;
 
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired TestEntityManager testEntityManager,
+            @Autowired PlatformTransactionManager transactionManager,
+            @Autowired EntityManagerFactory entityManagerFactory
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.testEntityManager = testEntityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     @DisplayName("select Test")
@@ -218,6 +248,588 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
 
+    @DisplayName("[count] 검색 결과 수를 상한까지 세면, DB 에서 센 수 (상한을 넘으면 상한) 를 검색 목록의 전체 수와 같게 돌려준다.")
+    @Test
+    void givenSearchParametersAndLimit_whenCountingUpTo_thenReturnsCappedTotalCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        long titleTotal = articleRepository.findByTitleContaining("a", pageable).getTotalElements();
+        long nicknameTotal = articleRepository.findByUserAccount_NicknameContaining("Uno", pageable).getTotalElements();
+        long hashtagTotal = articleRepository.findByHashtagNames(List.of("blue", "crimson", "fuscia"), pageable).getTotalElements();
+        long allTotal = articleRepository.count();
+
+        // When & Then
+        assertThat(articleRepository.countUpTo(SearchType.TITLE, "a", 10_001)).isEqualTo(titleTotal);
+        assertThat(articleRepository.countUpTo(SearchType.TITLE, "a", 10)).isEqualTo(Math.min(titleTotal, 10));
+        assertThat(articleRepository.countUpTo(SearchType.NICKNAME, "Uno", 10_001)).isEqualTo(nicknameTotal);
+        assertThat(articleRepository.countUpTo(SearchType.HASHTAG, "blue crimson fuscia", 10_001)).isEqualTo(hashtagTotal);
+        assertThat(articleRepository.countUpTo(SearchType.CONTENT, "100%", 10_001)).isZero(); // % 는 wildcard 가 아니라 글자로 찾음
+        assertThat(articleRepository.countUpTo(null, null, 10_001)).isEqualTo(allTotal);
+        assertThat(articleRepository.countUpTo(null, null, 3)).isEqualTo(Math.min(allTotal, 3));
+    }
+
+    @DisplayName("[QueryDSL] cursor 로 전체 게시글을 끝까지 넘기면, 최신순 전체 목록과 같은 순서로 모든 게시글을 조회한다.")
+    @Test
+    void givenNoCursor_whenQueryingEveryArticlePageByCursor_thenReturnsEveryArticleInLatestOrder() {
+        // Given
+        List<Long> expectedIds = articleRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .stream()
+                .map(Article::getId)
+                .toList();
+        List<Long> actualIds = new ArrayList<>();
+
+        // When
+        CursorPage<Article> page = articleRepository.findByCursor(null, null, null, 10);
+        actualIds.addAll(page.content().stream().map(Article::getId).toList());
+        while (page.hasNext()) {
+            page = articleRepository.findByCursor(null, null, ArticleCursor.decode(page.nextCursor()), 10);
+            actualIds.addAll(page.content().stream().map(Article::getId).toList());
+        }
+        CursorPage<Article> previousPage = articleRepository.findByCursor(null, null, ArticleCursor.decode(page.previousCursor()), 10);
+
+        // Then
+        assertThat(actualIds).isEqualTo(expectedIds);
+        assertThat(page.pageNumber()).isEqualTo(12);
+        assertThat(page.content()).hasSize(3);
+        assertThat(previousPage.pageNumber()).isEqualTo(11);
+        assertThat(previousPage.content())
+                .extracting("id", Long.class)
+                .isEqualTo(expectedIds.subList(110, 120));
+        assertThat(previousPage.hasNext()).isTrue();
+    }
+
+    @DisplayName("[QueryDSL] hashtag 와 cursor 로 게시글을 끝까지 넘기면, 해당 hashtag 게시글을 중복 없이 모두 조회한다.")
+    @Test
+    void givenHashtagNames_whenQueryingArticlesByCursor_thenReturnsEveryMatchingArticleOnce() {
+        // Given
+        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
+        List<Article> actual = new ArrayList<>();
+
+        // When
+        CursorPage<Article> page = articleRepository.findByHashtagNames(hashtagNames, null, 5);
+        actual.addAll(page.content());
+        while (page.hasNext()) {
+            page = articleRepository.findByHashtagNames(hashtagNames, ArticleCursor.decode(page.nextCursor()), 5);
+            actual.addAll(page.content());
+        }
+
+        // Then
+        assertThat(actual)
+                .hasSize(17)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.comparing(Article::getCreatedAt).thenComparing(Article::getId).reversed());
+    }
+
+    @DisplayName("[QueryDSL] export 용 게시글을 stream 으로 읽으면, entity 를 만들지 않고 검색 조건에 맞는 게시글을 id 순으로 모두 읽는다.")
+    @Test
+    void givenSearchParameters_whenStreamingExportRows_thenReturnsEveryMatchingRowInIdOrderWithoutEntities() {
+        // Given
+        long articleCount = articleRepository.count();
+        long hashtagArticleCount = articleRepository.findByHashtagNames(List.of("blue"), Pageable.unpaged()).getTotalElements();
+        statistics.clear();
+
+        // When
+        List<ArticleExportRow> allRows;
+        try (Stream<ArticleExportRow> rows = articleRepository.streamExportRows(null, null, 10)) {
+            allRows = rows.toList();
+        }
+        List<ArticleExportRow> hashtagRows;
+        try (Stream<ArticleExportRow> rows = articleRepository.streamExportRows(SearchType.HASHTAG, "blue", 10)) {
+            hashtagRows = rows.toList();
+        }
+
+        // Then
+        assertThat(allRows)
+                .hasSize((int) articleCount)
+                .isSortedAccordingTo(Comparator.comparing(ArticleExportRow::id))
+                .allSatisfy(row -> assertThat(row.userId()).isNotBlank());
+        assertThat(hashtagRows).hasSize((int) hashtagArticleCount);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("[QueryDSL] 게시글 목록 projection 을 조회하면, 본문 앞부분과 해시태그를 채운 목록을 query 2번으로 가져온다.")
+    @Test
+    void givenPageable_whenSelectingSummaries_thenReturnsSummariesWithHashtagsInTwoQueries() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        List<Article> expected = articleRepository.findAll(pageable).getContent();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // When
+        Slice<ArticleSummaryDto> actual = articleRepository.findSummaries(null, null, pageable);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(actual.hasNext()).isTrue();
+        assertThat(actual.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(expected.stream().map(Article::getId).toList());
+        assertThat(actual.getContent()).allSatisfy(summary -> {
+            Article article = articleRepository.findById(summary.id()).orElseThrow();
+            assertThat(summary.contentPreview())
+                    .hasSizeLessThanOrEqualTo(ArticleSummaryDto.CONTENT_PREVIEW_LENGTH)
+                    .isEqualTo(article.getContent().substring(0, Math.min(article.getContent().length(), ArticleSummaryDto.CONTENT_PREVIEW_LENGTH)));
+            assertThat(summary.hashtagNames())
+                    .containsExactlyInAnyOrderElementsOf(article.getHashtags().stream().map(Hashtag::getHashtagName).toList());
+            assertThat(summary.userId()).isEqualTo(article.getUserAccount().getUserId());
+        });
+    }
+
+    @DisplayName("[QueryDSL] 검색 엔진이 찾은 id 로 게시글 목록을 제목순으로 조회하면, 해당 게시글만 제목순으로 요청한 page 만큼 가져온다.")
+    @Test
+    void givenIdsAndTitleSort_whenSelectingSummariesByIds_thenReturnsPageSortedByTitle() {
+        // Given
+        List<Long> ids = articleRepository.findIdsAfter(0L, 20);
+        List<Long> expected = articleRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Article::getTitle).thenComparing(Article::getId))
+                .map(Article::getId)
+                .skip(5)
+                .limit(5)
+                .toList();
+
+        // When
+        List<ArticleSummaryDto> actual = articleRepository.findSummariesByIds(ids, PageRequest.of(1, 5, Sort.by("title", "id")));
+
+        // Then
+        assertThat(actual)
+                .extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("[QueryDSL] cursor 로 게시글의 최상위 댓글을 끝까지 넘기면, 최신순 (같은 시각은 id 순) 으로 모든 최상위 댓글을 조회한다.")
+    @Test
+    void givenArticleId_whenPagingRootCommentsByCursor_thenReturnsAllRootCommentsInDisplayOrder() {
+        // Given
+        Long articleId = articleCommentRepository.findById(1L).orElseThrow().getArticle().getId();
+        List<Long> expected = articleCommentRepository.findByArticle_Id(articleId).stream()
+                .filter(articleComment -> articleComment.getParentCommentId() == null)
+                .sorted(Comparator.comparing(ArticleComment::getCreatedAt).reversed().thenComparing(ArticleComment::getId))
+                .map(ArticleComment::getId)
+                .toList();
+
+        // When
+        List<Long> actual = new ArrayList<>();
+        ArticleCommentCursor cursor = null;
+        CursorPage<ArticleComment> page;
+        do {
+            page = articleCommentRepository.findRootComments(articleId, cursor, 2);
+            page.content().forEach(articleComment -> actual.add(articleComment.getId()));
+            cursor = ArticleCommentCursor.decode(page.nextCursor());
+        } while (page.hasNext());
+
+        // Then
+        assertThat(expected).hasSizeGreaterThan(2);
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("[QueryDSL] 최상위 댓글로 대댓글을 조회하면, 대댓글의 대댓글까지 모두 path 순 (화면 순서) 으로 한 번의 query 로 가져온다.")
+    @Test
+    void givenRootComments_whenSelectingReplies_thenReturnsAllDescendantsInPathOrder() {
+        // Given
+        ArticleComment rootComment = articleCommentRepository.findById(1L).orElseThrow();
+        ArticleComment reply = rootComment.getChildComments().iterator().next();
+        ArticleComment replyOfReply = saveReply(reply, "대댓글의 대댓글");
+        testEntityManager.clear();
+        statistics.clear();
+
+        // When
+        List<ArticleComment> actual = articleCommentRepository.findRepliesOf(List.of(rootComment));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2); // 대댓글 + (eager) 게시글
+        assertThat(actual)
+                .hasSize(rootComment.getChildComments().size() + 1)
+                .extracting(ArticleComment::getPath)
+                .isSorted()
+                .allSatisfy(path -> assertThat(path).startsWith(rootComment.getPath()));
+        assertThat(actual)
+                .extracting(ArticleComment::getId)
+                .containsSubsequence(reply.getId(), replyOfReply.getId());
+        assertThat(actual.get(actual.indexOf(replyOfReply)).getParentCommentId()).isEqualTo(reply.getId());
+    }
+
+    @DisplayName("[QueryDSL] path 가 없는 (path 도입 이전) 최상위 댓글로 대댓글을 조회하면, 부모 댓글 id 를 따라 대댓글의 대댓글까지 모두 가져온다.")
+    @Test
+    void givenRootCommentWithoutPath_whenSelectingReplies_thenReturnsAllDescendantsByParentCommentId() {
+        // Given
+        ArticleComment rootComment = articleCommentRepository.findById(1L).orElseThrow();
+        ArticleComment reply = rootComment.getChildComments().iterator().next();
+        ArticleComment replyOfReply = saveReply(reply, "대댓글의 대댓글");
+        articleCommentRepository.updatePath(rootComment.getId(), null);
+        testEntityManager.clear();
+        ArticleComment rootCommentWithoutPath = articleCommentRepository.findById(1L).orElseThrow();
+
+        // When
+        List<ArticleComment> actual = articleCommentRepository.findRepliesOf(List.of(rootCommentWithoutPath));
+
+        // Then
+        assertThat(rootCommentWithoutPath.getPath()).isNull();
+        assertThat(actual)
+                .hasSize(rootComment.getChildComments().size() + 1)
+                .extracting(ArticleComment::getId)
+                .contains(reply.getId(), replyOfReply.getId());
+    }
+
+    @DisplayName("[QueryDSL] 댓글 path 로 thread 를 조회하면, 해당 댓글과 그 하위 댓글만 화면 순서 (부모 다음에 대댓글) 로 가져온다.")
+    @Test
+    void givenCommentPath_whenSelectingThread_thenReturnsSubtreeInDisplayOrder() {
+        // Given
+        ArticleComment rootComment = articleCommentRepository.findById(1L).orElseThrow();
+        ArticleComment reply = rootComment.getChildComments().iterator().next();
+        ArticleComment replyOfReply = saveReply(reply, "대댓글의 대댓글");
+        testEntityManager.clear();
+
+        // When
+        List<ArticleComment> thread = articleCommentRepository.findThread(rootComment.getPath());
+        List<ArticleComment> subtree = articleCommentRepository.findThread(reply.getPath());
+
+        // Then
+        assertThat(thread).extracting(ArticleComment::getId)
+                .startsWith(rootComment.getId(), reply.getId(), replyOfReply.getId())
+                .hasSize(rootComment.getChildComments().size() + 2);
+        assertThat(subtree).extracting(ArticleComment::getId).containsExactly(reply.getId(), replyOfReply.getId());
+    }
+
+    @DisplayName("[counter] 게시글 댓글 수를 늘린 뒤 게시글을 수정해도, 이미 읽어둔 값으로 덮어쓰지 않고 늘린 값이 남는다.")
+    @Test
+    void givenIncrementedCommentCount_whenUpdatingArticle_thenKeepsIncrementedCount() {
+        // Given
+        Article article = articleRepository.findById(49L).orElseThrow();
+        long seededCount = article.getCommentCount();
+        assertThat(seededCount).isEqualTo(articleCommentRepository.findByArticle_Id(49L).size()); // data.sql 에서 채운 값
+
+        // When
+        articleRepository.addCommentCount(49L, 2);
+        article.setTitle("new title");
+        articleRepository.flush();
+        testEntityManager.clear();
+
+        // Then
+        Article actual = articleRepository.findById(49L).orElseThrow();
+        assertThat(actual.getTitle()).isEqualTo("new title");
+        assertThat(actual.getCommentCount()).isEqualTo(seededCount + 2);
+    }
+
+    @DisplayName("[counter] 새 게시글과 해시태그는 counter 가 0 으로 저장된다.")
+    @Test
+    void givenNewArticleWithNewHashtag_whenSaving_thenCountersStartFromZero() {
+        // Given
+        Article article = Article.of(userAccountRepository.getReferenceById("uno"), "new article", "new content");
+        article.addHashtag(Hashtag.of("new-hashtag"));
+
+        // When
+        Article savedArticle = articleRepository.saveAndFlush(article);
+        Long hashtagId = savedArticle.getHashtags().iterator().next().getId();
+        testEntityManager.clear();
+
+        // Then
+        assertThat(articleRepository.findById(savedArticle.getId()).orElseThrow().getCommentCount()).isZero();
+        assertThat(hashtagRepository.findArticleCountById(hashtagId)).contains(0L);
+    }
+
+    @DisplayName("[counter] 댓글 수를 보정하면, 값이 어긋난 게시글만 실제 댓글 수로 고친다.")
+    @Test
+    void givenDriftedCommentCount_whenRecounting_thenFixesOnlyDriftedArticles() {
+        // Given
+        long expected = articleCommentRepository.findByArticle_Id(49L).size();
+        articleRepository.addCommentCount(49L, 5);
+        List<Long> articleIds = articleRepository.findIdsAfter(0L, 1_000);
+
+        // When
+        long corrected = articleRepository.recountCommentCounts(0L, articleIds.get(articleIds.size() - 1));
+        testEntityManager.clear();
+
+        // Then
+        assertThat(corrected).isEqualTo(1L);
+        assertThat(articleRepository.findById(49L).orElseThrow().getCommentCount()).isEqualTo(expected);
+    }
+
+    @DisplayName("[counter] 해시태그 게시글 수를 보정하면, 값이 어긋난 해시태그만 실제 게시글 수로 고친다.")
+    @Test
+    void givenDriftedArticleCount_whenRecounting_thenFixesOnlyDriftedHashtags() {
+        // Given
+        Hashtag hashtag = hashtagRepository.findAll().get(0);
+        long expected = hashtag.getArticles().size();
+        assertThat(hashtagRepository.findArticleCountById(hashtag.getId())).contains(expected); // data.sql 에서 채운 값
+        hashtagRepository.addArticleCount(List.of(hashtag.getId()), -3);
+        List<Long> hashtagIds = hashtagRepository.findIdsAfter(0L, 1_000);
+
+        // When
+        long corrected = hashtagRepository.recountArticleCounts(0L, hashtagIds.get(hashtagIds.size() - 1));
+
+        // Then
+        assertThat(corrected).isEqualTo(1L);
+        assertThat(hashtagRepository.findArticleCountById(hashtag.getId())).contains(expected);
+    }
+
+    @DisplayName("[QueryDSL] 게시글이 없는 해시태그를 정리하면, 게시글을 읽지 않고 delete 문으로 게시글이 없는 해시태그만 지운다.")
+    @Test
+    void givenHashtagsWithAndWithoutArticles_whenDeletingHashtagsWithoutArticles_thenDeletesOnlyOrphansWithoutLoading() {
+        // Given
+        Hashtag usedHashtag = hashtagRepository.findAll().stream()
+                .filter(hashtag -> !hashtag.getArticles().isEmpty())
+                .findFirst().orElseThrow();
+        Hashtag orphanHashtag = hashtagRepository.saveAndFlush(Hashtag.of("orphan-hashtag"));
+        testEntityManager.clear();
+        statistics.clear();
+
+        // When
+        long deleted = hashtagRepository.deleteWithoutArticles(List.of(usedHashtag.getId(), orphanHashtag.getId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(1L);
+        // 지울 해시태그 조회 1개 + Hibernate 는 bulk delete 전에 같은 조건으로 article_hashtag 의 row 를 먼저 지우므로 (조건상 지워지는 row 는 없음) delete 문 2개
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(hashtagRepository.findById(usedHashtag.getId())).isPresent();
+        assertThat(hashtagRepository.findById(orphanHashtag.getId())).isEmpty();
+    }
+
+    @DisplayName("게시글을 여러 개 저장하면, id 는 insert 없이 미리 받아 두고 flush 할 때 insert 를 한 번의 batch 로 실행한다.")
+    @Test
+    void givenArticles_whenSavingAll_thenAssignsIdsBeforeInsertAndInsertsInOneBatch() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        List<Article> articles = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> Article.of(userAccount, "title" + i, "content" + i))
+                .toList();
+        statistics.clear();
+
+        // When
+        articleRepository.saveAll(articles);
+        long insertCountBeforeFlush = statistics.getEntityInsertCount();
+        long prepareCountBeforeFlush = statistics.getPrepareStatementCount();
+        articleRepository.flush();
+
+        // Then
+        assertThat(insertCountBeforeFlush).isZero();
+        assertThat(prepareCountBeforeFlush).isZero(); // id 는 별도 transaction 에서 50 개씩 받는다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(articles)
+                .extracting(Article::getId)
+                .doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isGreaterThan(123L)); // classpath:resources/data.sql 의 게시글 다음부터
+    }
+
+    @DisplayName("댓글을 저장하면, insert 전에 id 가 정해지므로 path 를 채운 뒤 flush 할 때 insert 와 path update 를 함께 실행한다.")
+    @Test
+    void givenArticleComment_whenSavingAndAssigningPath_thenInsertsAtFlush() {
+        // Given
+        Article article = articleRepository.getReferenceById(1L);
+        ArticleComment articleComment = ArticleComment.of(article, article.getUserAccount(), "new comment");
+        statistics.clear();
+
+        // When
+        articleCommentRepository.save(articleComment); // ArticleCommentService#saveArticleComment 와 같은 방식
+        articleComment.assignPath(null);
+        long insertCountBeforeFlush = statistics.getEntityInsertCount();
+        articleCommentRepository.flush();
+
+        // Then
+        assertThat(insertCountBeforeFlush).isZero();
+        assertThat(articleComment.getId()).isGreaterThan(304L); // classpath:resources/data.sql 의 댓글 다음부터
+        assertThat(articleComment.getPath()).isEqualTo(ArticleComment.pathOf(null, articleComment.getId()));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1L);
+        testEntityManager.clear();
+        assertThat(articleCommentRepository.findById(articleComment.getId()))
+                .get()
+                .extracting(ArticleComment::getPath)
+                .isEqualTo(ArticleComment.pathOf(null, articleComment.getId()));
+    }
+
+    @DisplayName("작성 시각/작성자를 지정한 게시글을 저장하면, auditing 값 대신 지정한 값으로 저장한다.")
+    @Test
+    void givenArticleWithOriginalAuditing_whenSaving_thenKeepsOriginalAuditing() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2015, 3, 1, 9, 30);
+        Article article = Article.of(userAccountRepository.getReferenceById("uno"), "imported title", "imported content");
+        article.keepOriginalAuditing(createdAt, "uno2");
+
+        // When
+        articleRepository.saveAndFlush(article);
+        testEntityManager.clear();
+
+        // Then
+        assertThat(articleRepository.findById(article.getId()))
+                .get()
+                .hasFieldOrPropertyWithValue("createdAt", createdAt)
+                .hasFieldOrPropertyWithValue("createdBy", "uno2")
+                .hasFieldOrPropertyWithValue("modifiedAt", createdAt)
+                .hasFieldOrPropertyWithValue("modifiedBy", "uno2");
+    }
+
+    @DisplayName("[JDBC] 해시태그 이름들을 한 번에 저장하면, 이미 있는 이름은 건너뛰고 없는 이름만 저장한다.")
+    @Test
+    void givenExistingAndNewHashtagNames_whenInsertingIgnoringDuplicates_thenInsertsOnlyNewNames() {
+        // Given
+        Hashtag existingHashtag = hashtagRepository.findAll().get(0);
+        long previousHashtagCount = hashtagRepository.count();
+        List<String> hashtagNames = List.of(existingHashtag.getHashtagName(), "new-hashtag1", "new-hashtag2");
+
+        // When
+        hashtagRepository.insertIgnoringDuplicates(hashtagNames);
+
+        // Then
+        assertThat(hashtagRepository.count()).isEqualTo(previousHashtagCount + 2);
+        assertThat(hashtagRepository.findByHashtagNameIn(Set.copyOf(hashtagNames)))
+                .hasSize(3)
+                .contains(existingHashtag);
+    }
+
+    @DisplayName("[JDBC] 한 번에 저장한 해시태그 30개를 다시 조회해서 게시글에 달면, 게시글 insert 와 article_hashtag batch insert 만 실행한다.")
+    @Test
+    void givenInsertedHashtags_whenSavingArticle_thenInsertsArticleHashtagRowsInOneBatch() {
+        // Given
+        Set<String> hashtagNames = IntStream.rangeClosed(1, 30).mapToObj(i -> "batch-hashtag" + i).collect(Collectors.toSet());
+        hashtagRepository.insertIgnoringDuplicates(hashtagNames);
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(hashtagNames); // HashtagService#resolveHashtags 와 같은 방식
+        assertThat(hashtags).hasSize(30);
+
+        Article article = Article.of(userAccountRepository.getReferenceById("uno"), "title", "content");
+        article.addHashtags(hashtags);
+        statistics.clear();
+
+        // When
+        articleRepository.saveAndFlush(article);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        testEntityManager.clear();
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getHashtags())
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrderElementsOf(hashtagNames);
+    }
+
+    // 아래 2차 cache test 들은 cache 가 commit 시점에 갱신/무효화 되므로, test 의 transaction 없이 매 작업을 각각 commit 한다.
+    @DisplayName("[2차 cache] 작성자를 다시 조회하면 cache 에서 가져오고, 수정이 commit 되면 바뀐 내용을 가져온다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedUserAccount_whenUpdatingNickname_thenReadsUpdatedNickname() {
+        // Given
+        UserAccount original = transactionTemplate.execute(status -> userAccountRepository.findById("uno").orElseThrow());
+        statistics.clear();
+        transactionTemplate.execute(status -> userAccountRepository.findById("uno").orElseThrow());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        try {
+            // When
+            transactionTemplate.executeWithoutResult(status -> userAccountRepository.save( // UserAccountService#saveUser 와 같은 방식
+                    UserAccount.of("uno", original.getUserPassword(), original.getEmail(), "new nickname", original.getMemo(), "uno")
+            ));
+            UserAccount actual = transactionTemplate.execute(status -> userAccountRepository.findById("uno").orElseThrow());
+
+            // Then
+            assertThat(actual.getNickname()).isEqualTo("new nickname");
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> userAccountRepository.findById("uno").orElseThrow().setNickname(original.getNickname()));
+        }
+    }
+
+    @DisplayName("[2차 cache] 해시태그 이름 조회는 query cache 를 사용하고, 해시태그가 정리 (삭제) 되면 더 이상 조회되지 않는다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedHashtagQuery_whenDeletingHashtagWithoutArticles_thenQueryNoLongerReturnsIt() {
+        // Given
+        Set<String> hashtagNames = Set.of("cached-hashtag");
+        Long hashtagId = transactionTemplate.execute(status -> hashtagRepository.save(Hashtag.of("cached-hashtag")).getId());
+        transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        statistics.clear();
+        List<Hashtag> cached = transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        assertThat(cached).extracting(Hashtag::getId).containsExactly(hashtagId);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> hashtagRepository.deleteWithoutArticles(List.of(hashtagId))); // HashtagService#deleteHashtagsWithoutArticles 와 같은 방식
+
+        List<Hashtag> actual = transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        Optional<Hashtag> deleted = transactionTemplate.execute(status -> hashtagRepository.findById(hashtagId));
+
+        // Then
+        assertThat(actual).isEmpty();
+        assertThat(deleted).isEmpty();
+    }
+
+    @DisplayName("[2차 cache] 게시글을 저장해서 해시태그의 게시글 수가 늘어나도, 해시태그와 해시태그 이름 조회 결과는 계속 cache 에서 가져온다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedHashtag_whenSavingArticleWithHashtag_thenHashtagStaysCached() {
+        // Given
+        Set<String> hashtagNames = Set.of("blue");
+        Hashtag hashtag = transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames).get(0));
+        transactionTemplate.execute(status -> hashtagRepository.findById(hashtag.getId()));
+        long articleCount = transactionTemplate.execute(status -> hashtagRepository.findArticleCountById(hashtag.getId()).orElseThrow());
+
+        // When
+        Long articleId = transactionTemplate.execute(status -> { // ArticleService#saveArticle 과 같은 방식
+            Article article = Article.of(userAccountRepository.getReferenceById("uno"), "new article", "new content #blue");
+            article.addHashtags(hashtagRepository.findByHashtagNameIn(hashtagNames));
+            articleRepository.save(article);
+            hashtagRepository.addArticleCount(List.of(hashtag.getId()), 1);
+            return article.getId();
+        });
+
+        try {
+            statistics.clear();
+            transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+            transactionTemplate.execute(status -> hashtagRepository.findById(hashtag.getId()));
+            long cachedStatements = statistics.getPrepareStatementCount();
+            long actualArticleCount = transactionTemplate.execute(status -> hashtagRepository.findArticleCountById(hashtag.getId()).orElseThrow());
+
+            // Then
+            assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+            assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2); // query cache 결과의 해시태그 + findById
+            assertThat(cachedStatements).isZero();
+            assertThat(actualArticleCount).isEqualTo(articleCount + 1);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                articleRepository.deleteById(articleId);
+                hashtagRepository.addArticleCount(List.of(hashtag.getId()), -1);
+            });
+        }
+    }
+
+    @DisplayName("[2차 cache] 해시태그 이름 조회 결과가 cache 되어 있어도, JDBC 로 저장한 해시태그가 commit 되면 함께 조회된다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedHashtagQuery_whenInsertingHashtagsIgnoringDuplicates_thenQueryReturnsInsertedHashtag() {
+        // Given
+        Set<String> hashtagNames = Set.of("jdbc-hashtag");
+        transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        statistics.clear();
+        List<Hashtag> cached = transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        assertThat(cached).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        try {
+            // When
+            transactionTemplate.executeWithoutResult(status -> hashtagRepository.insertIgnoringDuplicates(hashtagNames));
+
+            List<Hashtag> actual = transactionTemplate.execute(status -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+
+            // Then
+            assertThat(actual).extracting(Hashtag::getHashtagName).containsExactly("jdbc-hashtag");
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> hashtagRepository.deleteWithoutArticles(
+                    hashtagRepository.findByHashtagNameIn(hashtagNames).stream().map(Hashtag::getId).toList()
+            ));
+        }
+    }
+
+    // ArticleCommentService 와 같이 저장해서 id 를 받은 뒤 path 를 채운다.
+    private ArticleComment saveReply(ArticleComment parentComment, String content) {
+        ArticleComment reply = ArticleComment.of(parentComment.getArticle(), parentComment.getUserAccount(), content);
+        parentComment.addChildComment(reply);
+        articleCommentRepository.save(reply);
+        reply.assignPath(parentComment);
+        articleCommentRepository.flush();
+
+        return reply;
+    }
+
     // Auditor 가 사용자 계정 인증을 확인하고 test 에서 인증이 필요한 작업에 대해서 작업 진행을 막고 있으므로
     // 필요한 test 에서만 Auditor 가 임의로 통과시키도록 설정
     @EnableJpaAuditing
@@ -4,15 +4,20 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentPath;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +26,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,6 +41,7 @@ class ArticleCommentServiceTest {
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private ArticleRepository articleRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ArticleDetailCache articleDetailCache;
 
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
@@ -82,7 +89,7 @@ class ArticleCommentServiceTest {
         ArticleCommentDto dto = createArticleCommentDto("댓글");
         given(articleRepository.getReferenceById(dto.articleId())).willReturn(createArticle());
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
-        given(articleCommentRepository.save(any(ArticleComment.class))).willReturn(null);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> savedWithId(invocation.getArgument(0), 10L));
 
         // When
         sut.saveArticleComment(dto);
@@ -91,7 +98,11 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
-        then(articleCommentRepository).should().save(any(ArticleComment.class));
+        ArgumentCaptor<ArticleComment> saved = ArgumentCaptor.forClass(ArticleComment.class);
+        then(articleCommentRepository).should().save(saved.capture());
+        assertThat(saved.getValue().getPath()).isEqualTo("0000000010");
+        then(articleRepository).should().addCommentCount(dto.articleId(), 1);
+        then(articleDetailCache).should().evictAfterCommit(dto.articleId());
     }
 
 
@@ -109,6 +120,8 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(articleCommentRepository).shouldHaveNoInteractions();
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(articleDetailCache).shouldHaveNoInteractions();
     }
 
 
@@ -162,6 +175,8 @@ class ArticleCommentServiceTest {
         given(articleRepository.getReferenceById(child.articleId())).willReturn(createArticle());
         given(userAccountRepository.getReferenceById(child.userAccountDto().userId())).willReturn(createUserAccount());
         given(articleCommentRepository.getReferenceById(child.parentCommentId())).willReturn(parent);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> savedWithId(invocation.getArgument(0), 2L));
+        parent.assignPath(null);
 
         // When
         sut.saveArticleComment(child);
@@ -173,7 +188,185 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(child.userAccountDto().userId());
         then(articleCommentRepository).should().getReferenceById(child.parentCommentId());
 
-        then(articleCommentRepository).should(never()).save(any(ArticleComment.class));
+        // path 를 만들려면 id 가 필요하므로 대댓글도 바로 저장한다.
+        ArgumentCaptor<ArticleComment> saved = ArgumentCaptor.forClass(ArticleComment.class);
+        then(articleCommentRepository).should().save(saved.capture());
+        assertThat(saved.getValue())
+                .hasFieldOrPropertyWithValue("parentCommentId", parentCommentId)
+                .hasFieldOrPropertyWithValue("path", "0000000001" + "0000000002");
+        assertThat(parent.getChildComments()).contains(saved.getValue());
+        then(articleRepository).should().addCommentCount(child.articleId(), 1);
+        then(articleDetailCache).should().evictAfterCommit(child.articleId());
+    }
+
+    @DisplayName("path 가 없는 댓글의 path 를 채우면, 부모 댓글 path 뒤에 자신의 id 를 붙이고 마지막으로 읽은 댓글 id 를 반환한다.")
+    @Test
+    void givenCommentsWithoutPath_whenFillingPaths_thenFillsPathsAfterParentPaths() {
+        // Given
+        given(articleCommentRepository.findPathsToFill(0L, 10)).willReturn(List.of(
+                new ArticleCommentPath(3L, 1L, null),
+                new ArticleCommentPath(4L, null, null),
+                new ArticleCommentPath(5L, 4L, null), // 같은 묶음의 부모 댓글
+                new ArticleCommentPath(6L, 5L, null)
+        ));
+        given(articleCommentRepository.findPathsByIds(List.of(1L, 4L, 5L))).willReturn(List.of(
+                new ArticleCommentPath(1L, null, "0000000001"),
+                new ArticleCommentPath(4L, null, null),
+                new ArticleCommentPath(5L, 4L, null)
+        ));
+
+        // When
+        long lastId = sut.fillArticleCommentPaths(0L, 10);
+
+        // Then
+        assertThat(lastId).isEqualTo(6L);
+        then(articleCommentRepository).should().updatePath(3L, "0000000001" + "0000000003");
+        then(articleCommentRepository).should().updatePath(4L, "0000000004");
+        then(articleCommentRepository).should().updatePath(5L, "0000000004" + "0000000005");
+        then(articleCommentRepository).should().updatePath(6L, "0000000004" + "0000000005" + "0000000006");
+    }
+
+    @DisplayName("부모 댓글의 path 가 없으면, 해당 댓글은 건너뛰고 경고 로그를 찍는다.")
+    @Test
+    void givenCommentWhoseParentHasNoPath_whenFillingPaths_thenSkipsComment() {
+        // Given
+        given(articleCommentRepository.findPathsToFill(0L, 10)).willReturn(List.of(new ArticleCommentPath(3L, 1L, null)));
+        given(articleCommentRepository.findPathsByIds(List.of(1L))).willReturn(List.of());
+
+        // When
+        long lastId = sut.fillArticleCommentPaths(0L, 10);
+
+        // Then
+        assertThat(lastId).isEqualTo(3L);
+        then(articleCommentRepository).should(never()).updatePath(anyLong(), anyString());
+    }
+
+    @DisplayName("path 를 채울 댓글이 없으면, 받은 id 를 그대로 반환한다.")
+    @Test
+    void givenNoCommentsWithoutPath_whenFillingPaths_thenReturnsLastId() {
+        // Given
+        given(articleCommentRepository.findPathsToFill(100L, 10)).willReturn(List.of());
+
+        // When
+        long lastId = sut.fillArticleCommentPaths(100L, 10);
+
+        // Then
+        assertThat(lastId).isEqualTo(100L);
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("service 를 거치지 않고 저장된 대댓글의 path 를 채우면, 부모 댓글 path 뒤에 자신의 id 를 붙인다.")
+    @Test
+    void givenReplySavedWithoutPath_whenAssigningPath_thenUpdatesPathAfterParentPath() {
+        // Given
+        given(articleCommentRepository.findPathsByIds(List.of(1L))).willReturn(List.of(new ArticleCommentPath(1L, null, "0000000001")));
+
+        // When
+        sut.assignArticleCommentPath(7L, 1L);
+
+        // Then
+        then(articleCommentRepository).should().updatePath(7L, "0000000001" + "0000000007");
+    }
+
+    @DisplayName("service 를 거치지 않고 저장된 최상위 댓글의 path 를 채우면, 자신의 id 로 채운다.")
+    @Test
+    void givenRootCommentSavedWithoutPath_whenAssigningPath_thenUpdatesPathWithOwnId() {
+        // Given
+
+        // When
+        sut.assignArticleCommentPath(7L, null);
+
+        // Then
+        then(articleCommentRepository).should().updatePath(7L, "0000000007");
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("부모 댓글의 path 가 아직 없으면, 저장된 대댓글의 path 를 채우지 않는다.")
+    @Test
+    void givenReplyWhoseParentHasNoPath_whenAssigningPath_thenSkips() {
+        // Given
+        given(articleCommentRepository.findPathsByIds(List.of(1L))).willReturn(List.of(new ArticleCommentPath(1L, null, null)));
+
+        // When
+        sut.assignArticleCommentPath(7L, 1L);
+
+        // Then
+        then(articleCommentRepository).should(never()).updatePath(anyLong(), anyString());
+    }
+
+    @DisplayName("게시글 댓글 수를 보정하면, 다음 게시글 묶음의 댓글 수를 다시 세고 마지막 게시글 id 를 반환한다.")
+    @Test
+    void givenArticles_whenReconcilingCommentCounts_thenRecountsBatchAndReturnsLastArticleId() {
+        // Given
+        given(articleRepository.findIdsAfter(0L, 3)).willReturn(List.of(1L, 2L, 5L));
+        given(articleRepository.recountCommentCounts(0L, 5L)).willReturn(1L);
+
+        // When
+        long lastId = sut.reconcileCommentCounts(0L, 3);
+
+        // Then
+        assertThat(lastId).isEqualTo(5L);
+        then(articleRepository).should().recountCommentCounts(0L, 5L);
+    }
+
+    @DisplayName("댓글 수를 보정할 게시글이 더 없으면, 받은 id 를 그대로 반환한다.")
+    @Test
+    void givenNoMoreArticles_whenReconcilingCommentCounts_thenReturnsLastId() {
+        // Given
+        given(articleRepository.findIdsAfter(5L, 3)).willReturn(List.of());
+
+        // When
+        long lastId = sut.reconcileCommentCounts(5L, 3);
+
+        // Then
+        assertThat(lastId).isEqualTo(5L);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글 ID와 cursor 로 조회하면, cursor 다음의 최상위 댓글과 그 대댓글을 함께 반환한다.")
+    @Test
+    void givenArticleIdAndCursor_whenSearchingArticleCommentPage_thenReturnsRootCommentsWithReplies() {
+        // Given
+        long articleId = 1L;
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(LocalDateTime.now(), 10L);
+        ArticleComment rootComment = createArticleComment(1L, "root content");
+        ArticleComment reply = createArticleComment(2L, "reply content");
+        reply.setParentCommentId(rootComment.getId());
+        given(articleCommentRepository.findRootComments(articleId, cursor, 20))
+                .willReturn(CursorPage.of(List.of(rootComment), 20, 0, null, "next-cursor"));
+        given(articleCommentRepository.findRepliesOf(List.of(rootComment))).willReturn(List.of(reply));
+
+        // When
+        CursorPage<ArticleCommentDto> actual = sut.searchArticleCommentPage(articleId, cursor, 20);
+
+        // Then
+        assertThat(actual.content())
+                .extracting("id", "parentCommentId", "content")
+                .containsExactly(
+                        tuple(1L, null, "root content"),
+                        tuple(2L, 1L, "reply content")
+                );
+        assertThat(actual.nextCursor()).isEqualTo("next-cursor");
+        then(articleCommentRepository).should().findRootComments(articleId, cursor, 20);
+        then(articleCommentRepository).should().findRepliesOf(List.of(rootComment));
+    }
+
+    @DisplayName("최상위 댓글이 없으면, 대댓글을 조회하지 않고 빈 page 를 반환한다.")
+    @Test
+    void givenNoRootComments_whenSearchingArticleCommentPage_thenReturnsEmptyPageWithoutQueryingReplies() {
+        // Given
+        long articleId = 1L;
+        given(articleCommentRepository.findRootComments(articleId, null, ArticleCommentService.MAX_PAGE_SIZE))
+                .willReturn(CursorPage.empty(ArticleCommentService.MAX_PAGE_SIZE));
+
+        // When
+        CursorPage<ArticleCommentDto> actual = sut.searchArticleCommentPage(articleId, null, 10_000); // 최대 size 로 제한
+
+        // Then
+        assertThat(actual.content()).isEmpty();
+        assertThat(actual.hasNext()).isFalse();
+        then(articleCommentRepository).should().findRootComments(articleId, null, ArticleCommentService.MAX_PAGE_SIZE);
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
@@ -182,13 +375,38 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "uno";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        ArticleComment articleComment = createArticleComment(articleCommentId, "댓글");
+        ArticleComment reply = createArticleComment(2L, "대댓글");
+        articleComment.addChildComment(reply);
+        reply.addChildComment(createArticleComment(3L, "대댓글의 대댓글"));
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(1L);
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(articleRepository).should().addCommentCount(articleComment.getArticle().getId(), -3);
+        then(articleDetailCache).should().evictAfterCommit(articleComment.getArticle().getId());
+    }
+
+    @DisplayName("작성자가 아닌 사람이 댓글을 삭제하려고 하면, 댓글 수를 바꾸지 않는다.")
+    @Test
+    void givenArticleCommentIdWithDifferentUser_whenDeletingArticleComment_thenDoesNotChangeCommentCount() {
+        // Given
+        Long articleCommentId = 1L;
+        String userId = "John";
+        ArticleComment articleComment = createArticleComment(articleCommentId, "댓글");
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(0L);
+
+        // When
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        // Then
+        then(articleRepository).shouldHaveNoInteractions();
+        then(articleDetailCache).should().evictAfterCommit(articleComment.getArticle().getId());
     }
 
     // --------------------  fixture for test  -------------------
@@ -246,6 +464,12 @@ class ArticleCommentServiceTest {
         return articleComment;
     }
 
+    // 저장 (persist) 시점에 미리 받아둔 id 가 정해지는 것처럼 id 를 채운다.
+    private ArticleComment savedWithId(ArticleComment articleComment, Long id) {
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "uno",
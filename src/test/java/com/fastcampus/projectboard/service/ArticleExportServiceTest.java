@@ -0,0 +1,79 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.exporter.ArticleExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비지니스 로직 - 게시글 export")
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    @InjectMocks private ArticleExportService sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("검색 조건으로 게시글을 내보내면, cursor 로 읽은 게시글을 모두 쓰고 cursor 를 닫은 뒤 쓴 게시글 수를 반환한다.")
+    @Test
+    void givenSearchParameters_whenExporting_thenWritesEveryRowAndClosesCursor() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        given(articleRepository.streamExportRows(SearchType.TITLE, "title", ArticleExportService.FETCH_SIZE)).willReturn(Stream.of(
+                ArticleExportRow.of(1L, "uno", "title1", "content1", LocalDateTime.of(2023, 1, 1, 10, 0)),
+                ArticleExportRow.of(2L, "uno", "title2", "content2", LocalDateTime.of(2023, 1, 1, 11, 0))
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = sut.exportArticles(SearchType.TITLE, "title", ArticleExportFormat.CSV, outputStream);
+
+        // Then
+        assertThat(count).isEqualTo(2L);
+        assertThat(closed).isTrue();
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,userId,title,content,createdAt
+                1,uno,title1,content1,2023-01-01T10:00
+                2,uno,title2,content2,2023-01-01T11:00
+                """);
+    }
+
+    @DisplayName("내보내는 도중 쓸 수 없게 되면 (연결 끊김), 예외를 그대로 던지고 cursor 를 닫는다.")
+    @Test
+    void givenBrokenOutput_whenExporting_thenClosesCursorAndThrows() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        given(articleRepository.streamExportRows(null, null, ArticleExportService.FETCH_SIZE)).willReturn(Stream.of(
+                ArticleExportRow.of(1L, "uno", "title1", "content1".repeat(10_000), LocalDateTime.of(2023, 1, 1, 10, 0))
+        ).onClose(() -> closed.set(true)));
+        OutputStream brokenOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When
+        Throwable t = catchThrowable(() -> sut.exportArticles(null, null, ArticleExportFormat.NDJSON, brokenOutputStream));
+
+        // Then
+        assertThat(t).isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+    }
+}
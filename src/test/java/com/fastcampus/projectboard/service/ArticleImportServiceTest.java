@@ -0,0 +1,187 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleImportResult;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.count.ArticleCounter;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import com.fastcampus.projectboard.service.hashtag.HashtagParser;
+import com.fastcampus.projectboard.service.importer.ArticleImportFormat;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 import")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    @InjectMocks private ArticleImportService sut;
+
+    @Mock private HashtagService hashtagService;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleSearchEngine articleSearchEngine;
+    @Mock private SearchCountStrategy searchCountStrategy;
+    @Mock private ArticleCounter articleCounter;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @Captor private ArgumentCaptor<List<Article>> savedArticles;
+
+    @DisplayName("게시글 입력을 import 하면, 잘못된 줄은 건너뛰고 나머지를 작성 시각/작성자와 함께 저장한 뒤 결과를 반환한다.")
+    @Test
+    void givenNdjsonWithInvalidRows_whenImporting_thenSavesValidRowsAndReportsErrors() throws IOException {
+        // Given
+        String input = """
+                {"userId": "uno", "title": "title1", "content": "content #java #spring", "createdAt": "2023-01-01T10:00:00"}
+                not json
+                {"userId": "uno", "title": "", "content": "content"}
+                {"userId": "nobody", "title": "title4", "content": "content"}
+                {"userId": "uno", "title": "title5", "content": "content #java"}
+                """;
+        givenTransactionRunsCallback();
+        given(userAccountRepository.findAllById(Set.of("uno", "nobody"))).willReturn(List.of(createUserAccount("uno")));
+        given(hashtagService.parseHashtagNames(anyString())).willAnswer(invocation -> HashtagParser.parse(invocation.getArgument(0)));
+        given(hashtagService.resolveHashtags(Set.of("java", "spring")))
+                .willReturn(Set.of(createHashtag(1L, "java"), createHashtag(2L, "spring")));
+        givenSavingAssignsIds();
+
+        // When
+        ArticleImportResult result = sut.importArticles(inputStreamOf(input), ArticleImportFormat.NDJSON);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(result.failedRows()).isEqualTo(3);
+        assertThat(result.errors())
+                .extracting(ArticleImportResult.RowError::line)
+                .containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(result.errorsTruncated()).isFalse();
+
+        then(articleRepository).should().saveAll(savedArticles.capture());
+        assertThat(savedArticles.getValue())
+                .extracting(Article::getTitle)
+                .containsExactly("title1", "title5");
+        assertThat(ReflectionTestUtils.getField(savedArticles.getValue().get(0), "originalCreatedAt"))
+                .isEqualTo(LocalDateTime.of(2023, 1, 1, 10, 0));
+        // java 는 두 게시글, spring 은 한 게시글
+        then(hashtagRepository).should().addArticleCount(Set.of(1L), 2L);
+        then(hashtagRepository).should().addArticleCount(Set.of(2L), 1L);
+        then(articleSearchEngine).should(times(2)).index(any(), anyString(), anyString());
+        then(articleCounter).should().add(2);
+        then(searchCountStrategy).should().evictAll();
+    }
+
+    @DisplayName("게시글이 묶음 크기보다 많으면, 묶음마다 transaction 을 나누고 해시태그를 묶음마다 한 번에 처리한다.")
+    @Test
+    void givenMoreRowsThanBatchSize_whenImporting_thenSavesEachBatchInOwnTransaction() throws IOException {
+        // Given
+        int rows = ArticleImportService.BATCH_SIZE + 1;
+        String input = "userId,title,content\n" + IntStream.range(0, rows)
+                .mapToObj(i -> "uno,title" + i + ",content #java\n")
+                .collect(Collectors.joining());
+        givenTransactionRunsCallback();
+        given(userAccountRepository.findAllById(Set.of("uno"))).willReturn(List.of(createUserAccount("uno")));
+        given(hashtagService.parseHashtagNames(anyString())).willReturn(Set.of("java"));
+        given(hashtagService.resolveHashtags(Set.of("java"))).willReturn(Set.of(createHashtag(1L, "java")));
+        givenSavingAssignsIds();
+
+        // When
+        ArticleImportResult result = sut.importArticles(inputStreamOf(input), ArticleImportFormat.CSV);
+
+        // Then
+        assertThat(result.importedRows()).isEqualTo(rows);
+        assertThat(result.failedRows()).isZero();
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(hashtagService).should(times(2)).resolveHashtags(Set.of("java"));
+        then(hashtagRepository).should().addArticleCount(Set.of(1L), (long) ArticleImportService.BATCH_SIZE);
+        then(hashtagRepository).should().addArticleCount(Set.of(1L), 1L);
+        then(articleCounter).should().add(ArticleImportService.BATCH_SIZE);
+        then(articleCounter).should().add(1);
+    }
+
+    @DisplayName("묶음 저장이 실패하면, 해당 묶음의 게시글을 모두 실패로 남기고 색인/게시글 수는 바꾸지 않는다.")
+    @Test
+    void givenFailingBatch_whenImporting_thenReportsEveryRowOfBatch() throws IOException {
+        // Given
+        String input = """
+                {"userId": "uno", "title": "title1", "content": "content"}
+                {"userId": "uno", "title": "title2", "content": "content"}
+                """;
+        given(transactionTemplate.execute(any())).willThrow(new DataIntegrityViolationException("constraint"));
+
+        // When
+        ArticleImportResult result = sut.importArticles(inputStreamOf(input), ArticleImportFormat.NDJSON);
+
+        // Then
+        assertThat(result.importedRows()).isZero();
+        assertThat(result.failedRows()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(ArticleImportResult.RowError::line)
+                .containsExactly(1L, 2L);
+        then(articleSearchEngine).shouldHaveNoInteractions();
+        then(articleCounter).shouldHaveNoInteractions();
+    }
+
+    private void givenTransactionRunsCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    // 저장 (persist) 시점에 미리 받아둔 id 가 정해지는 것처럼 id 를 채운다.
+    private void givenSavingAssignsIds() {
+        AtomicLong ids = new AtomicLong();
+        given(articleRepository.saveAll(anyCollection())).willAnswer(invocation -> {
+            Collection<Article> articles = invocation.getArgument(0);
+            articles.forEach(article -> ReflectionTestUtils.setField(article, "id", ids.incrementAndGet()));
+            return List.copyOf(articles);
+        });
+    }
+
+    private static InputStream inputStreamOf(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserAccount createUserAccount(String userId) {
+        return UserAccount.of(userId, "password", "uno@email.com", "Uno", null);
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+}
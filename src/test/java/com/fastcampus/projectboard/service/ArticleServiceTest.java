@@ -4,13 +4,20 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.constant.SearchType;
-import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.EstimatedPage;
 import com.fastcampus.projectboard.dto.HashtagDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.dto.ArticleDto;
 import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
+import com.fastcampus.projectboard.service.count.ArticleCounter;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.api.InstanceOfAssertFactory;
 import org.junit.jupiter.api.Disabled;
@@ -22,7 +29,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
@@ -56,20 +67,28 @@ class ArticleServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleSearchEngine articleSearchEngine;
+    @Mock private SearchCountStrategy searchCountStrategy;
+    @Mock private ArticleCounter articleCounter;
+    @Mock private ArticleDetailCache articleDetailCache;
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticleList() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, null, null)).willReturn(EstimatedPage.exact(List.of(), pageable, 0));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummaries(null, null, pageable);
+        then(articleRepository).should(never()).count();
+        then(searchCountStrategy).should().toPage(slice, null, null);
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -79,14 +98,91 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummaries(searchType, searchKeyword, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, searchType, searchKeyword)).willReturn(EstimatedPage.exact(List.of(), pageable, 0));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findSummaries(searchType, searchKeyword, pageable);
+        then(searchCountStrategy).should().toPage(slice, searchType, searchKeyword);
+    }
+
+    @DisplayName("검색 결과가 많은 검색어로 게시글을 검색하면, 추정된 전체 개수를 가진 게시글 페이지를 반환한다.")
+    @Test
+    void givenSearchParametersWithTooManyResults_whenSearchingArticles_thenReturnsArticlePageWithEstimatedTotal() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "a";
+        Pageable pageable = Pageable.ofSize(1);
+        ArticleSummaryDto article = createArticleSummaryDto(1L);
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(article), pageable, true);
+        given(articleRepository.findSummaries(searchType, searchKeyword, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, searchType, searchKeyword))
+                .willReturn(EstimatedPage.estimated(List.of(article), pageable, SearchCountStrategy.ESTIMATE_THRESHOLD));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isInstanceOf(EstimatedPage.class);
+        assertThat(((EstimatedPage<ArticleSummaryDto>) articles).isTotalEstimated()).isTrue();
+        assertThat(articles.getTotalElements()).isEqualTo(SearchCountStrategy.ESTIMATE_THRESHOLD);
+        assertThat(articles.getContent()).containsExactly(article);
+    }
+
+    @DisplayName("검색 엔진이 처리할 수 있는 제목 검색을 하면, 검색 엔진 순위대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenSearchKeywordSupportedBySearchEngine_whenSearchingArticles_thenReturnsRankedArticlePage() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "스프링";
+        Pageable pageable = Pageable.ofSize(2);
+        ArticleSummaryDto first = createArticleSummaryDto(3L);
+        ArticleSummaryDto second = createArticleSummaryDto(1L);
+        given(articleSearchEngine.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchEngine.search(searchType, searchKeyword)).willReturn(List.of(3L, 1L, 2L));
+        given(articleRepository.findSummariesByIds(List.of(3L, 1L))).willReturn(List.of(second, first));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent())
+                .extracting("id")
+                .containsExactly(3L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        then(articleRepository).should().findSummariesByIds(List.of(3L, 1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("검색 엔진이 처리할 수 있는 제목 검색을 제목순으로 하면, 찾아낸 게시글을 제목순으로 정렬한 페이지를 반환한다.")
+    @Test
+    void givenSearchKeywordSupportedBySearchEngineAndTitleSort_whenSearchingArticles_thenReturnsArticlePageSortedByTitle() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "스프링";
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("title"));
+        ArticleSummaryDto first = createArticleSummaryDto(1L);
+        ArticleSummaryDto second = createArticleSummaryDto(3L);
+        given(articleSearchEngine.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchEngine.search(searchType, searchKeyword)).willReturn(List.of(3L, 1L, 2L));
+        given(articleRepository.findSummariesByIds(List.of(3L, 1L, 2L), pageable)).willReturn(List.of(first, second));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent())
+                .extracting("id")
+                .containsExactly(1L, 3L);
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        assertThat(articles.getSort()).isEqualTo(Sort.by("title"));
+        then(articleRepository).should().findSummariesByIds(List.of(3L, 1L, 2L), pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -96,7 +192,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
@@ -111,17 +207,17 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "난 없지롱";
         Pageable pageable = Pageable.ofSize(20);
-        given(
-                articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
-        ).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummaries(SearchType.HASHTAG, hashtagName, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, SearchType.HASHTAG, hashtagName)).willReturn(EstimatedPage.exact(List.of(), pageable, 0));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
 
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findSummaries(SearchType.HASHTAG, hashtagName, pageable);
     }
 
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -130,63 +226,55 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
-        Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable))
-                .willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        ArticleSummaryDto expectedArticle = createArticleSummaryDto(1L);
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(expectedArticle), pageable, false);
+        given(articleRepository.findSummaries(SearchType.HASHTAG, hashtagName, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, SearchType.HASHTAG, hashtagName))
+                .willReturn(EstimatedPage.exact(List.of(expectedArticle), pageable, 1));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(
-            new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1)
+            new PageImpl<>(List.of(expectedArticle), pageable, 1)
         );
 
         then(articleRepository)
                 .should()
-                .findByHashtagNames(List.of(hashtagName), pageable);
+                .findSummaries(SearchType.HASHTAG, hashtagName, pageable);
     }
 
-    @DisplayName("게시글 ID로 조회하면, 댓글 달린 게시글을 반환한다.")
+    @DisplayName("cursor 와 함께 게시글을 검색하면, cursor 다음 위치의 게시글 page 를 반환한다.")
     @Test
-    void givenArticleId_whenSearchingArticleWithComments_thenReturnsARticleWithComments() {
+    void givenSearchParametersAndCursor_whenSearchingArticlesByCursor_thenReturnsArticleCursorPage() {
         // Given
-        Long articleId = 1L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 10L, ArticleCursor.Direction.NEXT, 1);
+        ArticleSummaryDto expectedArticle = createArticleSummaryDto(1L);
+        given(articleRepository.findSummariesByCursor(searchType, searchKeyword, cursor, 20))
+                .willReturn(CursorPage.of(List.of(expectedArticle), 20, 1, "prev", "next"));
 
         // When
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+        CursorPage<ArticleSummaryDto> articles = sut.searchArticlesByCursor(searchType, searchKeyword, cursor, 20);
 
         // Then
-        assertThat(dto)
-                .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream()
-                        .map(HashtagDto::from)
-                        .collect(Collectors.toUnmodifiableSet())
-                );
-
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles).isEqualTo(CursorPage.of(List.of(expectedArticle), 20, 1, "prev", "next"));
+        then(articleRepository).should().findSummariesByCursor(searchType, searchKeyword, cursor, 20);
     }
 
-    @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
+    @DisplayName("검색어 없이 cursor 로 게시글을 해시태그 검색하면, 빈 page 를 반환한다.")
     @Test
-    void givenNonexistentArticleId_whenSearchingArticleWithComment_thenThrowsException() {
+    void givenNoSearchParameters_whenSearchingArticlesViaHashtagByCursor_thenReturnsEmptyCursorPage() {
         // Given
-        Long articleId = 0L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
 
         // When
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        CursorPage<ArticleSummaryDto> articles = sut.searchArticlesViaHashtagByCursor(null, null, 20);
 
         // Then
-        assertThat(t)
-                .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("게시글이 없습니다. - articleId: " + articleId);
-
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles).isEqualTo(CursorPage.empty(20));
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글(with comments)을 반환한다.")
@@ -219,7 +307,7 @@ class ArticleServiceTest {
         given(articleRepository.findById(articleId)).willReturn(Optional.empty());
 
         // When
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        Throwable t = catchThrowable(() -> sut.getArticle(articleId));
 
         // Then
         assertThat(t)
@@ -239,7 +327,7 @@ class ArticleServiceTest {
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
 
         // When
@@ -248,8 +336,12 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(hashtagRepository).should().addArticleCount(Set.of(1L, 2L), 1);
+        then(articleSearchEngine).should().index(1L, "title", "content");
+        then(searchCountStrategy).should().evictAll();
+        then(articleCounter).should().increment();
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -259,16 +351,16 @@ class ArticleServiceTest {
         Article article = createArticle();
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #springboot");
         Set<String> expectedHashtagNames = Set.of("springboot");
-        Set<Hashtag> expectedHashtags = new HashSet<>();   // ?????
+        Set<Hashtag> expectedHashtags = new HashSet<>();
+        expectedHashtags.add(createHashtag(3L, "springboot")); // 새 해시태그도 이미 저장되어 id 를 가지고 있다.
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-
-        willDoNothing().given(articleRepository).flush();           // ????
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        willDoNothing().given(articleRepository).flush();
+        willDoNothing().given(hashtagService).deleteHashtagsWithoutArticles(any());
 
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
 
         // When
         sut.updateArticle(dto.id(), dto);
@@ -285,9 +377,14 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagRepository).should().addArticleCount(Set.of(1L, 2L), -1);
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames);
+        then(hashtagRepository).should().addArticleCount(Set.of(3L), 1);
+        then(articleSearchEngine).should().index(dto.id(), dto.title(), dto.content());
+        then(searchCountStrategy).should().evictAll();
+        then(articleDetailCache).should().evict(dto.id());
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
@@ -337,7 +434,7 @@ class ArticleServiceTest {
         String userId = "uno";
 
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(1L);
 
         // When
         sut.deleteArticle(articleId, userId);
@@ -346,7 +443,30 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagRepository).should().addArticleCount(Set.of(1L, 2L), -1);
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
+        then(articleSearchEngine).should().remove(articleId);
+        then(searchCountStrategy).should().evictAll();
+        then(articleCounter).should().decrement();
+        then(articleDetailCache).should().evict(articleId);
+    }
+
+    @DisplayName("작성자가 아닌 사람이 게시글을 삭제하려고 하면, 해시태그의 게시글 수를 바꾸지 않는다.")
+    @Test
+    void givenArticleIdWithDifferentUser_whenDeletingArticle_thenDoesNotChangeHashtagArticleCounts() {
+        // Given
+        Long articleId = 1L;
+        String userId = "John";
+
+        given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(0L);
+
+        // When
+        sut.deleteArticle(articleId, userId);
+
+        // Then
+        then(hashtagRepository).shouldHaveNoInteractions();
+        then(articleCounter).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
@@ -354,14 +474,15 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsAritcleCount() {
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCounter.get()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCounter).should().get();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
@@ -414,6 +535,19 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(
+                id,
+                "title",
+                "content",
+                Set.of("java"),
+                3L,
+                LocalDateTime.now(),
+                "uno",
+                "Uno"
+        );
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Set;
@@ -21,6 +22,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
 
 @DisplayName("비지니스 로직 - 해시태그")
 @ExtendWith(MockitoExtension.class)
@@ -90,6 +92,106 @@ class HashtagServiceTest {
         );
     }
 
+    @DisplayName("해시태그 id 들을 정리하면, 게시글 목록을 읽지 않고 한 번의 delete 문으로 게시글이 없는 해시태그를 지운다.")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesInOneStatement() {
+        // Given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
+        given(hashtagRepository.deleteWithoutArticles(hashtagIds)).willReturn(1L);
+
+        // When
+        sut.deleteHashtagsWithoutArticles(hashtagIds);
+
+        // Then
+        then(hashtagRepository).should().deleteWithoutArticles(hashtagIds);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("사용되지 않는 해시태그를 훑어서 정리하면, 다음 해시태그 묶음을 정리하고 마지막 해시태그 id 를 반환한다.")
+    @Test
+    void givenHashtags_whenSweepingHashtagsWithoutArticles_thenDeletesBatchAndReturnsLastHashtagId() {
+        // Given
+        given(hashtagRepository.findIdsAfter(0L, 2)).willReturn(List.of(1L, 4L));
+        given(hashtagRepository.deleteWithoutArticles(List.of(1L, 4L))).willReturn(1L);
+
+        // When
+        long lastId = sut.sweepHashtagsWithoutArticles(0L, 2);
+
+        // Then
+        assertThat(lastId).isEqualTo(4L);
+        then(hashtagRepository).should().deleteWithoutArticles(List.of(1L, 4L));
+    }
+
+    @DisplayName("정리할 해시태그가 더 없으면, 받은 id 를 그대로 반환한다.")
+    @Test
+    void givenNoMoreHashtags_whenSweepingHashtagsWithoutArticles_thenReturnsLastId() {
+        // Given
+        given(hashtagRepository.findIdsAfter(4L, 2)).willReturn(List.of());
+
+        // When
+        long lastId = sut.sweepHashtagsWithoutArticles(4L, 2);
+
+        // Then
+        assertThat(lastId).isEqualTo(4L);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("해시태그 게시글 수를 보정하면, 다음 해시태그 묶음의 게시글 수를 다시 세고 마지막 해시태그 id 를 반환한다.")
+    @Test
+    void givenHashtags_whenReconcilingArticleCounts_thenRecountsBatchAndReturnsLastHashtagId() {
+        // Given
+        given(hashtagRepository.findIdsAfter(0L, 2)).willReturn(List.of(1L, 4L));
+        given(hashtagRepository.recountArticleCounts(0L, 4L)).willReturn(0L);
+
+        // When
+        long lastId = sut.reconcileArticleCounts(0L, 2);
+
+        // Then
+        assertThat(lastId).isEqualTo(4L);
+        then(hashtagRepository).should().recountArticleCounts(0L, 4L);
+    }
+
+    @DisplayName("이미 저장된 해시태그 이름들만 입력하면, 새로 저장하지 않고 저장된 해시태그를 반환한다.")
+    @Test
+    void givenExistingHashtagNames_whenResolvingHashtags_thenReturnsExistingHashtagsWithoutInserting() {
+        // Given
+        Set<String> hashtagNames = Set.of("java", "spring");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames))
+                .willReturn(List.of(createHashtag(1L, "java"), createHashtag(2L, "spring")));
+
+        // When
+        Set<Hashtag> hashtags = sut.resolveHashtags(hashtagNames);
+
+        // Then
+        assertThat(hashtags)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("java", "spring");
+        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("저장되지 않은 해시태그 이름이 있으면, 없는 이름만 한 번에 저장하고 다시 조회한 해시태그를 함께 반환한다.")
+    @Test
+    void givenNewHashtagNames_whenResolvingHashtags_thenInsertsNewNamesAtOnceAndReturnsAllHashtags() {
+        // Given
+        Set<String> hashtagNames = Set.of("java", "spring", "boot");
+        Set<String> newHashtagNames = Set.of("spring", "boot");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(createHashtag(1L, "java")));
+        willDoNothing().given(hashtagRepository).insertIgnoringDuplicates(newHashtagNames);
+        given(hashtagRepository.findByHashtagNameIn(newHashtagNames))
+                .willReturn(List.of(createHashtag(3L, "spring"), createHashtag(4L, "boot")));
+
+        // When
+        Set<Hashtag> hashtags = sut.resolveHashtags(hashtagNames);
+
+        // Then
+        assertThat(hashtags)
+                .extracting(Hashtag::getId)
+                .containsExactlyInAnyOrder(1L, 3L, 4L);
+        then(hashtagRepository).should().insertIgnoringDuplicates(newHashtagNames);
+        then(hashtagRepository).should().findByHashtagNameIn(newHashtagNames);
+    }
+
     @Disabled("왜 hasSize 결과가 계속 1이 나오는지 모르겠음.")
     @DisplayName("해시태그 이름들을 입력하며, 저장된 해시태그 중 이름에 매칭하는 것들을 중복 없이 반환한다.")
     @Test
@@ -110,4 +212,10 @@ class HashtagServiceTest {
         then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
-}
\ No newline at end of file
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+}
@@ -58,6 +58,35 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("cursor 방식에서 현재 페이지 번호와 앞/뒤 페이지 존재 여부를 주면, 이동 가능한 페이징 바 리스트를 만들어준다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] 현재 페이지: {0}, 이전 페이지: {1}, 다음 페이지: {2} => {3}")
+    void givenCurrentPageNumberAndNeighborPages_whenCalculatingCursorPagination_thenReturnsPaginationBarNumbers(
+            int currentPageNumber,
+            boolean hasPrevious,
+            boolean hasNext,
+            List<Integer> expected
+    ) {
+        // Given
+
+        // When
+        List<Integer> actual = sut.getCursorPaginationBarNumbers(currentPageNumber, hasPrevious, hasNext);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenCurrentPageNumberAndNeighborPages_whenCalculatingCursorPagination_thenReturnsPaginationBarNumbers() {
+        return Stream.of(
+                Arguments.arguments(0, false, false, List.of(0)),
+                Arguments.arguments(0, false, true, List.of(0, 1)),
+                Arguments.arguments(5, true, true, List.of(4, 5, 6)),
+                Arguments.arguments(5000, true, true, List.of(4999, 5000, 5001)),
+                Arguments.arguments(12, true, false, List.of(11, 12)),
+                Arguments.arguments(0, true, true, List.of(0, 1))
+        );
+    }
+
     @DisplayName("현재 설정되어 있는 pagination bar 의 길이를 알려준다. (설정 (spec) 을 확인하는 작업)")
     @Test
     void givenNothing_whenCalling_thenReturnsCurrentBarLength() {
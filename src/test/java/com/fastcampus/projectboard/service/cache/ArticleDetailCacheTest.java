@@ -0,0 +1,112 @@
+package com.fastcampus.projectboard.service.cache;
+
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 게시글 상세 화면 cache")
+class ArticleDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleDetailCache sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleDetailCache(meterRegistry);
+    }
+
+    @DisplayName("같은 게시글을 두 번 조회하면, 두 번째는 cache 에서 가져오고 hit / miss 를 metric 으로 남긴다.")
+    @Test
+    void givenCachedArticle_whenGettingAgain_thenReturnsCachedResponseAndRecordsMetrics() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        sut.get(1L, id -> { loadCount.incrementAndGet(); return createResponse(id, "title"); });
+
+        // When
+        ArticleWithCommentsResponse actual = sut.get(1L, id -> { loadCount.incrementAndGet(); return createResponse(id, "other"); });
+
+        // Then
+        assertThat(actual.title()).isEqualTo("title");
+        assertThat(loadCount).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ArticleDetailCache.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ArticleDetailCache.CACHE_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글을 무효화하면, 다음 조회에서 다시 읽어온다.")
+    @Test
+    void givenEvictedArticle_whenGetting_thenLoadsAgain() {
+        // Given
+        sut.get(1L, id -> createResponse(id, "old"));
+        sut.evict(1L);
+
+        // When
+        ArticleWithCommentsResponse actual = sut.get(1L, id -> createResponse(id, "new"));
+
+        // Then
+        assertThat(actual.title()).isEqualTo("new");
+    }
+
+    @DisplayName("읽어오는 도중에 무효화가 있었다면, 읽어온 (예전) 내용은 cache 에 남기지 않는다.")
+    @Test
+    void givenEvictionDuringLoad_whenGetting_thenDoesNotCacheStaleResponse() {
+        // Given
+        sut.get(1L, id -> {
+            sut.evict(id); // 예전 내용을 읽은 직후 다른 요청의 쓰기가 commit 되어 무효화됨
+            return createResponse(id, "old");
+        });
+
+        // When
+        ArticleWithCommentsResponse actual = sut.get(1L, id -> createResponse(id, "new"));
+
+        // Then
+        assertThat(actual.title()).isEqualTo("new");
+    }
+
+    @DisplayName("transaction 안에서 무효화를 요청하면, commit 이후에 무효화한다.")
+    @Test
+    void givenActiveTransaction_whenEvictingAfterCommit_thenEvictsOnlyAfterCommit() {
+        // Given
+        sut.get(1L, id -> createResponse(id, "old"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            sut.evictAfterCommit(1L);
+            ArticleWithCommentsResponse beforeCommit = sut.get(1L, id -> createResponse(id, "new"));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            ArticleWithCommentsResponse afterCommit = sut.get(1L, id -> createResponse(id, "new"));
+
+            // Then
+            assertThat(beforeCommit.title()).isEqualTo("old");
+            assertThat(afterCommit.title()).isEqualTo("new");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    private ArticleWithCommentsResponse createResponse(Long id, String title) {
+        return ArticleWithCommentsResponse.of(
+                id,
+                title,
+                "content",
+                Set.of("java"),
+                LocalDateTime.now(),
+                "uno@mail.com",
+                "Uno",
+                "uno",
+                List.of()
+        );
+    }
+}
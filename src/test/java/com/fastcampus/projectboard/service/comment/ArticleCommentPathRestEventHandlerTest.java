@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.service.comment;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.cache.ArticleDetailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - Data REST 댓글 작성의 path 반영")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentPathRestEventHandlerTest {
+
+    @InjectMocks private ArticleCommentPathRestEventHandler sut;
+
+    @Mock private ArticleCommentService articleCommentService;
+    @Mock private ArticleDetailCache articleDetailCache;
+
+    @DisplayName("API 로 대댓글을 작성하면, path 를 채운 뒤 게시글 상세 cache 를 비운다.")
+    @Test
+    void givenCreatedReply_whenHandlingEvent_thenAssignsPathAndEvictsDetailCache() {
+        // Given
+        UserAccount userAccount = UserAccount.of("uno", "password", "uno@email.com", "Uno", null);
+        Article article = Article.of(userAccount, "title", "content");
+        ReflectionTestUtils.setField(article, "id", 1L);
+        ArticleComment reply = ArticleComment.of(article, userAccount, "reply");
+        ReflectionTestUtils.setField(reply, "id", 7L);
+        reply.setParentCommentId(3L);
+
+        // When
+        sut.handleArticleCommentCreate(reply);
+
+        // Then
+        then(articleCommentService).should().assignArticleCommentPath(7L, 3L);
+        then(articleDetailCache).should().evictAfterCommit(1L);
+    }
+}
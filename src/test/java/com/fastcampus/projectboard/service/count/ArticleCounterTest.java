@@ -0,0 +1,77 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 counter")
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterTest {
+
+    private ArticleCounter sut;
+    private MeterRegistry meterRegistry;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleCounter(articleRepository, meterRegistry);
+    }
+
+    @DisplayName("초기화 후에는, count query 없이 작성/삭제를 반영한 게시글 수를 반환한다.")
+    @Test
+    void givenInitializedCounter_whenWritingArticles_thenReturnsCountWithoutQuery() {
+        // Given
+        given(articleRepository.count()).willReturn(123L);
+        sut.initialize();
+
+        // When
+        sut.increment();
+        sut.increment();
+        sut.decrement();
+        long actual = sut.get();
+
+        // Then
+        assertThat(actual).isEqualTo(124L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("초기화 전에는, DB 에서 직접 센 게시글 수를 반환한다.")
+    @Test
+    void givenNotInitializedCounter_whenGettingCount_thenCountsFromDatabase() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+
+        // When
+        long actual = sut.get();
+
+        // Then
+        assertThat(actual).isEqualTo(10L);
+    }
+
+    @DisplayName("DB 와 값이 어긋나 있으면, 보정하고 차이를 metric 으로 남긴다.")
+    @Test
+    void givenDriftedCounter_whenReconciling_thenCorrectsCountAndRecordsDrift() {
+        // Given
+        given(articleRepository.count()).willReturn(100L, 97L);
+        sut.initialize();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.get()).isEqualTo(97L);
+        assertThat(meterRegistry.get("board.articles.count.drift").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("board.articles.count").gauge().value()).isEqualTo(97.0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 검색 결과 개수 cache")
+class SearchCountCacheTest {
+
+    @DisplayName("검색어가 없으면, 검색 유형과 관계없이 같은 개수를 사용한다.")
+    @Test
+    void givenBlankKeyword_whenGettingCount_thenIgnoresSearchType() {
+        // Given
+        SearchCountCache sut = new SearchCountCache();
+        sut.put(null, null, 123L);
+
+        // When & Then
+        assertThat(sut.get(SearchType.TITLE, " ")).hasValue(123L);
+        assertThat(sut.get(SearchType.TITLE, "title")).isEmpty();
+    }
+
+    @DisplayName("저장한 지 오래된 개수는, 사용하지 않는다.")
+    @Test
+    void givenExpiredEntry_whenGettingCount_thenReturnsEmpty() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        SearchCountCache sut = new SearchCountCache(clock);
+        sut.put(SearchType.TITLE, "title", 7L);
+
+        // When
+        clock.advance(Duration.ofMinutes(1));
+        OptionalLong fresh = sut.get(SearchType.TITLE, "title");
+        clock.advance(Duration.ofMinutes(10));
+        OptionalLong expired = sut.get(SearchType.TITLE, "title");
+
+        // Then
+        assertThat(fresh).hasValue(7L);
+        assertThat(expired).isEmpty();
+    }
+
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return instant; }
+    }
+}
@@ -0,0 +1,133 @@
+package com.fastcampus.projectboard.service.count;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.EstimatedPage;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 검색 결과 개수")
+@ExtendWith(MockitoExtension.class)
+class SearchCountStrategyTest {
+
+    @InjectMocks private SearchCountStrategy sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Spy private SearchCountCache searchCountCache = new SearchCountCache();
+    @Mock private ArticleCounter articleCounter;
+
+    @DisplayName("검색어가 없으면, count query 없이 게시글 counter 의 값을 전체 개수로 사용한다.")
+    @Test
+    void givenNoSearchKeyword_whenCounting_thenUsesArticleCounter() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        given(articleCounter.get()).willReturn(123L);
+
+        // When
+        Page<String> page = sut.toPage(new SliceImpl<>(List.of("a", "b"), pageable, true), null, null);
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(123);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("마지막 페이지를 주면, count query 없이 전체 개수를 계산한다.")
+    @Test
+    void givenLastSlice_whenCounting_thenCalculatesTotalWithoutCountQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 10);
+
+        // When
+        Page<String> page = sut.toPage(new SliceImpl<>(List.of("a", "b", "c"), pageable, false), SearchType.TITLE, "title");
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(23);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("다음 페이지가 있으면, 상한까지만 세고 그 결과를 cache 한다.")
+    @Test
+    void givenSliceHavingNext_whenCounting_thenCountsUpToThresholdAndCachesIt() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        given(articleRepository.countUpTo(SearchType.TITLE, "title", SearchCountStrategy.ESTIMATE_THRESHOLD + 1)).willReturn(7L);
+
+        // When
+        Page<String> first = sut.toPage(new SliceImpl<>(List.of("a", "b"), pageable, true), SearchType.TITLE, "title");
+        Page<String> second = sut.toPage(new SliceImpl<>(List.of("c", "d"), pageable.next(), true), SearchType.TITLE, "title");
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(7);
+        assertThat(second.getTotalElements()).isEqualTo(7);
+        assertThat(((EstimatedPage<String>) first).isTotalEstimated()).isFalse();
+        then(articleRepository).should(times(1)).countUpTo(SearchType.TITLE, "title", SearchCountStrategy.ESTIMATE_THRESHOLD + 1);
+    }
+
+    @DisplayName("검색 결과가 상한보다 많으면, 추정된 전체 개수를 반환하고 cache 하지 않는다.")
+    @Test
+    void givenTooManyResults_whenCounting_thenReturnsEstimatedTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(articleRepository.countUpTo(SearchType.CONTENT, "a", SearchCountStrategy.ESTIMATE_THRESHOLD + 1))
+                .willReturn(SearchCountStrategy.ESTIMATE_THRESHOLD + 1);
+
+        // When
+        Page<String> page = sut.toPage(new SliceImpl<>(List.of("a"), pageable, true), SearchType.CONTENT, "a");
+
+        // Then
+        assertThat(page).isInstanceOf(EstimatedPage.class);
+        assertThat(((EstimatedPage<String>) page).isTotalEstimated()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(SearchCountStrategy.ESTIMATE_THRESHOLD);
+        then(searchCountCache).should(never()).put(any(), any(), anyLong());
+    }
+
+    @DisplayName("추정치보다 깊은 페이지를 보고 있으면, 현재 페이지와 다음 페이지까지 포함하도록 전체 개수를 추정한다.")
+    @Test
+    void givenDeepSliceBeyondThreshold_whenCounting_thenEstimatesTotalCoveringNextPage() {
+        // Given
+        Pageable pageable = PageRequest.of(1_500, 10);
+        given(articleRepository.countUpTo(SearchType.CONTENT, "a", SearchCountStrategy.ESTIMATE_THRESHOLD + 1))
+                .willReturn(SearchCountStrategy.ESTIMATE_THRESHOLD + 1);
+
+        // When
+        Page<String> page = sut.toPage(new SliceImpl<>(Collections.nCopies(10, "a"), pageable, true), SearchType.CONTENT, "a");
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(15_011);
+        assertThat(page.getTotalPages()).isEqualTo(1_502);
+    }
+
+    @DisplayName("cache 를 비우면, 다음 요청에서 다시 센다.")
+    @Test
+    void givenEvictedCache_whenCounting_thenCountsAgain() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        given(articleRepository.countUpTo(SearchType.ID, "uno", SearchCountStrategy.ESTIMATE_THRESHOLD + 1)).willReturn(5L, 6L);
+        sut.toPage(new SliceImpl<>(List.of("a", "b"), pageable, true), SearchType.ID, "uno");
+
+        // When
+        sut.evictAll();
+        Page<String> page = sut.toPage(new SliceImpl<>(List.of("a", "b"), pageable, true), SearchType.ID, "uno");
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        then(articleRepository).should(times(2)).countUpTo(SearchType.ID, "uno", SearchCountStrategy.ESTIMATE_THRESHOLD + 1);
+    }
+}
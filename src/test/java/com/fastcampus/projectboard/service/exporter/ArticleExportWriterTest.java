@@ -0,0 +1,94 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.dto.ArticleExportRow;
+import com.fastcampus.projectboard.service.importer.ArticleImportFormat;
+import com.fastcampus.projectboard.service.importer.ArticleImportReader;
+import com.fastcampus.projectboard.service.importer.ArticleImportRow;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 게시글 export 출력")
+class ArticleExportWriterTest {
+
+    private static final List<ArticleExportRow> ROWS = List.of(
+            ArticleExportRow.of(1L, "uno", "plain title", "plain content #java", LocalDateTime.of(2023, 1, 1, 10, 0)),
+            ArticleExportRow.of(2L, "uno2", "title, with \"quotes\"", "first line\nsecond, line\r\n\"quoted\" #스프링", LocalDateTime.of(2023, 1, 2, 11, 30, 15))
+    );
+
+    @DisplayName("NDJSON 으로 쓰면, 한 줄에 게시글 하나씩 JSON object 로 쓴다.")
+    @Test
+    void givenRows_whenWritingNdjson_thenWritesOneObjectPerLine() throws IOException {
+        // Given
+
+        // When
+        String output = write(ArticleExportFormat.NDJSON, ROWS.subList(0, 1));
+
+        // Then
+        assertThat(output).isEqualTo("{\"id\":1,\"userId\":\"uno\",\"title\":\"plain title\",\"content\":\"plain content #java\",\"createdAt\":\"2023-01-01T10:00\"}\n");
+    }
+
+    @DisplayName("CSV 로 쓰면, header 다음에 게시글을 쓰고 쉼표, 따옴표, 줄바꿈이 있는 값만 따옴표로 감싼다.")
+    @Test
+    void givenRows_whenWritingCsv_thenQuotesOnlyValuesThatNeedIt() throws IOException {
+        // Given
+
+        // When
+        String output = write(ArticleExportFormat.CSV, ROWS);
+
+        // Then
+        assertThat(output).isEqualTo("""
+                id,userId,title,content,createdAt
+                1,uno,plain title,plain content #java,2023-01-01T10:00
+                2,uno2,"title, with ""quotes\"\"\","first line
+                second, line\r
+                ""quoted"" #스프링",2023-01-02T11:30:15
+                """);
+    }
+
+    @DisplayName("내보낸 결과를 import 입력으로 읽으면, 내보낸 게시글과 같은 값을 읽는다.")
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"NDJSON, NDJSON", "CSV, CSV"})
+    void givenExportedOutput_whenReadingAsImport_thenReadsSameValues(ArticleExportFormat exportFormat, ArticleImportFormat importFormat) throws IOException {
+        // Given
+        String output = write(exportFormat, ROWS);
+
+        // When
+        List<ArticleImportRow> rows = new ArrayList<>();
+        try (ArticleImportReader reader = ArticleImportReader.of(importFormat, new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)))) {
+            for (ArticleImportRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+
+        // Then
+        assertThat(rows)
+                .extracting(ArticleImportRow::userId, ArticleImportRow::title, ArticleImportRow::content, ArticleImportRow::createdAt)
+                .containsExactly(ROWS.stream()
+                        .map(row -> tuple(row.userId(), row.title(), row.content(), row.createdAt()))
+                        .toArray(Tuple[]::new));
+    }
+
+    private static String write(ArticleExportFormat format, List<ArticleExportRow> rows) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ArticleExportWriter writer = ArticleExportWriter.of(format, outputStream)) {
+            for (ArticleExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 해시태그 parser")
+class HashtagParserTest {
+
+    // 기존 HashtagService#parseHashtagNames 의 정규식 구현 (비교 기준)
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#[\\w가-힣]+");
+
+    // 경계에 있는 글자들 위주로 섞는다. ('#', 구분자, 가-힣 범위 앞뒤, 한글 자모, 다른 문자 체계의 글자, surrogate pair 등)
+    private static final String[] FRAGMENTS = {
+            "#", "#", "#", "##", " ", "  ", "\n", "\t", ",", ".", "-", "~", "_", "__",
+            "a", "Z", "java", "Spring", "0", "9", "2023",
+            "가", "힣", "스프링", "부트를", "꯿", "힤", "ㄱ", "ㅏ",
+            "é", "ß", "漢字", "ｊａｖａ", "١٢", "😀", "\uD83D", "\uDE00"
+    };
+
+    @DisplayName("임의의 본문을 파싱하면, 기존 정규식 구현과 같은 해시태그 이름들을 반환한다.")
+    @ParameterizedTest(name = "seed {0}")
+    @ValueSource(longs = {1L, 42L, 20231018L})
+    void givenRandomContent_whenParsing_thenReturnsSameHashtagNamesAsRegex(long seed) {
+        // Given
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < 10_000; i++) {
+            String content = randomContent(random);
+
+            // When
+            Set<String> actual = HashtagParser.parse(content);
+
+            // Then
+            assertThat(actual)
+                    .as("content: \"%s\"", content)
+                    .isEqualTo(parseWithRegex(content));
+        }
+    }
+
+    @DisplayName("해시태그가 없는 본문을 파싱하면, 빈 set 을 반환한다.")
+    @Test
+    void givenContentWithoutHashtags_whenParsing_thenReturnsEmptySet() {
+        // Given
+        String content = "해시태그가 없는 본문 # 입니다 #-";
+
+        // When
+        Set<String> actual = HashtagParser.parse(content);
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+
+    @DisplayName("파싱 결과는 변경할 수 없다.")
+    @Test
+    void givenContent_whenParsing_thenReturnsUnmodifiableSet() {
+        // Given
+        String content = "#java #스프링";
+
+        // When
+        Set<String> actual = HashtagParser.parse(content);
+
+        // Then
+        assertThatThrownBy(() -> actual.add("boot")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+
+    private static String randomContent(SplittableRandom random) {
+        int fragments = random.nextInt(30);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+
+        return builder.toString();
+    }
+
+    private static Set<String> parseWithRegex(String content) {
+        Matcher matcher = HASHTAG_PATTERN.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+}
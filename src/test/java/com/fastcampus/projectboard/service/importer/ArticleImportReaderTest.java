@@ -0,0 +1,153 @@
+package com.fastcampus.projectboard.service.importer;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 게시글 import 입력")
+class ArticleImportReaderTest {
+
+    @DisplayName("NDJSON 을 읽으면, 빈 줄은 건너뛰고 줄마다 게시글을 시작 줄 번호와 함께 반환한다.")
+    @Test
+    void givenNdjson_whenReading_thenReturnsRowsWithLineNumbers() throws IOException {
+        // Given
+        String input = """
+                {"userId": "uno", "title": "title1", "content": "content #java", "createdAt": "2023-01-01T10:00:00"}
+
+                {"userId": "uno2", "title": "title2", "content": "content2"}""";
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.NDJSON, input);
+
+        // Then
+        assertThat(results).containsExactly(
+                ArticleImportRow.of(1, "uno", "title1", "content #java", LocalDateTime.of(2023, 1, 1, 10, 0)),
+                ArticleImportRow.of(3, "uno2", "title2", "content2", null)
+        );
+    }
+
+    @DisplayName("NDJSON 에 잘못된 줄이 있으면, 해당 줄만 오류로 알리고 다음 줄부터 계속 읽는다.")
+    @Test
+    void givenNdjsonWithInvalidLines_whenReading_thenReportsInvalidLinesAndContinues() throws IOException {
+        // Given
+        String input = """
+                {"userId": "uno", "title": "title1"
+                ["not", "an", "object"]
+                {"userId": "uno", "title": "title2", "content": "content", "createdAt": "2023/01/01"}
+                {"userId": "uno", "title": "title3", "content": "content"}
+                """;
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.NDJSON, input);
+
+        // Then
+        assertThat(results).hasSize(4);
+        assertThat(results.subList(0, 3))
+                .extracting("line")
+                .containsExactly(1L, 2L, 3L);
+        assertThat(results.get(3)).isEqualTo(ArticleImportRow.of(4, "uno", "title3", "content", null));
+    }
+
+    @DisplayName("CSV 를 읽으면, header 의 column 이름으로 값을 찾고 따옴표 안의 쉼표, 줄바꿈, 따옴표를 그대로 읽는다.")
+    @Test
+    void givenCsv_whenReading_thenReturnsRowsByHeaderColumns() throws IOException {
+        // Given
+        String input = "title,userId,content,createdAt\r\n"
+                + "title1,uno,\"first line, #java\nsecond \"\"line\"\"\",2023-01-01T10:00:00\r\n"
+                + "\n"
+                + "title2,uno2,content2,\n";
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.CSV, input);
+
+        // Then
+        assertThat(results).containsExactly(
+                ArticleImportRow.of(2, "uno", "title1", "first line, #java\nsecond \"line\"", LocalDateTime.of(2023, 1, 1, 10, 0)),
+                ArticleImportRow.of(5, "uno2", "title2", "content2", null)
+        );
+    }
+
+    @DisplayName("CSV 의 column 수가 header 와 다르면, 해당 record 만 오류로 알리고 다음 record 부터 계속 읽는다.")
+    @Test
+    void givenCsvWithWrongColumnCount_whenReading_thenReportsRecordAndContinues() throws IOException {
+        // Given
+        String input = """
+                userId,title,content
+                uno,title1
+                uno,title2,content2
+                """;
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.CSV, input);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0))
+                .isInstanceOf(ArticleImportException.class)
+                .hasFieldOrPropertyWithValue("line", 2L);
+        assertThat(results.get(1)).isEqualTo(ArticleImportRow.of(3, "uno", "title2", "content2", null));
+    }
+
+    @DisplayName("CSV header 에 필수 column 이 없으면, 오류를 한 번 알리고 더 읽지 않는다.")
+    @Test
+    void givenCsvWithoutRequiredColumn_whenReading_thenReportsHeaderOnce() throws IOException {
+        // Given
+        String input = """
+                userId,title
+                uno,title1
+                """;
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.CSV, input);
+
+        // Then
+        assertThat(results).singleElement(InstanceOfAssertFactories.type(ArticleImportException.class))
+                .hasFieldOrPropertyWithValue("line", 1L)
+                .extracting(ArticleImportException::getMessage, InstanceOfAssertFactories.STRING)
+                .contains("content");
+    }
+
+    @DisplayName("CSV 따옴표가 닫히지 않으면, 입력 전체를 한 record 로 읽지 않고 최대 길이에서 오류로 알린다.")
+    @Test
+    void givenCsvWithUnclosedQuote_whenReading_thenStopsAtMaxRecordLength() throws IOException {
+        // Given
+        String input = "userId,title,content\n"
+                + "uno,title1,\"" + "a".repeat(ArticleImportReader.MAX_RECORD_LENGTH) + "\n"
+                + "uno,title2,content2\n";
+
+        // When
+        List<Object> results = readAll(ArticleImportFormat.CSV, input);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isInstanceOf(ArticleImportException.class);
+        assertThat(results.get(1)).isEqualTo(ArticleImportRow.of(3, "uno", "title2", "content2", null));
+    }
+
+    // 게시글은 ArticleImportRow, 잘못된 record 는 ArticleImportException 으로 순서대로 모은다.
+    private static List<Object> readAll(ArticleImportFormat format, String input) throws IOException {
+        List<Object> results = new ArrayList<>();
+        try (ArticleImportReader reader = ArticleImportReader.of(format, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            while (true) {
+                try {
+                    ArticleImportRow row = reader.next();
+                    if (row == null) {
+                        return results;
+                    }
+                    results.add(row);
+                } catch (ArticleImportException e) {
+                    results.add(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import com.fastcampus.projectboard.service.HashtagService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("게시판 JFR event")
+class BoardJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("해시태그를 추출하면, 본문 길이와 해시태그 수를 JFR event 로 남긴다.")
+    @Test
+    void givenRecording_whenParsingHashtags_thenCommitsHashtagParseEvent() throws Exception {
+        // Given
+        HashtagService hashtagService = new HashtagService(null);
+        String content = "#java 와 #spring 을 공부하자. #java";
+
+        // When
+        List<RecordedEvent> events = record("board.HashtagParse", () -> hashtagService.parseHashtagNames(content));
+
+        // Then
+        assertThat(events)
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("contentLength")).isEqualTo(content.length());
+                    assertThat(event.getInt("hashtagCount")).isEqualTo(2);
+                });
+    }
+
+    @DisplayName("게시글 상세를 새로 만들면 DTO 생성 시간과 함께, cache 에서 꺼내면 cache hit 으로 남긴다.")
+    @Test
+    void givenRecording_whenLoadingArticleDetail_thenCommitsArticleDetailLoadEvents() throws Exception {
+        // Given
+        long dtoBuildNanos = Duration.ofMillis(3).toNanos();
+
+        // When
+        List<RecordedEvent> events = record("board.ArticleDetailLoad", () -> {
+            ArticleDetailLoadEvent miss = new ArticleDetailLoadEvent();
+            miss.begin();
+            miss.loaded(dtoBuildNanos);
+            miss.commit(1L, 4);
+
+            ArticleDetailLoadEvent hit = new ArticleDetailLoadEvent();
+            hit.begin();
+            hit.commit(1L, 4);
+        });
+
+        // Then
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getBoolean("cacheHit")).isFalse();
+        assertThat(events.get(0).getDuration("dtoBuildTime")).isEqualTo(Duration.ofMillis(3));
+        assertThat(events.get(1).getBoolean("cacheHit")).isTrue();
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getLong("articleId")).isEqualTo(1L);
+            assertThat(event.getInt("commentCount")).isEqualTo(4);
+        });
+    }
+
+    @DisplayName("JFR 설정 파일은 게시판 event 를 모두 켠다.")
+    @Test
+    void givenBoardConfiguration_whenParsing_thenEnablesBoardEvents() throws Exception {
+        // Given
+        Path path = Path.of("jfr", "board.jfc");
+
+        // When
+        Configuration configuration = Configuration.create(path);
+
+        // Then
+        assertThat(configuration.getSettings())
+                .containsEntry("board.ArticleSearch#enabled", "true")
+                .containsEntry("board.ArticleDetailLoad#enabled", "true")
+                .containsEntry("board.HashtagParse#enabled", "true")
+                .containsEntry("board.HashtagResolve#enabled", "true")
+                .containsEntry("board.TemplateRender#enabled", "true")
+                .containsEntry("board.HttpRequest#enabled", "true")
+                .containsEntry("board.SqlStatement#enabled", "true");
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("board.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// bind 값이 남을 수 있는 endpoint 이므로, actuator 접근 권한 (SecurityConfig) 까지 포함해서 전체 context 로 실행한다.
+@DisplayName("actuator - 느린 요청 / SQL 기록 (/actuator/flightrecorder)")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "board.security.admin-user-ids=uno")
+@AutoConfigureMockMvc
+class FlightRecorderEndpointTest {
+
+    private final MockMvc mvc;
+    private final FlightRecorderProperties flightRecorderProperties;
+
+    FlightRecorderEndpointTest(@Autowired MockMvc mvc, @Autowired FlightRecorderProperties flightRecorderProperties) {
+        this.mvc = mvc;
+        this.flightRecorderProperties = flightRecorderProperties;
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[GET] 관리자는 조회할 수 있고, bind 값은 기본으로 남기지 않는다.")
+    @Test
+    void givenAdmin_whenRequestingRecording_thenReturnsRecordingWithoutBindValues() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requests").isArray())
+                .andExpect(jsonPath("$.statements").isArray());
+        assertThat(flightRecorderProperties.bindValues()).isFalse();
+    }
+
+    @WithUserDetails(value = "uno2", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[GET] 관리자가 아닌 로그인 사용자는 조회할 수 없다.")
+    @Test
+    void givenNonAdminUser_whenRequestingRecording_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithUserDetails(value = "uno2", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[DELETE] 관리자가 아닌 로그인 사용자는 비울 수 없다.")
+    @Test
+    void givenNonAdminUser_whenClearingRecording_thenReturnsForbidden() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(delete("/actuator/flightrecorder").with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[DELETE] 관리자는 비울 수 있다.")
+    @Test
+    void givenAdmin_whenClearingRecording_thenClears() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(delete("/actuator/flightrecorder").with(csrf()))
+                .andExpect(status().isNoContent());
+    }
+
+    @DisplayName("[GET] 인증 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenNothing_whenRequestingRecording_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+}
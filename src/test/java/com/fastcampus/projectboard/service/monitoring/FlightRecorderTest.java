@@ -0,0 +1,90 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("느린 요청 / SQL 기록")
+class FlightRecorderTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @DisplayName("기준 시간보다 오래 걸린 SQL 문만, SQL 과 bind 값 (긴 값은 앞부분) 과 함께 남긴다.")
+    @Test
+    void givenStatements_whenRecording_thenKeepsSlowStatementsWithBindValues() {
+        // Given
+        FlightRecorder sut = new FlightRecorder(FlightRecorderProperties.of(10, Duration.ofMinutes(5), Duration.ofMillis(100), Duration.ofMillis(10), true), CLOCK);
+        String longContent = "a".repeat(300);
+
+        // When
+        sut.statementExecuted("select * from article where id = ?", List.of(1L), Duration.ofMillis(1).toNanos());
+        sut.statementExecuted("update article set content = ? where id = ?", Arrays.asList(longContent, null), Duration.ofMillis(25).toNanos());
+
+        // Then
+        List<FlightRecorder.SlowStatement> statements = sut.snapshot().statements();
+        assertThat(statements).hasSize(1);
+        FlightRecorder.SlowStatement statement = statements.get(0);
+        assertThat(statement.sql()).isEqualTo("update article set content = ? where id = ?");
+        assertThat(statement.elapsedMillis()).isEqualTo(25.0);
+        assertThat(statement.bindValues()).containsExactly("a".repeat(100) + "...", "null");
+        assertThat(statement.recordedAt()).isEqualTo(CLOCK.instant());
+    }
+
+    @DisplayName("bind 값을 남기지 않도록 설정하면, SQL 만 남긴다.")
+    @Test
+    void givenBindValuesDisabled_whenRecordingStatement_thenOmitsBindValues() {
+        // Given
+        FlightRecorder sut = new FlightRecorder(FlightRecorderProperties.of(10, Duration.ofMinutes(5), Duration.ofMillis(100), Duration.ZERO, false), CLOCK);
+
+        // When
+        sut.statementExecuted("select * from user_account where user_id = ?", List.of("uno"), 1L);
+
+        // Then
+        assertThat(sut.snapshot().statements())
+                .singleElement()
+                .extracting(FlightRecorder.SlowStatement::bindValues)
+                .asList()
+                .isEmpty();
+    }
+
+    @DisplayName("기준 시간보다 빨리 끝난 요청은, 요청 정보를 만들지 않고 버린다.")
+    @Test
+    void givenFastRequest_whenRecording_thenSkipsWithoutCreatingRequest() {
+        // Given
+        FlightRecorder sut = new FlightRecorder(FlightRecorderProperties.of(10, Duration.ofMinutes(5), Duration.ofMillis(100), Duration.ofMillis(10), true), CLOCK);
+        FlightRecorder.SlowRequest slowRequest = new FlightRecorder.SlowRequest(CLOCK.instant(), 150.0, "GET", "/articles",
+                "ArticleController#articles", "TITLE", "3", 200, 2, 12.5);
+
+        // When
+        sut.requestCompleted(Duration.ofMillis(50).toNanos(), () -> {
+            throw new AssertionError("만들지 않아야 한다.");
+        });
+        sut.requestCompleted(Duration.ofMillis(150).toNanos(), () -> slowRequest);
+
+        // Then
+        assertThat(sut.snapshot().requests()).containsExactly(slowRequest);
+    }
+
+    @DisplayName("비우면, 남긴 요청과 SQL 문이 없어진다.")
+    @Test
+    void givenRecordedEntries_whenClearing_thenSnapshotIsEmpty() {
+        // Given
+        FlightRecorder sut = new FlightRecorder(FlightRecorderProperties.of(10, Duration.ofMinutes(5), Duration.ZERO, Duration.ZERO, true), CLOCK);
+        sut.statementExecuted("select 1", List.of(), 1L);
+
+        // When
+        sut.clear();
+
+        // Then
+        assertThat(sut.snapshot().statements()).isEmpty();
+        assertThat(sut.snapshot().requests()).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SQL 문 수 측정 - metric 기록 / 예산")
+class QueryCountRecorderTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("측정 결과를 기록하면, 구간 종류와 이름 tag 로 문장 수, row 수, 실행 시간 metric 을 남긴다.")
+    @Test
+    void givenQueryCount_whenRecording_thenRegistersMetrics() {
+        // Given
+        QueryCountRecorder sut = new QueryCountRecorder(meterRegistry, QueryCountProperties.of(20, 10, false));
+        QueryCount count = createQueryCount(3);
+
+        // When
+        sut.record(QueryCountRecorder.REQUEST, "GET /articles", count);
+
+        // Then
+        assertThat(meterRegistry.get("board.sql.statements").tag("scope", "request").tag("name", "GET /articles").summary().totalAmount())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("board.sql.rows").tag("scope", "request").summary().totalAmount())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("board.sql.time").tag("scope", "request").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(3_000.0);
+    }
+
+    @DisplayName("예산을 넘은 측정 결과를 기록하면, 경고만 남기고 예외를 던지지 않는다.")
+    @Test
+    void givenQueryCountOverBudget_whenRecording_thenDoesNotThrow() {
+        // Given
+        QueryCountRecorder sut = new QueryCountRecorder(meterRegistry, QueryCountProperties.of(20, 2, false));
+        QueryCount count = createQueryCount(3);
+
+        // When
+        Throwable t = catchThrowable(() -> sut.record(QueryCountRecorder.METHOD, "ArticleService.getArticle", count));
+
+        // Then
+        assertThat(t).isNull();
+        assertThat(meterRegistry.get("board.sql.statements").tag("scope", "method").summary().count()).isEqualTo(1L);
+    }
+
+    @DisplayName("예산 초과 시 실패하도록 설정하고 예산을 넘은 측정 결과를 기록하면, 예외를 던진다.")
+    @Test
+    void givenFailOnExceed_whenRecordingQueryCountOverBudget_thenThrowsException() {
+        // Given
+        QueryCountRecorder sut = new QueryCountRecorder(meterRegistry, QueryCountProperties.of(2, 20, true));
+        QueryCount count = createQueryCount(3);
+
+        // When
+        Throwable t = catchThrowable(() -> sut.record(QueryCountRecorder.REQUEST, "GET /articles", count));
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /articles")
+                .hasMessageContaining("3 문장 (예산 2)");
+    }
+
+    // 문장마다 row 1 개, 1 µs
+    private QueryCount createQueryCount(int statements) {
+        QueryCount count = new QueryCount();
+        for (int i = 0; i < statements; i++) {
+            count.addStatement(1, 1_000);
+        }
+
+        return count;
+    }
+}
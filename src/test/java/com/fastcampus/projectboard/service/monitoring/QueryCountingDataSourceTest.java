@@ -0,0 +1,151 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SQL 문 수 측정 - DataSource")
+class QueryCountingDataSourceTest {
+
+    private DataSource sut;
+    private DriverManagerDataSource original;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        original = new DriverManagerDataSource("jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1");
+        sut = QueryCountingDataSource.wrap(original);
+        try (Connection connection = original.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists item");
+            statement.execute("create table item (id bigint primary key, name varchar(20))");
+        }
+    }
+
+    @DisplayName("측정 구간 안에서 SQL 을 실행하면, 문장 수와 바꾼 / 읽은 row 수를 센다.")
+    @Test
+    void givenMeasuredScope_whenExecutingStatements_thenCountsStatementsAndRows() throws Exception {
+        // Given
+
+        // When
+        QueryCount actual = QueryCounter.measure(() -> {
+            try (Connection connection = sut.getConnection()) {
+                try (PreparedStatement insert = connection.prepareStatement("insert into item values (?, ?)")) {
+                    for (long id = 1; id <= 3; id++) {
+                        insert.setLong(1, id);
+                        insert.setString(2, "item" + id);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("select * from item")) {
+                    while (resultSet.next()) {
+                        resultSet.getString("name");
+                    }
+                }
+            }
+            return null;
+        });
+
+        // Then
+        assertThat(actual.getStatements()).isEqualTo(2);
+        assertThat(actual.getRows()).isEqualTo(6); // insert 3 + select 3
+        assertThat(actual.getElapsedNanos()).isPositive();
+    }
+
+    @DisplayName("구간을 겹쳐서 열면, SQL 문은 열린 모든 구간에 더해진다.")
+    @Test
+    void givenNestedScopes_whenExecutingStatement_thenCountsInEveryScope() throws Exception {
+        // Given
+        QueryCount outer = QueryCounter.start();
+
+        // When
+        QueryCount inner;
+        try {
+            executeUpdate("insert into item values (1, 'item1')");
+            inner = QueryCounter.measure(() -> executeUpdate("update item set name = 'changed'"));
+        } finally {
+            QueryCounter.stop(outer);
+        }
+
+        // Then
+        assertThat(outer.getStatements()).isEqualTo(2);
+        assertThat(inner.getStatements()).isEqualTo(1);
+        assertThat(inner.getRows()).isEqualTo(1);
+    }
+
+    @DisplayName("측정 구간 밖에서 SQL 을 실행하면, 세지 않는다.")
+    @Test
+    void givenNoScope_whenExecutingStatement_thenCountsNothing() throws Exception {
+        // Given
+        QueryCount finished = QueryCounter.measure(() -> null);
+
+        // When
+        executeUpdate("insert into item values (1, 'item1')");
+
+        // Then
+        assertThat(finished.getStatements()).isZero();
+        assertThat(QueryCounter.activeScopes()).isEmpty();
+    }
+
+    @DisplayName("listener 를 주고 감싸면, 측정 구간이 없어도 실행한 SQL 과 bind 값을 넘긴다.")
+    @Test
+    void givenStatementListener_whenExecutingPreparedStatement_thenPassesSqlAndBindValues() throws SQLException {
+        // Given
+        List<String> executed = new ArrayList<>();
+        DataSource dataSource = QueryCountingDataSource.wrap(original,
+                (sql, bindValues, elapsedNanos) -> executed.add(sql + " " + bindValues));
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement("insert into item values (?, ?)")) {
+            insert.setLong(1, 1L);
+            insert.setNull(2, Types.VARCHAR);
+            insert.executeUpdate();
+            insert.clearParameters();
+            insert.setLong(1, 2L);
+            insert.setString(2, "item2");
+            insert.executeUpdate();
+        }
+
+        // Then
+        assertThat(executed).containsExactly(
+                "insert into item values (?, ?) [1, null]",
+                "insert into item values (?, ?) [2, item2]"
+        );
+    }
+
+    @DisplayName("감싼 DataSource 는, 원래 DataSource 로 unwrap 할 수 있고 다시 감싸지 않는다.")
+    @Test
+    void givenWrappedDataSource_whenUnwrappingOrWrappingAgain_thenDelegatesToOriginal() throws SQLException {
+        // Given
+
+        // When
+        DriverManagerDataSource unwrapped = sut.unwrap(DriverManagerDataSource.class);
+        DataSource wrappedAgain = QueryCountingDataSource.wrap(sut);
+
+        // Then
+        assertThat(unwrapped).isSameAs(original);
+        assertThat(wrappedAgain).isSameAs(sut);
+        assertThat(QueryCountingDataSource.isWrapped(sut)).isTrue();
+        assertThat(QueryCountingDataSource.isWrapped(original)).isFalse();
+    }
+
+    private int executeUpdate(String sql) throws SQLException {
+        try (Connection connection = sut.getConnection(); Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(sql);
+        }
+    }
+}
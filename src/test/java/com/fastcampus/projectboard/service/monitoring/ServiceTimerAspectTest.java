@@ -0,0 +1,109 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.HashtagService;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("service method 실행 시간 측정")
+@ExtendWith(MockitoExtension.class)
+class ServiceTimerAspectTest {
+
+    private MeterRegistry meterRegistry;
+    private ServiceTimerAspect aspect;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private SearchCountStrategy searchCountStrategy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ServiceTimerAspect(meterRegistry);
+    }
+
+    @DisplayName("검색 유형 인자가 있는 method 를 호출하면, 검색 유형 tag 를 붙여 실행 시간을 남긴다.")
+    @Test
+    void givenSearchType_whenSearchingArticles_thenRecordsTimerTaggedWithSearchType() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        SliceImpl<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(slice);
+        given(searchCountStrategy.toPage(slice, SearchType.TITLE, null)).willReturn(Page.empty(pageable));
+        ArticleService sut = proxy(new ArticleService(null, articleRepository, null, null, null, searchCountStrategy, null, null));
+
+        // When
+        sut.searchArticles(SearchType.TITLE, null, pageable);
+        sut.searchArticles(SearchType.TITLE, null, pageable);
+
+        // Then
+        Timer timer = meterRegistry.get(ServiceTimerAspect.METRIC_NAME)
+                .tag("method", "ArticleService.searchArticles")
+                .tag("searchType", "TITLE")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2L);
+        assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+    }
+
+    @DisplayName("검색 유형 인자가 없는 method 를 호출하면, 검색 유형 tag 를 \"none\" 으로 남긴다.")
+    @Test
+    void givenMethodWithoutSearchType_whenCalling_thenRecordsTimerWithoutSearchType() {
+        // Given
+        HashtagService sut = proxy(new HashtagService(null));
+
+        // When
+        sut.parseHashtagNames("#java");
+
+        // Then
+        assertThat(meterRegistry.get(ServiceTimerAspect.METRIC_NAME)
+                .tag("method", "HashtagService.parseHashtagNames")
+                .tag("searchType", ServiceTimerAspect.NO_SEARCH_TYPE)
+                .timer()
+                .count()
+        ).isEqualTo(1L);
+    }
+
+    @DisplayName("method 가 예외를 던져도, 실행 시간을 남기고 예외를 그대로 던진다.")
+    @Test
+    void givenFailingMethod_whenCalling_thenRecordsTimerAndRethrows() {
+        // Given
+        given(articleRepository.findById(1L)).willThrow(new IllegalStateException("fail"));
+        ArticleService sut = proxy(new ArticleService(null, articleRepository, null, null, null, null, null, null));
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticle(1L));
+
+        // Then
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(ServiceTimerAspect.METRIC_NAME).tag("method", "ArticleService.getArticle").timer().count())
+                .isEqualTo(1L);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+
+        return proxyFactory.getProxy();
+    }
+}
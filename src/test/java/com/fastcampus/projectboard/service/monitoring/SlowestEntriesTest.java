@@ -0,0 +1,118 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("느린 항목 buffer")
+class SlowestEntriesTest {
+
+    private TestClock clock;
+    private SlowestEntries<String> sut;
+
+    @BeforeEach
+    void setUp() {
+        clock = new TestClock();
+        sut = new SlowestEntries<>(3, Duration.ofMinutes(1), clock);
+    }
+
+    @DisplayName("크기보다 많이 넣으면, 가장 오래 걸린 항목만 오래 걸린 순으로 남긴다.")
+    @Test
+    void givenMoreEntriesThanSize_whenTakingSnapshot_thenReturnsSlowestEntriesInOrder() {
+        // Given
+        long[] elapsedNanos = {5, 1, 9, 3, 7, 2};
+        for (long elapsed : elapsedNanos) {
+            sut.offer(elapsed, () -> "entry" + elapsed);
+        }
+
+        // When
+        var actual = sut.snapshot();
+
+        // Then
+        assertThat(actual).containsExactly("entry9", "entry7", "entry5");
+    }
+
+    @DisplayName("buffer 가 찼을 때 가장 빠른 항목보다 빠른 항목은, 내용을 만들지 않고 버린다.")
+    @Test
+    void givenFullBuffer_whenOfferingFasterEntry_thenSkipsWithoutCreatingValue() {
+        // Given
+        sut.offer(10, () -> "a");
+        sut.offer(20, () -> "b");
+        sut.offer(30, () -> "c");
+
+        // When
+        boolean actual = sut.offer(5, () -> {
+            throw new AssertionError("만들지 않아야 한다.");
+        });
+
+        // Then
+        assertThat(actual).isFalse();
+        assertThat(sut.snapshot()).containsExactly("c", "b", "a");
+    }
+
+    @DisplayName("구간이 지나면, 이전 구간 항목은 한 구간 더 보이고 그 다음 구간에는 사라진다.")
+    @Test
+    void givenElapsedWindows_whenTakingSnapshot_thenKeepsOnlyRecentWindows() {
+        // Given
+        sut.offer(100, () -> "old");
+        clock.advance(Duration.ofSeconds(61));
+        sut.offer(1, () -> "new");
+
+        // When
+        var afterOneWindow = sut.snapshot();
+        clock.advance(Duration.ofSeconds(61));
+        var afterTwoWindows = sut.snapshot();
+
+        // Then
+        assertThat(afterOneWindow).containsExactly("old", "new");
+        assertThat(afterTwoWindows).containsExactly("new");
+    }
+
+    @DisplayName("구간이 지나면, 이전 구간이 가득 찼더라도 빠른 항목을 새로 받는다.")
+    @Test
+    void givenFullPreviousWindow_whenOfferingInNewWindow_thenAcceptsEntry() {
+        // Given
+        sut.offer(10, () -> "a");
+        sut.offer(20, () -> "b");
+        sut.offer(30, () -> "c");
+        clock.advance(Duration.ofSeconds(61));
+
+        // When
+        boolean actual = sut.offer(1, () -> "d");
+
+        // Then
+        assertThat(actual).isTrue();
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
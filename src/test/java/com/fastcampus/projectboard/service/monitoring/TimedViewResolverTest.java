@@ -0,0 +1,74 @@
+package com.fastcampus.projectboard.service.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.view.RedirectView;
+import org.thymeleaf.spring5.view.ThymeleafView;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("template rendering 시간 측정")
+@ExtendWith(MockitoExtension.class)
+class TimedViewResolverTest {
+
+    private TimedViewResolver sut;
+    private MeterRegistry meterRegistry;
+
+    @Mock private ThymeleafViewResolver thymeleafViewResolver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        sut = new TimedViewResolver(thymeleafViewResolver, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @DisplayName("template 화면을 rendering 하면, template 이름 tag 로 rendering 시간을 남긴다.")
+    @Test
+    void givenTemplateView_whenRendering_thenRecordsTimerTaggedWithTemplateName() throws Exception {
+        // Given
+        ThymeleafView thymeleafView = mock(ThymeleafView.class);
+        given(thymeleafView.getTemplateName()).willReturn("articles/index");
+        given(thymeleafViewResolver.resolveViewName("articles/index", Locale.KOREA)).willReturn(thymeleafView);
+
+        // When
+        View view = sut.resolveViewName("articles/index", Locale.KOREA);
+        view.render(Map.of(), new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        // Then
+        then(thymeleafView).should().render(anyMap(), any(), any());
+        assertThat(meterRegistry.get(TimedViewResolver.METRIC_NAME).tag("template", "articles/index").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @DisplayName("template 이 아닌 화면 (redirect) 은, 감싸지 않고 그대로 돌려준다.")
+    @Test
+    void givenRedirectView_whenResolving_thenReturnsViewAsIs() throws Exception {
+        // Given
+        RedirectView redirectView = new RedirectView("/articles/1");
+        given(thymeleafViewResolver.resolveViewName("redirect:/articles/1", Locale.KOREA)).willReturn(redirectView);
+
+        // When
+        View view = sut.resolveViewName("redirect:/articles/1", Locale.KOREA);
+
+        // Then
+        assertThat(view).isSameAs(redirectView);
+        assertThat(meterRegistry.find(TimedViewResolver.METRIC_NAME).timers()).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.service.count.SearchCountStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - Data REST 게시글 쓰기의 검색 색인 반영")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexRestEventHandlerTest {
+
+    @InjectMocks private ArticleSearchIndexRestEventHandler sut;
+
+    @Mock private ArticleSearchEngine articleSearchEngine;
+    @Mock private SearchCountStrategy searchCountStrategy;
+
+    @DisplayName("API 로 게시글을 작성/수정하면, commit 이후에 검색 색인에 넣고 검색 결과 수 cache 를 비운다.")
+    @Test
+    void givenSavedArticle_whenHandlingEvent_thenIndexesAfterCommit() {
+        // Given
+        Article article = createArticle(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            sut.handleArticleSave(article);
+            then(articleSearchEngine).shouldHaveNoInteractions();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            // Then
+            then(articleSearchEngine).should().index(1L, "title", "content");
+            then(searchCountStrategy).should().evictAll();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("API 로 게시글을 삭제하면, 검색 색인에서 뺀다.")
+    @Test
+    void givenDeletedArticle_whenHandlingEvent_thenRemovesFromIndex() {
+        // Given
+        Article article = createArticle(1L);
+
+        // When
+        sut.handleArticleDelete(article);
+
+        // Then
+        then(articleSearchEngine).should().remove(1L);
+        then(searchCountStrategy).should().evictAll();
+    }
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(
+                UserAccount.of("uno", "password", "uno@email.com", "Uno", null),
+                "title",
+                "content"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
@@ -0,0 +1,170 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비지니스 로직 - 게시글 전문 검색 엔진")
+class InvertedIndexArticleSearchEngineTest {
+
+    private InvertedIndexArticleSearchEngine sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new InvertedIndexArticleSearchEngine();
+        sut.index(1L, "스프링 부트 입문", "스프링부트는 자바 웹 프레임워크입니다. #java");
+        sut.index(2L, "자바 기초", "자바를 공부합시다. Spring 은 나중에");
+        sut.index(3L, "Spring Boot 정리", "spring boot spring data jpa");
+        sut.markReady();
+    }
+
+    @DisplayName("색인 구성이 끝나기 전이거나 한 글자 검색어라면, 검색 엔진이 처리하지 않는다.")
+    @Test
+    void givenNotReadyOrSingleCharacterKeyword_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+        InvertedIndexArticleSearchEngine notReady = new InvertedIndexArticleSearchEngine();
+
+        // When & Then
+        assertThat(notReady.supports(SearchType.TITLE, "스프링")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "자")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "   ")).isFalse();
+        assertThat(sut.supports(SearchType.NICKNAME, "스프링")).isFalse();
+        assertThat(sut.supports(SearchType.CONTENT, "스프링")).isTrue();
+    }
+
+    @DisplayName("한글 검색어로 본문을 검색하면, 조사가 붙은 단어까지 포함하여 게시글 id 를 반환한다.")
+    @Test
+    void givenHangulKeyword_whenSearchingContent_thenReturnsMatchingArticleIds() {
+        // Given
+
+        // When
+        List<Long> actual = sut.search(SearchType.CONTENT, "자바");
+
+        // Then
+        assertThat(actual).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("검색어로 제목을 검색하면, 대소문자 구분 없이 연관도가 높은 순서로 게시글 id 를 반환한다.")
+    @Test
+    void givenKeyword_whenSearchingTitle_thenReturnsRankedArticleIds() {
+        // Given
+
+        // When
+        List<Long> actual = sut.search(SearchType.TITLE, "spring");
+
+        // Then
+        assertThat(actual).containsExactly(3L);
+    }
+
+    @DisplayName("본문에 검색어가 정확한 단어로 많이 나올수록 앞 순위로 반환한다.")
+    @Test
+    void givenKeyword_whenSearchingContent_thenRanksExactWordMatchesFirst() {
+        // Given
+
+        // When
+        List<Long> actual = sut.search(SearchType.CONTENT, "spring");
+
+        // Then
+        assertThat(actual).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("게시글을 수정하거나 삭제하면, 검색 결과에 바로 반영된다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        // Given
+        sut.index(2L, "파이썬 기초", "파이썬을 공부합시다.");
+        sut.remove(1L);
+
+        // When
+        List<Long> titleResult = sut.search(SearchType.TITLE, "기초");
+        List<Long> contentResult = sut.search(SearchType.CONTENT, "자바");
+
+        // Then
+        assertThat(titleResult).containsExactly(2L);
+        assertThat(contentResult).isEmpty();
+    }
+
+    @DisplayName("같은 게시글을 계속 수정해도, 삭제 표시된 문서를 정리하여 색인이 커지지 않는다.")
+    @Test
+    void givenRepeatedlyUpdatedArticle_whenIndexing_thenCompactsDeletedDocuments() {
+        // Given
+        int updates = 10_000;
+
+        // When
+        for (int i = 0; i < updates; i++) {
+            sut.index(1L, "스프링 부트 입문 " + i, "스프링부트는 자바 웹 프레임워크입니다. #java");
+        }
+
+        // Then
+        assertThat(sut.documentSlots()).isLessThan(2_100);
+        assertThat(sut.search(SearchType.TITLE, "스프링")).containsExactly(1L);
+        assertThat(sut.search(SearchType.CONTENT, "자바")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("삭제된 게시글은 점수 (IDF) 계산에서 빠지므로, 처음부터 만든 색인과 같은 순서로 반환한다.")
+    @Test
+    void givenRemovedArticles_whenSearching_thenRanksSameAsFreshIndex() {
+        // Given
+        InvertedIndexArticleSearchEngine fresh = createEngine();
+        InvertedIndexArticleSearchEngine churned = createEngine();
+        for (long id = 100; id < 600; id++) {
+            churned.index(id, "data", "data data");
+            churned.remove(id);
+        }
+
+        // When
+        List<Long> actual = churned.search(SearchType.CONTENT, "spring data");
+
+        // Then
+        assertThat(actual).containsExactly(4L, 3L);
+        assertThat(actual).containsExactlyElementsOf(fresh.search(SearchType.CONTENT, "spring data"));
+    }
+
+    @DisplayName("색인을 비우면, 다시 준비될 때까지 검색 엔진이 처리하지 않는다.")
+    @Test
+    void givenClearedIndex_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+        sut.clear();
+
+        // When & Then
+        assertThat(sut.supports(SearchType.TITLE, "스프링")).isFalse();
+        assertThat(sut.search(SearchType.TITLE, "스프링")).isEmpty();
+    }
+
+    @DisplayName("색인 구성 중에 게시글이 수정/삭제되면, 구성이 끝난 뒤 먼저 읽어 둔 예전 내용 대신 수정/삭제된 결과로 검색된다.")
+    @Test
+    void givenArticlesChangedWhileBuildingIndex_whenSearchingAfterReady_thenReflectsChanges() {
+        // Given
+        InvertedIndexArticleSearchEngine engine = new InvertedIndexArticleSearchEngine();
+        engine.clear();
+        // 구성 중에 commit 된 수정/삭제가 먼저 들어오고, 그 전에 DB 에서 읽어 둔 예전 내용이 나중에 색인된다.
+        engine.index(1L, "코틀린 입문", "코틀린을 공부합시다.");
+        engine.remove(2L);
+        engine.load(1L, "스프링 부트 입문", "스프링부트는 자바 웹 프레임워크입니다.");
+        engine.load(2L, "자바 기초", "자바를 공부합시다.");
+        engine.load(3L, "자바 정리", "자바 정리");
+
+        // When
+        engine.markReady();
+
+        // Then
+        assertThat(engine.search(SearchType.TITLE, "스프링")).isEmpty();
+        assertThat(engine.search(SearchType.TITLE, "코틀린")).containsExactly(1L);
+        assertThat(engine.search(SearchType.TITLE, "자바")).containsExactly(3L);
+        assertThat(engine.search(SearchType.CONTENT, "공부")).containsExactly(1L);
+    }
+
+    private InvertedIndexArticleSearchEngine createEngine() {
+        InvertedIndexArticleSearchEngine engine = new InvertedIndexArticleSearchEngine();
+        engine.index(3L, "Spring Boot 정리", "spring boot spring data jpa");
+        engine.index(4L, "JPA 정리", "data data data jpa spring");
+        engine.markReady();
+
+        return engine;
+    }
+}
@@ -0,0 +1,141 @@
+package com.fastcampus.projectboard.service.seed;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 생성기는 자체 connection 으로 commit 하므로, 다른 test 와 DB 를 나눠 쓰지 않도록 별도 설정 (data.sql 없음) 의 context 를 쓴다.
+@DisplayName("부하 test data 생성")
+@Import(SeedDataGeneratorTest.TestJpaConfig.class)
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeedDataGeneratorTest {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    SeedDataGeneratorTest(
+            @Autowired DataSource dataSource,
+            @Autowired PlatformTransactionManager transactionManager,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+    }
+
+    @DisplayName("설정을 주고 생성하면, 게시글/댓글/해시태그를 counter, 댓글 path 와 함께 쓰고, 이후 저장하는 게시글은 생성한 id 다음부터 받는다.")
+    @Test
+    void givenSeedProperties_whenGenerating_thenWritesConsistentRowsAndAdvancesIdGenerator() throws SQLException {
+        // Given
+        long previousArticleCount = count("article");
+        SeedProperties properties = SeedProperties.of(5, 250, 4, 0.5, 2, 30, 2, 0.5, 100, 1L);
+
+        // When
+        SeedDataGenerator.Result result = generate(properties);
+
+        // Then
+        assertThat(result.articles()).isEqualTo(250L);
+        assertThat(count("article")).isEqualTo(previousArticleCount + 250L);
+        assertThat(result.comments()).isPositive();
+        assertThat(result.articleHashtags()).isPositive();
+        assertThat(queryLong("select count(*) from user_account where user_id like 'seed%'")).isEqualTo(5L);
+        assertThat(queryLong("select count(*) from hashtag")).isEqualTo(30L);
+        // 반정규화 counter
+        assertThat(queryLong("select count(*) from article a where a.comment_count <> (select count(*) from article_comment c where c.article_id = a.id)")).isZero();
+        assertThat(queryLong("select count(*) from hashtag h where h.article_count <> (select count(*) from article_hashtag ah where ah.hashtag_id = h.id)")).isZero();
+        // 댓글 path 와 대댓글 깊이 (최상위 + 2단계)
+        assertThat(queryLong("select count(*) from article_comment where parent_comment_id is not null")).isPositive();
+        assertThat(queryLong("select count(*) from article_comment c left join article_comment p on c.parent_comment_id = p.id"
+                + " where c.path <> concat(coalesce(p.path, ''), lpad(c.id, 10, '0'))")).isZero();
+        assertThat(queryLong("select max(length(path)) from article_comment")).isLessThanOrEqualTo(30L);
+
+        UserAccount userAccount = userAccountRepository.findById("seed0000001").orElseThrow();
+        Article savedArticle = transactionTemplate.execute(status -> articleRepository.save(Article.of(userAccount, "new title", "new content")));
+        assertThat(savedArticle.getId()).isGreaterThan(queryLong("select max(id) from article where id <> " + savedArticle.getId()));
+    }
+
+    @DisplayName("다시 생성하면, 이미 있는 사용자와 해시태그는 그대로 쓰고 게시글과 댓글만 기존 id 다음부터 추가한다.")
+    @Test
+    void givenExistingSeedData_whenGeneratingAgain_thenReusesUsersAndHashtags() throws SQLException {
+        // Given
+        SeedProperties properties = SeedProperties.of(3, 20, 2, 0.3, 1, 10, 1, 1.0, 7, 2L);
+        generate(properties);
+        long previousArticleCount = count("article");
+        long previousCommentCount = count("article_comment");
+
+        // When
+        SeedDataGenerator.Result result = generate(properties);
+
+        // Then
+        assertThat(result.users()).isZero();
+        assertThat(result.hashtags()).isZero();
+        assertThat(count("article")).isEqualTo(previousArticleCount + 20L);
+        assertThat(count("article_comment")).isEqualTo(previousCommentCount + result.comments());
+    }
+
+    @DisplayName("댓글 path 길이를 넘는 대댓글 깊이를 주면, 생성 전에 예외를 던진다.")
+    @Test
+    void givenTooDeepReplyDepth_whenCreatingProperties_thenThrowsException() {
+        // Given
+
+        // When
+        Throwable t = catchThrowable(() -> SeedProperties.of(1, 1, 1, 0.3, SeedProperties.MAX_REPLY_DEPTH + 1, 1, 1, 0.5, 100, 1L));
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("reply-depth");
+    }
+
+    private SeedDataGenerator.Result generate(SeedProperties properties) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new SeedDataGenerator(properties).generate(connection);
+        }
+    }
+
+    private long count(String table) {
+        return queryLong("select count(*) from " + table);
+    }
+
+    private long queryLong(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    public static class TestJpaConfig {
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+}